@@ -0,0 +1,53 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Combination;
+import hwr.oop.poker.combinations.BatchEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchEvaluatorBenchmark {
+
+    @Param({"1000000"})
+    private int hands;
+
+    private List<List<Card>> cards;
+    private long[] cardSets;
+    private int[] strengths;
+    private BatchEvaluator batch;
+
+    @Setup
+    public void setUp() {
+        cards = BenchmarkData.create().hands(hands, 7);
+        cardSets = new long[hands];
+        for (int hand = 0; hand < hands; hand++) {
+            cardSets[hand] = CardSet.of(cards.get(hand)).bits();
+        }
+        strengths = new int[hands];
+        batch = BatchEvaluator.create();
+    }
+
+    @Benchmark
+    public int[] batchOfCardSets() {
+        batch.evaluate(cardSets, strengths);
+        return strengths;
+    }
+
+    @Benchmark
+    public int combinationsOneByOne() {
+        int labels = 0;
+        for (List<Card> hand : cards) {
+            labels += Combination.of(hand).label().ordinal();
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,60 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class BenchmarkData {
+    public static final long DEFAULT_SEED = 0x5EEDL;
+
+    private final SplittableRandom random;
+
+    public static BenchmarkData create() {
+        return create(DEFAULT_SEED);
+    }
+
+    public static BenchmarkData create(long seed) {
+        return new BenchmarkData(seed);
+    }
+
+    private BenchmarkData(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public List<List<Card>> hands(int amount, int cardsPerHand) {
+        final List<List<Card>> hands = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            hands.add(hand(cardsPerHand));
+        }
+        return Collections.unmodifiableList(hands);
+    }
+
+    public List<Player> players(int amount) {
+        final List<Player> players = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            players.add(new Player(String.valueOf(i + 1)));
+        }
+        return Collections.unmodifiableList(players);
+    }
+
+    public Stacks stacks(List<Player> players, long chips) {
+        final Stacks.StacksBuilder builder = Stacks.newBuilder();
+        players.forEach(player -> builder.of(player).is(chips));
+        return builder.build();
+    }
+
+    // partial Fisher-Yates on a fresh deck, so hands never contain duplicates
+    private List<Card> hand(int size) {
+        final List<Card> deck = CardSet.fullDeck().toList();
+        for (int i = 0; i < size; i++) {
+            Collections.swap(deck, i, i + random.nextInt(deck.size() - i));
+        }
+        return List.copyOf(deck.subList(0, size));
+    }
+}
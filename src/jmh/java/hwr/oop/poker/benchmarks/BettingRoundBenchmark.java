@@ -0,0 +1,82 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.betting.Play;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BettingRoundBenchmark {
+    private static final int PLAYERS = 3;
+
+    // raises double the bet, so the chips of the last raise are 2^raises
+    @Param({"8", "24", "56"})
+    private int raises;
+
+    private Stacks stacks;
+    private List<Player> players;
+    private List<Play> plays;
+    private List<BettingRound> states;
+
+    @Setup
+    public void setUp() {
+        final BenchmarkData data = BenchmarkData.create();
+        players = data.players(PLAYERS);
+        stacks = data.stacks(players, 1L << 60);
+        states = raiseWar(BettingRound.create(stacks, players));
+        plays = new ArrayList<>();
+        states.forEach(state -> state.lastPlay().ifPresent(plays::add));
+    }
+
+    @Benchmark
+    public BettingRound nextStateOverWholeSequence() {
+        BettingRound round = BettingRound.create(stacks, players);
+        for (Play play : plays) {
+            round = round.nextState(play);
+        }
+        return round;
+    }
+
+    @Benchmark
+    public void isFinishedOnEveryState(Blackhole blackhole) {
+        for (BettingRound state : states) {
+            blackhole.consume(state.isFinished());
+        }
+    }
+
+    @Benchmark
+    public void potAndTurnOnEveryState(Blackhole blackhole) {
+        for (BettingRound state : states) {
+            blackhole.consume(state.pot());
+            blackhole.consume(state.turn());
+        }
+    }
+
+    // bet, re-raise to the minimum over and over, then everybody else calls
+    private List<BettingRound> raiseWar(BettingRound initial) {
+        final List<BettingRound> rounds = new ArrayList<>();
+        rounds.add(initial);
+        BettingRound round = initial.with(players.get(0)).bet(1);
+        rounds.add(round);
+        for (int raise = 1; raise <= raises; raise++) {
+            round = round.with(players.get(raise % PLAYERS)).raiseTo(1L << raise);
+            rounds.add(round);
+        }
+        while (!round.isFinished()) {
+            round = round.with(round.turn().orElseThrow()).call();
+            rounds.add(round);
+        }
+        return rounds;
+    }
+}
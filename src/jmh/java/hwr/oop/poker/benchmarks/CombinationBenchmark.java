@@ -0,0 +1,37 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Combination;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombinationBenchmark {
+    private static final int HANDS = 1024;
+
+    private List<List<Card>> hands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hands = BenchmarkData.create().hands(HANDS, 7);
+        next = 0;
+    }
+
+    @Benchmark
+    public Combination combinationOfSevenCards() {
+        return Combination.of(hands.get(next++ & (HANDS - 1)));
+    }
+
+    @Benchmark
+    public List<Card> bestFiveCardsOfSevenCards() {
+        return Combination.of(hands.get(next++ & (HANDS - 1))).cards();
+    }
+}
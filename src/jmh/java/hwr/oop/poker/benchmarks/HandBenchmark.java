@@ -0,0 +1,66 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.RandomDeck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandBenchmark {
+
+    @Param({"2", "6"})
+    private int numberOfPlayers;
+
+    private List<Player> players;
+    private Stacks stacks;
+
+    @Setup
+    public void setUp() {
+        final BenchmarkData data = BenchmarkData.create();
+        players = data.players(numberOfPlayers);
+        stacks = data.stacks(players, 1000);
+    }
+
+    // a hand deals from its (mutable) deck, so every invocation needs a fresh one
+    @Benchmark
+    public Hand onCurrentRoundPreFlop() {
+        return newHand().onCurrentRound(this::everybodyChecks);
+    }
+
+    @Benchmark
+    public Hand checkDownWholeHand() {
+        Hand hand = newHand();
+        while (!hand.isFinished()) {
+            hand = hand.onCurrentRound(this::everybodyChecks);
+        }
+        return hand;
+    }
+
+    private Hand newHand() {
+        return Hand.newBuilder()
+                .deck(new RandomDeck())
+                .players(players)
+                .smallBlind(SmallBlind.of(5))
+                .stacks(stacks)
+                .build();
+    }
+
+    private BettingRound everybodyChecks(BettingRound round) {
+        BettingRound current = round;
+        for (Player player : players) {
+            current = current.with(player).check();
+        }
+        return current;
+    }
+}
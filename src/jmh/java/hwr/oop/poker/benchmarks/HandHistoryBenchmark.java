@@ -0,0 +1,67 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.ArrayDeck;
+import hwr.oop.poker.decks.RecordingDeck;
+import hwr.oop.poker.history.HandHistory;
+import hwr.oop.poker.history.HandHistoryCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandHistoryBenchmark {
+
+    private HandHistory history;
+    private ByteBuffer encoded;
+    private ByteBuffer buffer;
+
+    // heads-up hand with a raise before the flop and on the turn, checked down to show down
+    @Setup
+    public void setUp() {
+        final Player first = new Player("1");
+        final Player second = new Player("2");
+        final RecordingDeck deck = RecordingDeck.of(ArrayDeck.shuffled(BenchmarkData.DEFAULT_SEED));
+        final Hand hand = Hand.newBuilder()
+                .deck(deck)
+                .players(List.of(first, second))
+                .smallBlind(SmallBlind.of(10))
+                .stacks(Stacks.newBuilder().of(first).is(1000).of(second).is(1000).build())
+                .build()
+                .onCurrentRound(r -> r.with(first).bet(20).with(second).raiseTo(60).with(first).call())
+                .onCurrentRound(r -> r.with(first).check().with(second).check())
+                .onCurrentRound(r -> r.with(first).bet(50).with(second).raiseTo(150).with(first).call())
+                .onCurrentRound(r -> r.with(first).check().with(second).check());
+        history = HandHistory.of(hand, deck.dealt());
+        buffer = ByteBuffer.allocate(1024);
+        HandHistoryCodec.encode(history, buffer);
+        encoded = buffer.flip().asReadOnlyBuffer();
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        HandHistoryCodec.encode(history, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public HandHistory decode() {
+        return HandHistoryCodec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public Hand decodeAndReplay() {
+        return HandHistoryCodec.decode(encoded.duplicate()).replay();
+    }
+}
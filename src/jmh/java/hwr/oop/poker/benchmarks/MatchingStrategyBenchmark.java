@@ -0,0 +1,62 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.combinations.CombinationDetectionStrategy;
+import hwr.oop.poker.combinations.MatchingStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchingStrategyBenchmark {
+    // far more hands than the analysis cache holds (4096 by default), so nearly every match analyses its cards
+    private static final int HANDS = 1 << 18;
+
+    @Param({"pair", "twoPair", "trips", "straight", "flush", "fullHouse", "quads", "straightFlush"})
+    private String strategy;
+
+    private CombinationDetectionStrategy detection;
+    private List<List<Card>> hands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        detection = strategy(MatchingStrategyFactory.create(), strategy);
+        hands = BenchmarkData.create().hands(HANDS, 7);
+        next = 0;
+    }
+
+    @Benchmark
+    public CombinationDetectionStrategy.Result match() {
+        return detection.match(hands.get(next++ & (HANDS - 1)));
+    }
+
+    private static CombinationDetectionStrategy strategy(MatchingStrategyFactory factory, String name) {
+        switch (name) {
+            case "pair":
+                return factory.createSinglePair();
+            case "twoPair":
+                return factory.createTwoPair();
+            case "trips":
+                return factory.createTrips();
+            case "straight":
+                return factory.createStraight();
+            case "flush":
+                return factory.createFlush();
+            case "fullHouse":
+                return factory.createFullHouse();
+            case "quads":
+                return factory.createQuads();
+            case "straightFlush":
+                return factory.createStraightFlush();
+            default:
+                throw new IllegalArgumentException("Unknown matching strategy: " + name);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.HoleCards;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.community.cards.CommunityCards;
+import hwr.oop.poker.community.cards.CommunityCardsProvider;
+import hwr.oop.poker.community.cards.Flop;
+import hwr.oop.poker.equity.Outs;
+import hwr.oop.poker.equity.OutsAnalyzer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// one operation is one query, the HUD asks once per seat and street
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OutsBenchmark {
+
+    @Param({"2", "6"})
+    private int seats;
+
+    private List<Player> players;
+    private HoleCards holeCards;
+    private CommunityCardsProvider flop;
+    private OutsAnalyzer analyzer;
+
+    @Setup
+    public void setUp() {
+        final BenchmarkData data = BenchmarkData.create();
+        final List<Card> cards = data.hands(1, 2 * seats + 3).get(0);
+        players = data.players(seats);
+        final Map<Player, List<Card>> assignment = new HashMap<>();
+        for (int seat = 0; seat < seats; seat++) {
+            assignment.put(players.get(seat), cards.subList(2 * seat, 2 * seat + 2));
+        }
+        holeCards = HoleCards.assign(assignment);
+        flop = CommunityCards.flop(Flop.of(cards.subList(2 * seats, 2 * seats + 3))).noTurnNoRiver();
+        analyzer = OutsAnalyzer.create();
+    }
+
+    @Benchmark
+    public Outs outsOnFlop() {
+        return analyzer.analyze(holeCards, players, players.get(0), flop);
+    }
+}
@@ -0,0 +1,72 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Deck;
+import hwr.oop.poker.decks.ArrayDeck;
+import hwr.oop.poker.decks.RandomDeck;
+import hwr.oop.poker.decks.RandomSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomDeckBenchmark {
+
+    private ArrayDeck arrayDeck;
+    private RandomSource random;
+
+    @Setup
+    public void setUp() {
+        arrayDeck = ArrayDeck.shuffled(BenchmarkData.DEFAULT_SEED);
+        random = RandomSource.of(new SplittableRandom(BenchmarkData.DEFAULT_SEED));
+    }
+
+    @Benchmark
+    public Deck construct() {
+        return new RandomDeck();
+    }
+
+    // hole cards for two players, then burn and deal flop, turn and river
+    @Benchmark
+    public void dealTwoPlayerHand(Blackhole blackhole) {
+        dealTwoPlayerHand(new RandomDeck(), blackhole);
+    }
+
+    @Benchmark
+    public void dealTwoPlayerHandFromLazyDeck(Blackhole blackhole) {
+        dealTwoPlayerHand(new RandomDeck(random, RandomDeck.Shuffle.LAZY), blackhole);
+    }
+
+    @Benchmark
+    public void reshuffleArrayDeckAndDealTwoPlayerHand(Blackhole blackhole) {
+        arrayDeck.reshuffle();
+        dealTwoPlayerHand(arrayDeck, blackhole);
+    }
+
+    @Benchmark
+    public List<Card> drawAllCards() {
+        return new RandomDeck().drawAllCards();
+    }
+
+    private void dealTwoPlayerHand(Deck deck, Blackhole blackhole) {
+        for (int i = 0; i < 4; i++) {
+            blackhole.consume(deck.draw());
+        }
+        deck.burn();
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(deck.draw());
+        }
+        deck.burn();
+        blackhole.consume(deck.draw());
+        deck.burn();
+        blackhole.consume(deck.draw());
+    }
+}
@@ -0,0 +1,79 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Color;
+import hwr.oop.poker.Symbol;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
+import hwr.oop.poker.equity.HandRange;
+import hwr.oop.poker.equity.RangeEquity;
+import hwr.oop.poker.equity.RangeEquityCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeEquityBenchmark {
+
+    private HandRange range;
+    private HandRange opponentRange;
+    private CardSet flop;
+    private long[] combos;
+    private long[] opponentCombos;
+    private LookupTableEvaluator evaluator;
+    private RangeEquityCalculator calculator;
+
+    @Setup
+    public void setUp() {
+        range = HandRange.parse("TT+, AQs+, AK, KQs");
+        opponentRange = HandRange.parse("22+, A2s+, KTs+, QTs+, JTs, AT+, KJo+");
+        flop = CardSet.of(Card.of(Color.SPADES, Symbol.QUEEN), Card.of(Color.HEARTS, Symbol.EIGHT),
+                Card.of(Color.DIAMONDS, Symbol.THREE));
+        combos = range.withoutCards(flop).combos().stream().mapToLong(CardSet::bits).toArray();
+        opponentCombos = opponentRange.withoutCards(flop).combos().stream().mapToLong(CardSet::bits).toArray();
+        evaluator = LookupTableEvaluator.create();
+        calculator = RangeEquityCalculator.create();
+    }
+
+    @Benchmark
+    public RangeEquity rangesOnFlop() {
+        return calculator.enumerate(range, opponentRange, flop);
+    }
+
+    @Benchmark
+    public RangeEquity rangesPreflop() {
+        return calculator.sample(range, opponentRange, CardSet.empty(), 100_000, 1);
+    }
+
+    // every pair of combos on every board, single threaded, the baseline of rangesOnFlop
+    @Benchmark
+    public double pairwiseOnFlop() {
+        double equity = 0;
+        for (int turn = 0; turn < Card.NUMBER_OF_CARDS; turn++) {
+            for (int river = turn + 1; river < Card.NUMBER_OF_CARDS; river++) {
+                final long board = flop.bits() | 1L << turn | 1L << river;
+                if (Long.bitCount(board) < 5) {
+                    continue;
+                }
+                for (long combo : combos) {
+                    if ((combo & board) != 0) {
+                        continue;
+                    }
+                    final int strength = evaluator.strength(board | combo);
+                    for (long opponentCombo : opponentCombos) {
+                        if ((opponentCombo & (board | combo)) == 0) {
+                            final int opponentStrength = evaluator.strength(board | opponentCombo);
+                            equity += strength > opponentStrength ? 1 : strength == opponentStrength ? 0.5 : 0;
+                        }
+                    }
+                }
+            }
+        }
+        return equity;
+    }
+}
@@ -0,0 +1,74 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.ArrayDeck;
+import hwr.oop.poker.decks.RecordingDeck;
+import hwr.oop.poker.history.HandHistory;
+import hwr.oop.poker.history.ReplayEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+    private static final int HANDS = 10_000;
+
+    private ReplayEngine trusted;
+    private ReplayEngine verified;
+    private long lastAction;
+
+    // session of heads-up hands played to show down, each dealt from its own seed
+    @Setup
+    public void setUp() {
+        final Player first = new Player("1");
+        final Player second = new Player("2");
+        final List<HandHistory> session = new ArrayList<>(HANDS);
+        for (int i = 0; i < HANDS; i++) {
+            final RecordingDeck deck = RecordingDeck.of(ArrayDeck.shuffled(BenchmarkData.DEFAULT_SEED + i));
+            final Hand hand = Hand.newBuilder()
+                    .deck(deck)
+                    .players(List.of(first, second))
+                    .smallBlind(SmallBlind.of(10))
+                    .stacks(Stacks.newBuilder().of(first).is(1000).of(second).is(1000).build())
+                    .build()
+                    .onCurrentRound(r -> r.with(first).bet(20).with(second).raiseTo(60).with(first).call())
+                    .onCurrentRound(r -> r.with(first).check().with(second).check())
+                    .onCurrentRound(r -> r.with(first).bet(50).with(second).raiseTo(150).with(first).call())
+                    .onCurrentRound(r -> r.with(first).check().with(second).check());
+            session.add(HandHistory.of(hand, deck.dealt()));
+        }
+        trusted = ReplayEngine.trusted(session);
+        verified = ReplayEngine.verified(session);
+        lastAction = trusted.actionCount() - 1;
+    }
+
+    @Benchmark
+    public Hand seekLastActionTrusted() {
+        return trusted.seek(lastAction);
+    }
+
+    @Benchmark
+    public Hand seekLastActionVerified() {
+        return verified.seek(lastAction);
+    }
+
+    @Benchmark
+    public Hand replayWholeSessionTrusted() {
+        Hand last = null;
+        for (int hand = 0; hand < trusted.handCount(); hand++) {
+            final List<Hand> states = trusted.states(hand);
+            last = states.get(states.size() - 1);
+        }
+        return last;
+    }
+}
@@ -0,0 +1,45 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.simulation.SimulationReport;
+import hwr.oop.poker.simulation.Simulator;
+import hwr.oop.poker.simulation.Strategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// one operation is a whole simulation, hands per second are printed by the simulator's own report
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulatorBenchmark {
+
+    @Param({"1", "64"})
+    private int tables;
+
+    private Simulator simulator;
+
+    @Setup
+    public void setUp() {
+        simulator = Simulator.newBuilder()
+                .strategies(List.of(
+                        Strategy.madeHandAggression(),
+                        Strategy.randomAggression(0.2),
+                        Strategy.callingStation()))
+                .tables(tables)
+                .seats(6)
+                .startingStack(1500)
+                .smallBlind(10)
+                .handsPerLevel(50)
+                .seed(BenchmarkData.DEFAULT_SEED)
+                .build();
+    }
+
+    @Benchmark
+    public SimulationReport tournament() {
+        return simulator.run();
+    }
+}
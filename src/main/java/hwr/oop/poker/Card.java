@@ -1,16 +1,44 @@
 package hwr.oop.poker;
 
 import java.util.Comparator;
-import java.util.Objects;
 import java.util.stream.Stream;
 
 public class Card {
+    public static final int NUMBER_OF_CARDS = 52;
+
+    private static final int SYMBOLS = 13;
+    private static final Card[] CARDS = createCards();
+
     private final Color color;
     private final Symbol number;
+    private final int index;
+
+    // canonical instances, so equal cards are always the same object
+    public static Card of(Color color, Symbol symbol) {
+        return CARDS[indexOf(color, symbol)];
+    }
+
+    // 13 symbols per color: index = color ordinal * 13 + symbol ordinal
+    public static Card fromIndex(int index) {
+        if (index < 0 || index >= NUMBER_OF_CARDS) {
+            throw new IllegalArgumentException("Can not get card, expected index in [0, "
+                    + NUMBER_OF_CARDS + "), got " + index);
+        }
+        return CARDS[index];
+    }
+
+    private static int indexOf(Color color, Symbol symbol) {
+        return color.ordinal() * SYMBOLS + symbol.ordinal();
+    }
 
-    public Card(Color color, Symbol number) {
+    private Card(Color color, Symbol number) {
         this.color = color;
         this.number = number;
+        this.index = indexOf(color, number);
+    }
+
+    public int index() {
+        return index;
     }
 
     public Color color() {
@@ -23,19 +51,12 @@ public class Card {
 
     @Override
     public boolean equals(Object o) {
-        if (this == o) {
-            return true;
-        }
-        if (o == null || getClass() != o.getClass()) {
-            return false;
-        }
-        Card card = (Card) o;
-        return color == card.color && number == card.number;
+        return this == o;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(color, number);
+        return index;
     }
 
     @Override
@@ -49,4 +70,15 @@ public class Card {
 
     public static final Comparator<Card> DESCENDING_BY_SYMBOL_STRENGTH =
             (o1, o2) -> Integer.compare(o2.symbol().strength(), o1.symbol().strength());
+
+    private static Card[] createCards() {
+        final Card[] cards = new Card[NUMBER_OF_CARDS];
+        for (Color color : Color.values()) {
+            for (Symbol symbol : Symbol.values()) {
+                final Card card = new Card(color, symbol);
+                cards[card.index] = card;
+            }
+        }
+        return cards;
+    }
 }
@@ -0,0 +1,140 @@
+package hwr.oop.poker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class CardSet {
+    public static final int NUMBER_OF_CARDS = Card.NUMBER_OF_CARDS;
+
+    private static final int SYMBOLS = 13;
+    private static final int SYMBOL_MASK = (1 << SYMBOLS) - 1;
+    private static final long ALL_CARDS = (1L << NUMBER_OF_CARDS) - 1;
+    private static final long SYMBOL_COLUMN = 1L | 1L << SYMBOLS | 1L << 2 * SYMBOLS | 1L << 3 * SYMBOLS;
+    private static final CardSet EMPTY = new CardSet(0L);
+
+    private final long bits;
+
+    public static CardSet empty() {
+        return EMPTY;
+    }
+
+    public static CardSet fullDeck() {
+        return new CardSet(ALL_CARDS);
+    }
+
+    public static CardSet of(Card... cards) {
+        long bits = 0L;
+        for (Card card : cards) {
+            bits |= bitOf(card);
+        }
+        return new CardSet(bits);
+    }
+
+    public static CardSet of(Collection<Card> cards) {
+        long bits = 0L;
+        for (Card card : cards) {
+            bits |= bitOf(card);
+        }
+        return new CardSet(bits);
+    }
+
+    public static CardSet ofBits(long bits) {
+        if ((bits & ~ALL_CARDS) != 0) {
+            throw new IllegalArgumentException("Can not create card set, only the lowest "
+                    + NUMBER_OF_CARDS + " bits may be set, got " + Long.toHexString(bits));
+        }
+        return new CardSet(bits);
+    }
+
+    // 13 symbol bits per color, see Card#index
+    public static long bitOf(Card card) {
+        return 1L << card.index();
+    }
+
+    private CardSet(long bits) {
+        this.bits = bits;
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    public CardSet add(Card card) {
+        return new CardSet(bits | bitOf(card));
+    }
+
+    public CardSet remove(Card card) {
+        return new CardSet(bits & ~bitOf(card));
+    }
+
+    public boolean contains(Card card) {
+        return (bits & bitOf(card)) != 0;
+    }
+
+    public boolean containsAny(CardSet other) {
+        return (bits & other.bits) != 0;
+    }
+
+    public CardSet union(CardSet other) {
+        return new CardSet(bits | other.bits);
+    }
+
+    public CardSet intersection(CardSet other) {
+        return new CardSet(bits & other.bits);
+    }
+
+    public CardSet without(CardSet other) {
+        return new CardSet(bits & ~other.bits);
+    }
+
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    public int symbolsOf(Color color) {
+        return (int) (bits >>> (color.ordinal() * SYMBOLS)) & SYMBOL_MASK;
+    }
+
+    public int countOf(Symbol symbol) {
+        return Long.bitCount((bits >>> symbol.ordinal()) & SYMBOL_COLUMN);
+    }
+
+    public int countOf(Color color) {
+        return Integer.bitCount(symbolsOf(color));
+    }
+
+    public List<Card> toList() {
+        final List<Card> cards = new ArrayList<>(size());
+        for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            cards.add(Card.fromIndex(Long.numberOfTrailingZeros(remaining)));
+        }
+        return cards;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CardSet cardSet = (CardSet) o;
+        return bits == cardSet.bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "CardSet" + toList();
+    }
+}
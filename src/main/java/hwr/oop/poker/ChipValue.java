@@ -1,10 +1,8 @@
 package hwr.oop.poker;
 
-import java.util.Objects;
-
 public interface ChipValue extends Comparable<ChipValue> {
     static ChipValue of(long value) {
-        return new PositiveChipValue(value);
+        return PositiveChipValue.of(value);
     }
 
     static ChipValue zero() {
@@ -12,17 +10,41 @@ public interface ChipValue extends Comparable<ChipValue> {
     }
 
     static ChipValue minRaise(ChipValue bet) {
-        return ChipValue.of(bet.value() * 2);
+        return ChipValue.of(multiplyExact(bet.value(), 2));
+    }
+
+    static long addExact(long first, long second) {
+        try {
+            return Math.addExact(first, second);
+        } catch (ArithmeticException e) {
+            throw new ChipValueOverflowException("Can not add " + first + " and " + second + " chips", e);
+        }
+    }
+
+    static long subtractExact(long first, long second) {
+        try {
+            return Math.subtractExact(first, second);
+        } catch (ArithmeticException e) {
+            throw new ChipValueOverflowException("Can not subtract " + second + " from " + first + " chips", e);
+        }
+    }
+
+    static long multiplyExact(long value, int factor) {
+        try {
+            return Math.multiplyExact(value, factor);
+        } catch (ArithmeticException e) {
+            throw new ChipValueOverflowException("Can not multiply " + value + " chips by " + factor, e);
+        }
     }
 
     long value();
 
     default ChipValue minus(ChipValue other) {
-        return ChipValue.of(value() - other.value());
+        return ChipValue.of(subtractExact(value(), other.value()));
     }
 
     default ChipValue plus(ChipValue other) {
-        return ChipValue.of(value() + other.value());
+        return ChipValue.of(addExact(value(), other.value()));
     }
 
     @Override
@@ -35,8 +57,33 @@ public interface ChipValue extends Comparable<ChipValue> {
     }
 
     class PositiveChipValue implements ChipValue {
+        private static final int SMALL_VALUES = 1024;
+        private static final int BLIND_UNIT = 25;
+        private static final int BLIND_MULTIPLES = 4096;
+        private static final PositiveChipValue[] SMALL = createCache(SMALL_VALUES, 1);
+        private static final PositiveChipValue[] MULTIPLES_OF_BLIND_UNIT = createCache(BLIND_MULTIPLES, BLIND_UNIT);
+
         private final long value;
 
+        // values up to 1023 and multiples of 25 up to 102375 (typical blind levels and bet sizes) are shared
+        private static PositiveChipValue of(long value) {
+            if (value >= 0 && value < SMALL_VALUES) {
+                return SMALL[(int) value];
+            }
+            if (value > 0 && value % BLIND_UNIT == 0 && value / BLIND_UNIT < BLIND_MULTIPLES) {
+                return MULTIPLES_OF_BLIND_UNIT[(int) (value / BLIND_UNIT)];
+            }
+            return new PositiveChipValue(value);
+        }
+
+        private static PositiveChipValue[] createCache(int size, int unit) {
+            final PositiveChipValue[] cache = new PositiveChipValue[size];
+            for (int i = 0; i < size; i++) {
+                cache[i] = new PositiveChipValue((long) i * unit);
+            }
+            return cache;
+        }
+
         public PositiveChipValue(long value) {
             assertIsPositive(value);
             this.value = value;
@@ -68,7 +115,7 @@ public interface ChipValue extends Comparable<ChipValue> {
 
         @Override
         public int hashCode() {
-            return Objects.hash(value);
+            return Long.hashCode(value);
         }
 
         @Override
@@ -84,4 +131,11 @@ public interface ChipValue extends Comparable<ChipValue> {
         }
     }
 
+    class ChipValueOverflowException extends RuntimeException {
+
+        public ChipValueOverflowException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
 }
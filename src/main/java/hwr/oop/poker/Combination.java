@@ -1,74 +1,155 @@
 package hwr.oop.poker;
 
-import hwr.oop.poker.combinations.CombinationDetectionStrategy;
-import hwr.oop.poker.combinations.MatchingStrategyFactory;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class Combination {
-    private final List<Card> nonKickers;
-    private final List<Card> kickers;
-    private Label label;
+public class Combination implements Comparable<Combination> {
+    private static final LookupTableEvaluator EVALUATOR = LookupTableEvaluator.create();
+
+    private final List<Card> availableCards;
+    private final int strength;
+    private final Label label;
 
     public static Combination of(List<Card> cards) {
         return new Combination(cards);
     }
 
     public Combination(List<Card> cards) {
-        this.nonKickers = selectNonKickerCards(cards);
-        this.kickers = selectKickers(cards);
+        this.availableCards = List.copyOf(cards);
+        this.strength = EVALUATOR.strength(cards);
+        this.label = LookupTableEvaluator.label(strength);
     }
 
     public Combination.Label label() {
         return label;
     }
 
+    public int strength() {
+        return strength;
+    }
+
+    @Override
+    public int compareTo(Combination other) {
+        return Integer.compare(strength, other.strength);
+    }
+
+    public boolean beats(Combination other) {
+        return compareTo(other) > 0;
+    }
+
+    public boolean isTiedWith(Combination other) {
+        return compareTo(other) == 0;
+    }
+
     public List<Card> cards() {
-        final List<Card> cards = new ArrayList<>();
-        cards.addAll(nonKickers);
-        cards.addAll(kickers);
+        final List<Card> nonKickers = selectNonKickerCards();
+        final List<Card> cards = new ArrayList<>(nonKickers);
+        cards.addAll(selectKickers(nonKickers));
         return cards;
     }
 
     public List<Card> kickers() {
-        return kickers;
-    }
-
-    private List<Card> selectNonKickerCards(List<Card> cards) {
-        final var factory = new MatchingStrategyFactory();
-        final List<CombinationDetectionStrategy> strategies = List.of(
-                factory.createStraightFlush(),
-                factory.createQuads(),
-                factory.createFullHouse(),
-                factory.createFlush(),
-                factory.createStraight(),
-                factory.createTrips(),
-                factory.createTwoPair(),
-                factory.createSinglePair()
-        );
-        for (CombinationDetectionStrategy strategy : strategies) {
-            final CombinationDetectionStrategy.Result result = strategy.match(cards);
-            if (result.successful()) {
-                this.label = result.label();
-                return result.winner();
-            }
+        return selectKickers(selectNonKickerCards());
+    }
+
+    private List<Card> selectNonKickerCards() {
+        switch (label) {
+            case PAIR:
+            case TRIPS:
+            case QUADS:
+                return cardsWith(rank(0));
+            case TWO_PAIRS:
+            case FULL_HOUSE:
+                final List<Card> cards = new ArrayList<>(cardsWith(rank(0)));
+                cards.addAll(cardsWith(rank(1)).subList(0, 2));
+                return cards;
+            case STRAIGHT:
+                return straightCards(preferredColorForStraight());
+            case FLUSH:
+                return flushCards(flushColor());
+            case STRAIGHT_FLUSH:
+                return straightCards(flushColor());
+            default:
+                return List.of();
         }
-        this.label = Label.HIGH_CARD;
-        return List.of();
     }
 
-    private List<Card> selectKickers(List<Card> cards) {
-        final List<Card> kickerCandidates = cards.stream()
+    private List<Card> selectKickers(List<Card> nonKickers) {
+        final List<Card> kickerCandidates = availableCards.stream()
                 .filter(c -> !nonKickers.contains(c))
                 .sorted(Card.DESCENDING_BY_SYMBOL_STRENGTH)
                 .collect(Collectors.toList());
-        return kickerCandidates.subList(0, numberOfKickersRequired());
+        return kickerCandidates.subList(0, 5 - nonKickers.size());
+    }
+
+    private Symbol rank(int position) {
+        return Symbol.of(LookupTableEvaluator.rankAt(strength, position));
     }
 
-    private int numberOfKickersRequired() {
-        return 5 - nonKickers.size();
+    private List<Symbol> straightSymbols() {
+        final int highest = LookupTableEvaluator.rankAt(strength, 0);
+        final List<Symbol> symbols = new ArrayList<>();
+        for (int offset = 0; offset < 5; offset++) {
+            symbols.add(Symbol.of(highest - offset));
+        }
+        return symbols;
+    }
+
+    private List<Card> cardsWith(Symbol symbol) {
+        return availableCards.stream()
+                .filter(c -> c.symbol() == symbol)
+                .collect(Collectors.toList());
+    }
+
+    private List<Card> straightCards(Color preferredColor) {
+        final List<Card> cards = new ArrayList<>();
+        for (Symbol symbol : straightSymbols()) {
+            final List<Card> candidates = cardsWith(symbol);
+            final Card card = candidates.stream()
+                    .filter(c -> c.color() == preferredColor)
+                    .findFirst()
+                    .orElse(candidates.get(0));
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    private List<Card> flushCards(Color color) {
+        final List<Card> cards = new ArrayList<>();
+        for (int position = 0; position < 5; position++) {
+            final Symbol symbol = rank(position);
+            final Card card = cardsWith(symbol).stream()
+                    .filter(c -> c.color() == color)
+                    .findFirst().orElseThrow();
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    private Color preferredColorForStraight() {
+        final List<Symbol> symbols = straightSymbols();
+        return mostCommonColor(availableCards.stream()
+                .filter(c -> symbols.contains(c.symbol()))
+                .collect(Collectors.toList()));
+    }
+
+    private Color flushColor() {
+        return mostCommonColor(availableCards);
+    }
+
+    private static Color mostCommonColor(List<Card> cards) {
+        final int[] counts = new int[Color.values().length];
+        cards.forEach(c -> counts[c.color().ordinal()]++);
+        Color mostCommon = Color.values()[0];
+        for (Color color : Color.values()) {
+            if (counts[color.ordinal()] > counts[mostCommon.ordinal()]) {
+                mostCommon = color;
+            }
+        }
+        return mostCommon;
     }
 
     public enum Label {
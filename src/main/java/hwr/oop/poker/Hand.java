@@ -1,21 +1,31 @@
 package hwr.oop.poker;
 
 import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.betting.PlayLog;
 import hwr.oop.poker.betting.positions.RoundPosition;
 import hwr.oop.poker.blinds.BlindConfiguration;
 import hwr.oop.poker.blinds.SmallBlind;
 import hwr.oop.poker.community.cards.*;
+import hwr.oop.poker.pots.PotSettlement;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.UnaryOperator;
-import java.util.stream.Stream;
 
 public class Hand implements CommunityCardsProvider {
+    // indexed by RoundPosition#position
+    private static final RoundPosition[] POSITIONS = {
+            RoundPosition.PRE_FLOP, RoundPosition.FLOP, RoundPosition.TURN, RoundPosition.RIVER
+    };
+
     private final Deck deck;
     private final List<Player> players;
     private final BlindConfiguration blindConfiguration;
     private final HoleCards holeCards;
-    private final Map<RoundPosition, BettingRound> rounds;
+    private final BettingRound[] rounds;  // by position, null for rounds not reached yet, copied on write
+    private final int current;  // position of the latest round, stays on finished rounds that end the hand
     private final CommunityCardsProvider communityCards;
 
     public static Builder newBuilder() {
@@ -26,47 +36,45 @@ public class Hand implements CommunityCardsProvider {
         return new Hand(deck, players, smallBlind, stacks);
     }
 
-    private static Hand createBasedOnOlderHand(Deck deck,
-                                               List<Player> players,
-                                               SmallBlind smallBlind,
-                                               HoleCards holeCards,
-                                               Map<RoundPosition, BettingRound> rounds,
-                                               CommunityCardsProvider communityCards) {
-        return new Hand(deck, players, smallBlind, holeCards, rounds, communityCards);
-    }
-
     private Hand(Deck deck, List<Player> players, SmallBlind smallBlind, Stacks stacks) {
         this.deck = deck;
         this.players = players;
         this.blindConfiguration = new BlindConfiguration(smallBlind);
         this.holeCards = HoleCards.create(deck, players);
         this.communityCards = CommunityCards.empty();
-        this.rounds = Map.of(RoundPosition.PRE_FLOP, BettingRound.create(stacks, players));
-    }
-
-    private Hand(Deck deck,
-                 List<Player> players,
-                 SmallBlind smallBlind,
-                 HoleCards holeCards,
-                 Map<RoundPosition, BettingRound> rounds,
-                 CommunityCardsProvider communityCards) {
-        this.deck = deck;
-        this.players = players;
-        this.blindConfiguration = new BlindConfiguration(smallBlind);
-        this.holeCards = holeCards;
-        this.rounds = createMapBasedOn(rounds);
-        this.communityCards = buildCommunityCards(deck, communityCards);
+        this.rounds = new BettingRound[POSITIONS.length];
+        this.rounds[RoundPosition.PRE_FLOP.position()] = BettingRound.create(stacks, players);
+        this.current = RoundPosition.PRE_FLOP.position();
+    }
+
+    // transition, the next round is opened (and its community cards dealt) once the current round is finished
+    private Hand(Hand previous, BettingRound round) {
+        this.deck = previous.deck;
+        this.players = previous.players;
+        this.blindConfiguration = previous.blindConfiguration;
+        this.holeCards = previous.holeCards;
+        this.rounds = previous.rounds.clone();
+        this.rounds[previous.current] = round;
+        int position = previous.current;
+        CommunityCardsProvider cards = previous.communityCards;
+        // a round is finished right away if at most one player has chips left to bet, the next one is dealt then
+        while (rounds[position].isFinished() && !isWonWithoutShowDown(rounds[position])
+                && position + 1 < POSITIONS.length) {
+            final BettingRound finished = rounds[position];
+            position++;
+            // players that folded in earlier rounds do not take part in later rounds
+            final var remainingPlayers = List.copyOf(finished.remainingPlayers());
+            this.rounds[position] = BettingRound.create(finished.stacks(), remainingPlayers);
+            final RoundPosition nextPosition = POSITIONS[position];
+            nextPosition.ifRequiresBurn(deck::burn);
+            cards = nextPosition.buildCardsFor(deck, cards);
+        }
+        this.current = position;
+        this.communityCards = cards;
     }
 
-    private CommunityCardsProvider buildCommunityCards(Deck deck, CommunityCardsProvider oldCommunityCards) {
-        final var position = currentPosition();
-        final var currentRound = rounds.get(position);
-        if (!currentRound.isFinished()) {
-            position.ifRequiresBurn(deck::burn);
-            return position.buildCardsFor(deck, oldCommunityCards);
-        } else {
-            return oldCommunityCards;
-        }
+    public List<Player> players() {
+        return players;
     }
 
     public List<Card> holeCards(Player player) {
@@ -93,8 +101,13 @@ public class Hand implements CommunityCardsProvider {
         return blindConfiguration;
     }
 
+    // chips committed by plays of all rounds, blinds count once they are posted as plays (like #settle awards them)
     public ChipValue potSize() {
-        return () -> blindConfiguration.bigBlind().value() + blindConfiguration.smallBlind().value();
+        long committed = 0;
+        for (Player player : players) {
+            committed = ChipValue.addExact(committed, chipsPutIntoPotBy(player));
+        }
+        return ChipValue.of(committed);
     }
 
     @Override
@@ -117,6 +130,11 @@ public class Hand implements CommunityCardsProvider {
         return communityCards.cardsDealt();
     }
 
+    @Override
+    public CardSet cardSet() {
+        return communityCards.cardSet();
+    }
+
     public boolean preFlopRoundPlayed() {
         return isRoundPlayed(RoundPosition.PRE_FLOP);
     }
@@ -134,113 +152,88 @@ public class Hand implements CommunityCardsProvider {
     }
 
     public Hand onCurrentRound(UnaryOperator<BettingRound> function) {
-        final var position = currentPosition();
-        final var currentRound = rounds.get(position);
-        if (!currentRound.isFinished()) {
-            final var round = roundOn(position).orElseThrow();
-            return accept(function.apply(round));
-        } else {
+        if (isFinished()) {
             throw new PlayOnOnFinishedHandException();
         }
+        return new Hand(this, function.apply(rounds[current]));
     }
 
     public boolean isFinished() {
-        final var position = currentPosition();
-        final var currentRound = rounds.get(position);
-        return currentRound.isFinished();
+        return rounds[current].isFinished();
     }
 
-    public Stacks stacks() {
-        final var position = currentPosition();
-        final var round = rounds.get(position);
-        return round.stacks();
+    public Optional<Player> playerOnTurn() {
+        return rounds[current].turn();
     }
 
-    public RoundPosition currentPosition() {
-        return currentPosition(rounds);
+    public Stacks stacks() {
+        return rounds[current].stacks();
     }
 
-    private Hand accept(BettingRound round) {
-        if (!isFinished()) {
-            final var position = currentPosition();
-            final var copy = copy();
-            final var unmodifiableMap = createNewMapWith(round, position);
-            copy.rounds(unmodifiableMap);
-            return copy.build();
-        } else {
-            throw new PlayOnOnFinishedHandException();
+    // plays of all rounds reached so far, indexed by RoundPosition#position
+    public List<PlayLog> playsByRound() {
+        final List<PlayLog> plays = new ArrayList<>(current + 1);
+        for (int position = 0; position <= current; position++) {
+            plays.add(rounds[position].history());
         }
+        return plays;
     }
 
-    private Map<RoundPosition, BettingRound> createNewMapWith(BettingRound round, RoundPosition currentPosition) {
-        final Map<RoundPosition, BettingRound> mutableMap = new HashMap<>(rounds);
-        mutableMap.put(currentPosition, round);
-        return Collections.unmodifiableMap(mutableMap);
-    }
-
-    private Builder copy() {
-        return newBuilder()
-                .deck(deck)
-                .players(players)
-                .smallBlind(blindConfiguration.smallBlind())
-                .holeCards(holeCards)
-                .rounds(rounds)
-                .communityCards(communityCards);
-    }
-
-    private boolean isRoundPlayed(RoundPosition roundPosition) {
-        final Optional<BettingRound> optional = roundOn(roundPosition);
-        return optional.isPresent() && optional.orElseThrow().isFinished();
-    }
-
-    private Optional<BettingRound> roundOn(RoundPosition position) {
-        final boolean containsKey = rounds.containsKey(position);
-        if (!containsKey) {
-            return Optional.empty();
-        } else {
-            final BettingRound round = rounds.get(position);
-            return Optional.of(round);
+    public long chipsPutIntoPotBy(Player player) {
+        long committed = 0;
+        for (int position = 0; position <= current; position++) {
+            committed = ChipValue.addExact(committed, rounds[position].chipsPutIntoPotByAsLong(player));
         }
+        return committed;
     }
 
-    private Map<RoundPosition, BettingRound> createMapBasedOn(Map<RoundPosition, BettingRound> rounds) {
-        Map<RoundPosition, BettingRound> modifiableMap = new HashMap<>(rounds);
-        final boolean riverPresentAndFinished = rounds.containsKey(RoundPosition.RIVER) && rounds.get(RoundPosition.RIVER).isFinished();
-        if (!riverPresentAndFinished) {
-            final var roundPosition = currentPosition(rounds);
-            final var stacksFromPreviousRound = stacksForNewRound(rounds, roundPosition);
-            final var freshBettingRound = BettingRound.create(stacksFromPreviousRound, players);
-            modifiableMap.putIfAbsent(roundPosition, freshBettingRound);
+    public boolean hasFolded(Player player) {
+        for (int position = 0; position <= current; position++) {
+            if (rounds[position].hasFolded(player)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // main and side pots of all rounds, awarded by show down (or to the last player that has not folded)
+    public Stacks settle() {
+        final var seats = Seats.of(players);
+        final long[] committed = new long[seats.size()];
+        final boolean[] folded = new boolean[seats.size()];
+        int remaining = 0;
+        for (int seat = 0; seat < seats.size(); seat++) {
+            committed[seat] = chipsPutIntoPotBy(seats.player(seat));
+            folded[seat] = hasFolded(seats.player(seat));
+            remaining += folded[seat] ? 0 : 1;
         }
-        return Collections.unmodifiableMap(modifiableMap);
+        final var settlement = PotSettlement.of(seats, committed, folded);
+        if (remaining < 2) {
+            return settlement.settle(stacks(), player -> 0);
+        }
+        final ShowDown showDown = showDown().orElseThrow(() -> new SettleUnfinishedHandException(
+                "Cannot settle hand before show down, more than one player has not folded"));
+        return settlement.settle(stacks(), showDown::strength);
     }
 
-    private Stacks stacksForNewRound(Map<RoundPosition, BettingRound> rounds, RoundPosition roundPosition) {
-        final var previous = roundPosition.previous().orElseThrow();
-        final var round = rounds.get(previous);
-        return round.stacks();
+    public RoundPosition currentPosition() {
+        return POSITIONS[current];
     }
 
-    private RoundPosition currentPosition(Map<RoundPosition, BettingRound> someRounds) {
-        final var candidatePosition = latestRound(someRounds);
-        final BettingRound candidateRound = someRounds.get(candidatePosition);
-        if (candidateRound.isFinished()) {
-            final var nextPosition = candidatePosition.nextPosition();
-            return nextPosition.orElse(candidatePosition);  // stay on finished round (in case of river)
-        } else {
-            return candidatePosition;
-        }
+    private boolean isRoundPlayed(RoundPosition roundPosition) {
+        final int position = roundPosition.position();
+        return position <= current && rounds[position].isFinished();
     }
 
-    private RoundPosition latestRound(Map<RoundPosition, BettingRound> someRounds) {
-        return someRounds.keySet().stream()
-                .reduce(RoundPosition::latest)
-                .orElseThrow();
+    private static boolean isWonWithoutShowDown(BettingRound round) {
+        return round.remainingPlayerCount() < 2;
     }
 
     public Optional<ShowDown> showDown() {
-        if (isFinished()) {
-            final ShowDown showDown = ShowDown.create(communityCards, holeCards, players);
+        if (isFinished() && !isWonWithoutShowDown(rounds[current])) {
+            // players that folded are not part of the show down
+            final var remainingPlayers = List.copyOf(rounds[current].remainingPlayers());
+            final ShowDown showDown = ShowDown.create(communityCards, holeCards, remainingPlayers);
             return Optional.of(showDown);
         } else {
             return Optional.empty();
@@ -251,28 +244,17 @@ public class Hand implements CommunityCardsProvider {
         private Deck deck;
         private List<Player> players;
         private SmallBlind smallBlind;
-        private HoleCards holeCards;
-        private Map<RoundPosition, BettingRound> rounds;
-        private CommunityCardsProvider communityCards;
         private Stacks stacks;
 
         private Builder() {
             this.deck = null;
             this.players = null;
             this.smallBlind = null;
-            this.holeCards = null;
-            this.communityCards = null;
-            this.rounds = null;
             this.stacks = null;
         }
 
-        Hand build() {
-            final boolean hasIncompleteInfo = Stream.of(holeCards, rounds, communityCards).anyMatch(Objects::isNull);
-            if (hasIncompleteInfo) {
-                return Hand.createInitially(deck, players, smallBlind, stacks);
-            } else {
-                return Hand.createBasedOnOlderHand(deck, players, smallBlind, holeCards, rounds, communityCards);
-            }
+        public Hand build() {
+            return Hand.createInitially(deck, players, smallBlind, stacks);
         }
 
         public Builder deck(Deck deck) {
@@ -290,21 +272,6 @@ public class Hand implements CommunityCardsProvider {
             return this;
         }
 
-        private Builder holeCards(HoleCards holeCards) {
-            this.holeCards = holeCards;
-            return this;
-        }
-
-        private Builder rounds(Map<RoundPosition, BettingRound> rounds) {
-            this.rounds = rounds;
-            return this;
-        }
-
-        private Builder communityCards(CommunityCardsProvider communityCards) {
-            this.communityCards = communityCards;
-            return this;
-        }
-
         public Builder stacks(Stacks stacks) {
             this.stacks = stacks;
             return this;
@@ -314,4 +281,10 @@ public class Hand implements CommunityCardsProvider {
     public static class PlayOnOnFinishedHandException extends RuntimeException {
         // nothing to do
     }
+
+    public static class SettleUnfinishedHandException extends RuntimeException {
+        public SettleUnfinishedHandException(String message) {
+            super(message);
+        }
+    }
 }
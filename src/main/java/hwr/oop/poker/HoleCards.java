@@ -5,19 +5,40 @@ import java.util.*;
 public class HoleCards {
 
     private final Map<Player, List<Card>> assignment;
+    private final Map<Player, CardSet> cardSets;
 
     public static HoleCards create(Deck deck, List<Player> players) {
         return new HoleCards(deck, players);
     }
 
+    public static HoleCards assign(Map<Player, List<Card>> assignment) {
+        return new HoleCards(assignment);
+    }
+
     private HoleCards(Deck deck, List<Player> players) {
         this.assignment = drawHoleCardsFromDeck(deck, players);
+        this.cardSets = createCardSets(assignment);
+    }
+
+    private HoleCards(Map<Player, List<Card>> assignment) {
+        this.assignment = convertToImmutableMap(new HashMap<>(assignment));
+        this.cardSets = createCardSets(this.assignment);
     }
 
     public List<Card> of(Player player) {
         return assignment.get(player);
     }
 
+    public CardSet cardSetOf(Player player) {
+        return cardSets.get(player);
+    }
+
+    private Map<Player, CardSet> createCardSets(Map<Player, List<Card>> assignment) {
+        final Map<Player, CardSet> mutableMap = new HashMap<>();
+        assignment.forEach((player, cards) -> mutableMap.put(player, CardSet.of(cards)));
+        return Collections.unmodifiableMap(mutableMap);
+    }
+
     private Map<Player, List<Card>> drawHoleCardsFromDeck(Deck deck, List<Player> players) {
         final var mutableMap = drawCardsToMutableMap(deck, players);
         return convertToImmutableMap(mutableMap);
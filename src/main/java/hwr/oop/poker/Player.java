@@ -9,6 +9,10 @@ public class Player {
         this.identifier = identifier;
     }
 
+    public String identifier() {
+        return identifier;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
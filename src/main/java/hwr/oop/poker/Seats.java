@@ -0,0 +1,59 @@
+package hwr.oop.poker;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class Seats {
+    public static final int NO_SEAT = -1;
+
+    private final List<Player> players;
+    private final Map<Player, Integer> seats;
+
+    public static Seats of(List<Player> players) {
+        return new Seats(players);
+    }
+
+    private Seats(List<Player> players) {
+        this.players = List.copyOf(players);
+        this.seats = new HashMap<>();
+        for (int seat = 0; seat < this.players.size(); seat++) {
+            final Integer previous = seats.putIfAbsent(this.players.get(seat), seat);
+            if (previous != null) {
+                throw new DuplicatePlayerException("Player " + this.players.get(seat)
+                        + " can not take seat " + seat + ", already sits on seat " + previous);
+            }
+        }
+    }
+
+    public int seatOf(Player player) {
+        return seats.getOrDefault(player, NO_SEAT);
+    }
+
+    public boolean contains(Player player) {
+        return seats.containsKey(player);
+    }
+
+    public Player player(int seat) {
+        return players.get(seat);
+    }
+
+    public List<Player> players() {
+        return players;
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Seats" + players;
+    }
+
+    public static class DuplicatePlayerException extends RuntimeException {
+        public DuplicatePlayerException(String message) {
+            super(message);
+        }
+    }
+}
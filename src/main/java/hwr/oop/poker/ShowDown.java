@@ -1,17 +1,25 @@
 package hwr.oop.poker;
 
+import hwr.oop.poker.combinations.LookupTableEvaluator;
 import hwr.oop.poker.community.cards.CommunityCardsProvider;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class ShowDown {
+    private static final LookupTableEvaluator EVALUATOR = LookupTableEvaluator.create();
 
     private final CommunityCardsProvider communityCardsProvider;
     private final HoleCards holeCards;
     private final List<Player> players;
+    // evaluated on first use, creating a show down never throws
+    private volatile int[] strengths;
+    private volatile List<List<Player>> ranking;
 
     public static ShowDown create(CommunityCardsProvider communityCardsProvider, HoleCards holeCards, List<Player> players) {
         return new ShowDown(communityCardsProvider, holeCards, players);
@@ -21,6 +29,8 @@ public class ShowDown {
         this.communityCardsProvider = communityCardsProvider;
         this.holeCards = holeCards;
         this.players = players;
+        this.strengths = null;
+        this.ranking = null;
     }
 
     public Combination combination(Player player) {
@@ -31,12 +41,90 @@ public class ShowDown {
         return Combination.of(allCards);
     }
 
+    public int strength(Player player) {
+        final int seat = players.indexOf(player);
+        if (seat < 0) {
+            throw new IllegalArgumentException(player + " is not part of this show down, expected any of " + players);
+        }
+        return strengths()[seat];
+    }
+
+    public List<List<Player>> ranking() {
+        List<List<Player>> result = ranking;
+        if (result == null) {
+            result = rankPlayers(strengths());
+            ranking = result;
+        }
+        return result;
+    }
+
+    public List<Player> winners() {
+        final List<List<Player>> result = ranking();
+        if (result.isEmpty()) {
+            throw new NoPlayersException("No winners, no players are part of this show down");
+        }
+        return result.get(0);
+    }
+
     public Player winner() {
-        final Map<Player, Combination> combinationMap = players.stream()
-                .collect(Collectors.toMap(
-                        p -> p,
-                        p -> combination(p))
-                );
-        return players.get(0);
+        final List<Player> winners = winners();
+        if (winners.size() > 1) {
+            throw new SplitPotException("No single winner, pot is split between " + winners);
+        }
+        return winners.get(0);
+    }
+
+    private int[] strengths() {
+        int[] result = strengths;
+        if (result == null) {
+            result = evaluateAll();
+            strengths = result;
+        }
+        return result;
+    }
+
+    // board is evaluated once, every player only adds their hole cards to it
+    private int[] evaluateAll() {
+        final long board = communityCardsProvider.cardSet().bits();
+        final int[] result = new int[players.size()];
+        for (int seat = 0; seat < result.length; seat++) {
+            final long cards = board | holeCards.cardSetOf(players.get(seat)).bits();
+            result[seat] = EVALUATOR.strength(CardSet.ofBits(cards));
+        }
+        return result;
+    }
+
+    private List<List<Player>> rankPlayers(int[] strengths) {
+        if (players.isEmpty()) {
+            return List.of();
+        }
+        final List<Integer> seatsByStrength = IntStream.range(0, players.size()).boxed()
+                .sorted(Comparator.comparingInt((Integer seat) -> strengths[seat]).reversed())
+                .collect(Collectors.toList());
+        final List<List<Player>> groups = new ArrayList<>();
+        List<Player> currentGroup = new ArrayList<>();
+        int currentStrength = strengths[seatsByStrength.get(0)];
+        for (int seat : seatsByStrength) {
+            if (strengths[seat] != currentStrength) {
+                groups.add(Collections.unmodifiableList(currentGroup));
+                currentGroup = new ArrayList<>();
+                currentStrength = strengths[seat];
+            }
+            currentGroup.add(players.get(seat));
+        }
+        groups.add(Collections.unmodifiableList(currentGroup));
+        return Collections.unmodifiableList(groups);
+    }
+
+    public static class NoPlayersException extends RuntimeException {
+        public NoPlayersException(String message) {
+            super(message);
+        }
+    }
+
+    public static class SplitPotException extends RuntimeException {
+        public SplitPotException(String message) {
+            super(message);
+        }
     }
 }
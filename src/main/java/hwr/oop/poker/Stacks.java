@@ -2,17 +2,19 @@ package hwr.oop.poker;
 
 import hwr.oop.poker.betting.Play;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 public class Stacks implements Function<Player, ChipValue> {
-    private final Map<Player, ChipValue> map;
+    private final Seats seats;
+    private final long[] chips;  // by seat, copied on write
 
-    private Stacks(Map<Player, ChipValue> map) {
-        assert !map.entrySet().isEmpty() && !map.containsKey(null);
-        this.map = map;
+    private Stacks(Seats seats, long[] chips) {
+        assert seats.size() > 0 && !seats.contains(null);
+        this.seats = seats;
+        this.chips = chips;
     }
 
     public static StacksBuilder newBuilder() {
@@ -25,41 +27,72 @@ public class Stacks implements Function<Player, ChipValue> {
     }
 
     public ChipValue ofPlayer(Player player) {
-        return map.get(player);
+        final int seat = seats.seatOf(player);
+        return seat == Seats.NO_SEAT ? null : ChipValue.of(chips[seat]);
+    }
+
+    public long ofPlayerAsLong(Player player) {
+        final int seat = seats.seatOf(player);
+        if (seat == Seats.NO_SEAT) {
+            throw new InvalidPlayerForStackException("No stack for " + player
+                    + ", expected any of " + seats.players());
+        }
+        return chips[seat];
+    }
+
+    public long ofSeat(int seat) {
+        return chips[seat];
+    }
+
+    public Seats seats() {
+        return seats;
+    }
+
+    // amounts are indexed by the given seats, which may be ordered differently than these stacks
+    public Stacks award(Seats seatsOfAmounts, long[] amounts) {
+        final long[] updated = chips.clone();
+        for (int seat = 0; seat < amounts.length; seat++) {
+            if (amounts[seat] != 0) {
+                final Player player = seatsOfAmounts.player(seat);
+                final int ownSeat = seats.seatOf(player);
+                if (ownSeat == Seats.NO_SEAT) {
+                    throw new InvalidPlayerForStackException("Tried to award " + amounts[seat] + " chips to " + player
+                            + ", expected any of " + seats.players());
+                }
+                updated[ownSeat] = ChipValue.addExact(updated[ownSeat], amounts[seat]);
+            }
+        }
+        return new Stacks(seats, updated);
     }
 
     public Stacks apply(Play play) {
         final Player player = play.player();
-        if (map.containsKey(player)) {
-            final var newChipValue = stackSizeApplied(play);
-            final var updatedImmutableMap = mapWithPlayApplied(player, newChipValue);
-            return new Stacks(updatedImmutableMap);
-        } else {
-            final var availablePlayers = map.keySet();
+        final int seat = seats.seatOf(player);
+        if (seat == Seats.NO_SEAT) {
             throw new InvalidPlayerForStackException("Tried to apply play for " + player
-                    + ", expected any of " + availablePlayers);
+                    + ", expected any of " + seats.players());
         }
+        final long played = play.chipValue().value();
+        if (played == 0) {
+            return this;
+        }
+        final long[] updated = chips.clone();
+        updated[seat] = stackSizeApplied(play, chips[seat]);
+        return new Stacks(seats, updated);
     }
 
-    private Map<Player, ChipValue> mapWithPlayApplied(Player player, ChipValue newChipValue) {
-        final var mutableMap = new HashMap<>(map);
-        mutableMap.put(player, newChipValue);
-        return Collections.unmodifiableMap(mutableMap);
-    }
-
-    private ChipValue stackSizeApplied(Play play) {
-        final var player = play.player();
-        final var stack = map.get(player);
+    private long stackSizeApplied(Play play, long stack) {
         final var chipsPlayed = play.chipValue();
-        final ChipValue newChipValue;
-        try {
-            newChipValue = stack.minus(chipsPlayed);
-        } catch (ChipValue.NegativeChipCountException e) {
-            final String message = player.toString() + " has only " + stack + "," +
+        final long remaining = stack - chipsPlayed.value();
+        if (remaining < 0) {
+            final var stackValue = ChipValue.of(stack);
+            final String message = play.player().toString() + " has only " + stackValue + "," +
                     " but tried to play " + chipsPlayed.toString();
-            throw new InvalidPlayForStackException(message, e);
+            final var cause = new ChipValue.NegativeChipCountException("Can not create chip value below 0," +
+                    " but tried to create chip value of " + remaining);
+            throw new InvalidPlayForStackException(message, cause);
         }
-        return newChipValue;
+        return remaining;
     }
 
     public static class StacksBuilder {
@@ -67,7 +100,7 @@ public class Stacks implements Function<Player, ChipValue> {
         private final Map<Player, ChipValue> stacks;
 
         private StacksBuilder() {
-            this.stacks = new HashMap<>();
+            this.stacks = new LinkedHashMap<>();  // seats in the order the players were added
         }
 
         public ContextStackBuilder of(Player player) {
@@ -80,8 +113,12 @@ public class Stacks implements Function<Player, ChipValue> {
         }
 
         public Stacks build() {
-            final var unmodifiableMap = Collections.unmodifiableMap(stacks);
-            return new Stacks(unmodifiableMap);
+            final var seats = Seats.of(new ArrayList<>(stacks.keySet()));
+            final long[] chips = new long[seats.size()];
+            for (int seat = 0; seat < chips.length; seat++) {
+                chips[seat] = stacks.get(seats.player(seat)).value();
+            }
+            return new Stacks(seats, chips);
         }
     }
 
@@ -1,7 +1,7 @@
 package hwr.oop.poker;
 
-import java.util.Arrays;
 import java.util.Comparator;
+import java.util.NoSuchElementException;
 
 public enum Symbol {
     TWO("2", 2),
@@ -21,6 +21,8 @@ public enum Symbol {
     public static final Comparator<Symbol> ASCENDING_BY_STRENGTH = Comparator.comparingInt(Symbol::strength);
     public static final Comparator<Symbol> DESCENDING_BY_STRENGTH = (o1, o2) -> Integer.compare(o2.strength(), o1.strength());
 
+    private static final Symbol[] BY_STRENGTH = createStrengthTable();
+
     private final String stringRepresentation;
     private final int strength;
 
@@ -30,9 +32,10 @@ public enum Symbol {
     }
 
     public static Symbol of(int strength) {
-        return Arrays.stream(Symbol.values())
-                .filter(s -> s.strength() == strength)
-                .findFirst().orElseThrow();
+        if (strength < 0 || strength >= BY_STRENGTH.length || BY_STRENGTH[strength] == null) {
+            throw new NoSuchElementException("No symbol with strength " + strength);
+        }
+        return BY_STRENGTH[strength];
     }
 
     public String stringRepresentation() {
@@ -42,4 +45,12 @@ public enum Symbol {
     public int strength() {
         return strength;
     }
+
+    private static Symbol[] createStrengthTable() {
+        final Symbol[] symbols = new Symbol[ACE.strength + 1];
+        for (Symbol symbol : values()) {
+            symbols[symbol.strength] = symbol;
+        }
+        return symbols;
+    }
 }
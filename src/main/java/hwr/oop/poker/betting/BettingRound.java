@@ -2,17 +2,30 @@ package hwr.oop.poker.betting;
 
 import hwr.oop.poker.ChipValue;
 import hwr.oop.poker.Player;
+import hwr.oop.poker.Seats;
 import hwr.oop.poker.Stacks;
 
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class BettingRound {
-    private final List<Player> players;
+    private final Seats seats;
     private final Stacks stacks;
-    private final List<Play> plays;
-    private final Player turn;
+    private final PlayLog plays;  // history only, all queries below use the per seat aggregates
+    private final int turn;
+    // per seat aggregates, copied on write, never mutated once a round is constructed
+    private final long[] committed;
+    private final boolean[] folded;
+    private final boolean[] acted;
+    private final boolean[] allIn;  // no chips left, stays in the hand but does not play any more
+    // aggregates over all seats
+    private final long pot;
+    private final long currentBet;  // highest commitment of all players that have not folded
+    private final int matched;  // players that have not folded and committed exactly the current bet
+    private final int foldedCount;
+    private final int actedCount;
+    private final int allInCount;
+    private final boolean allChecks;
+    private final Play lastChipCountIncreasingPlay;
 
     public static BettingRound create(Stacks stacks, Player... players) {
         return create(stacks, Arrays.asList(players));
@@ -23,17 +36,105 @@ public class BettingRound {
     }
 
     public BettingRound(List<Player> players, Stacks stacks) {
-        this.players = players;
+        this.seats = Seats.of(players);
         this.stacks = stacks;
-        this.plays = new ArrayList<>();
-        this.turn = players.get(0);
+        this.plays = PlayLog.empty();
+        this.committed = new long[seats.size()];
+        this.folded = new boolean[seats.size()];
+        this.acted = new boolean[seats.size()];
+        this.allIn = new boolean[seats.size()];
+        int allInCount = 0;
+        for (int seat = 0; seat < allIn.length; seat++) {
+            // all in on an earlier round of the hand
+            allIn[seat] = stacks != null && stacks.ofPlayerAsLong(seats.player(seat)) == 0;
+            allInCount += allIn[seat] ? 1 : 0;
+        }
+        this.allInCount = allInCount;
+        this.turn = allIn[0] ? next(0) : 0;
+        this.pot = 0;
+        this.currentBet = 0;
+        this.matched = seats.size();
+        this.foldedCount = 0;
+        this.actedCount = 0;
+        this.allChecks = true;
+        this.lastChipCountIncreasingPlay = null;
     }
 
-    private BettingRound(List<Player> players, Stream<Play> plays, Player turn, Stacks stacks) {
-        this.players = players;
-        this.plays = plays.collect(Collectors.toList());
-        this.turn = turn;
+    private BettingRound(BettingRound previous, Play play, int seat, Stacks stacks) {
+        this.seats = previous.seats;
         this.stacks = stacks;
+        this.plays = previous.plays.append(play);
+        this.turn = previous.next(seat);  // based on the folds before this play, like a player that folds out of turn
+        final long added = play.chipValue().value();
+        this.pot = ChipValue.addExact(previous.pot, added);
+        this.allChecks = previous.allChecks && play.isCheck();
+        // a call for less (all in) does not change the bet the others have to call
+        final boolean setsBet = play.increasedChips() && play.totalChipValue().value() >= previous.currentBet;
+        this.lastChipCountIncreasingPlay = setsBet ? play : previous.lastChipCountIncreasingPlay;
+        if (previous.acted[seat]) {
+            this.acted = previous.acted;
+            this.actedCount = previous.actedCount;
+        } else {
+            this.acted = previous.acted.clone();
+            this.acted[seat] = true;
+            this.actedCount = previous.actedCount + 1;
+        }
+        if (!play.isFold() && stacks != null && stacks.ofPlayerAsLong(play.player()) == 0) {
+            this.allIn = previous.allIn.clone();
+            this.allIn[seat] = true;
+            this.allInCount = previous.allInCount + 1;
+        } else {
+            this.allIn = previous.allIn;
+            this.allInCount = previous.allInCount;
+        }
+        if (play.isFold()) {
+            this.committed = previous.committed;
+            this.folded = previous.folded.clone();
+            this.folded[seat] = true;
+            this.foldedCount = previous.foldedCount + 1;
+            final boolean wasMatching = committed[seat] == previous.currentBet;
+            if (wasMatching && previous.matched == 1) {
+                // the only player with the highest commitment folded, rare enough to rescan the seats
+                long highest = 0;
+                int matchingHighest = 0;
+                for (int other = 0; other < committed.length; other++) {
+                    if (!folded[other]) {
+                        if (committed[other] > highest) {
+                            highest = committed[other];
+                            matchingHighest = 1;
+                        } else if (committed[other] == highest) {
+                            matchingHighest++;
+                        }
+                    }
+                }
+                this.currentBet = highest;
+                this.matched = matchingHighest;
+            } else {
+                this.currentBet = previous.currentBet;
+                this.matched = wasMatching ? previous.matched - 1 : previous.matched;
+            }
+        } else {
+            this.folded = previous.folded;
+            this.foldedCount = previous.foldedCount;
+            final long before = previous.committed[seat];
+            final long after = ChipValue.addExact(before, added);
+            if (added == 0) {
+                this.committed = previous.committed;
+            } else {
+                this.committed = previous.committed.clone();
+                this.committed[seat] = after;
+            }
+            if (after > previous.currentBet) {
+                this.currentBet = after;
+                this.matched = 1;
+            } else if (after == previous.currentBet && before != previous.currentBet) {
+                this.currentBet = previous.currentBet;
+                this.matched = previous.matched + 1;
+            } else {
+                this.currentBet = previous.currentBet;
+                this.matched = previous.matched;
+            }
+        }
     }
 
     public RoundInContext with(Player player) {
@@ -41,72 +142,77 @@ public class BettingRound {
     }
 
     public boolean isFinished() {
-        if (allPlayersHavePlayed() && allPlaysAreChecks()) {
+        if (allPlayersHavePlayed() && allChecks) {
             return true;
         }
         if (isOnlyOnePlayerRemaining()) {
             return true;
         }
-        final List<ChipValue> distinctValues = players.stream()
-                .filter(player -> playersThatHaveFolded().noneMatch(p -> p.equals(player)))
-                .map(this::chipsPutIntoPotBy)
-                .distinct()
-                .collect(Collectors.toList());
-        final int numberOfDistinctValues = distinctValues.size();
-        final boolean containsZero = distinctValues.contains(ChipValue.zero());
-        return numberOfDistinctValues == 1 && !containsZero;
+        if (allInCount > 0) {
+            return isFinishedWithAllIns();
+        }
+        return currentBet > 0 && matched == remainingPlayerCount();  // everybody remaining put in the same chips
+    }
+
+    // players that are all in may have put in less than the current bet, only the others still have to match it,
+    // rare enough to scan the seats
+    private boolean isFinishedWithAllIns() {
+        int playing = 0;
+        boolean allPlayingActed = true;
+        for (int seat = 0; seat < committed.length; seat++) {
+            if (!folded[seat] && !allIn[seat]) {
+                if (committed[seat] < currentBet) {
+                    return false;
+                }
+                playing++;
+                allPlayingActed &= acted[seat];
+            }
+        }
+        // nobody left to bet against, or everybody that can still play has matched the bet (or checked)
+        return playing < 2 || currentBet > 0 || allPlayingActed;
     }
 
     public Optional<Player> turn() {
         if (isFinished()) {
             return Optional.empty();
         } else {
-            return Optional.of(turn);
+            return Optional.of(seats.player(turn));
         }
     }
 
     public Optional<Play> lastPlay() {
-        if (plays.isEmpty()) {
-            return Optional.empty();
-        } else {
-            final Play lastPlay = plays.get(plays.size() - 1);
-            return Optional.of(lastPlay);
-        }
+        return plays.last();
+    }
+
+    public PlayLog history() {
+        return plays;
     }
 
     public Optional<Play> lastChipCountIncreasingPlay() {
-        return plays.stream()
-                .filter(Play::increasedChips)
-                .reduce((a, b) -> b);
+        return Optional.ofNullable(lastChipCountIncreasingPlay);
     }
 
     public ChipValue pot() {
-        final Long sumOfAllPlays = plays.stream()
-                .map(Play::chipValue)
-                .map(ChipValue::value)
-                .reduce(Long::sum)
-                .orElse(0L);
-        return ChipValue.of(sumOfAllPlays);
+        return ChipValue.of(pot);
+    }
+
+    public long potAsLong() {
+        return pot;
     }
 
     public ChipValue chipsPutIntoPotBy(Player player) {
-        return plays.stream()
-                .filter(play -> play.playedBy(player))
-                .map(Play::chipValue)
-                .reduce(ChipValue::plus)
-                .orElse(ChipValue.zero());
+        return ChipValue.of(chipsPutIntoPotByAsLong(player));
+    }
+
+    public long chipsPutIntoPotByAsLong(Player player) {
+        final int seat = seats.seatOf(player);
+        return seat == Seats.NO_SEAT ? 0 : committed[seat];
     }
 
     public BettingRound nextState(Play play) {
         assertCorrectPlayer(play);
         final var updatedStacks = stacks == null ? null : stacks.apply(play);  // TODO Remove this once deprecated constructors are removed
-        final var playsIncludingNewOne = Stream.concat(plays.stream(), Stream.of(play));
-        return new BettingRound(
-                players,
-                playsIncludingNewOne,
-                next(turn),
-                updatedStacks
-        );
+        return new BettingRound(this, play, turn, updatedStacks);
     }
 
     public ChipValue remainingChips(Player player) {
@@ -117,71 +223,50 @@ public class BettingRound {
         return stacks;
     }
 
-    public Collection<Player> remainingPlayers() {
-        return players.stream()
-                .filter(this::hasPlayerNotFolded)
-                .collect(Collectors.toList());
+    public boolean hasFolded(Player player) {
+        final int seat = seats.seatOf(player);
+        return seat != Seats.NO_SEAT && folded[seat];
     }
 
-    private boolean isOnlyOnePlayerRemaining() {
-        final long numberOfPlayersThatHaveNotFolded = players.stream()
-                .filter(player -> playersThatHaveFolded().noneMatch(p -> p.equals(player)))
-                .count();
-        return numberOfPlayersThatHaveNotFolded < 2;
+    public Collection<Player> remainingPlayers() {
+        final List<Player> remaining = new ArrayList<>(remainingPlayerCount());
+        for (int seat = 0; seat < folded.length; seat++) {
+            if (!folded[seat]) {
+                remaining.add(seats.player(seat));
+            }
+        }
+        return remaining;
     }
 
-    private Stream<Player> playersThatHaveFolded() {
-        return plays.stream()
-                .filter(p -> p.type() == Play.Type.FOLD)
-                .map(Play::player);
+    public int remainingPlayerCount() {
+        return seats.size() - foldedCount;
     }
 
-    private boolean allPlaysAreChecks() {
-        return plays.stream().allMatch(Play::isCheck);
+    private boolean isOnlyOnePlayerRemaining() {
+        return remainingPlayerCount() < 2;
     }
 
     private boolean allPlayersHavePlayed() {
-        return players.stream().allMatch(
-                player -> plays.stream()
-                        .anyMatch(play -> play.playedBy(player))
-        );
+        return actedCount == seats.size();
     }
 
-
     private void assertCorrectPlayer(Play play) {
-        final boolean correctPlayer = play.playedBy(turn);
+        final Player player = seats.player(turn);
+        final boolean correctPlayer = play.playedBy(player);
         if (!correctPlayer) {
             throw new InvalidPlayOnStateException(
                     "Cannot play " + play +
                             ", wrong player: " + play.player() +
-                            ", next player is: " + turn);
+                            ", next player is: " + player);
         }
     }
 
-    private Player next(Player current) {
-        final Player candidate = nextCandidatePlayer(current);
-        final boolean candidateFolded = playerHasFolded(candidate);
-        if (candidateFolded) {
-            return next(candidate);
-        } else {
-            return candidate;
-        }
-    }
-
-    private Player nextCandidatePlayer(Player current) {
-        final int indexOfCandidatePlayer =
-                (players.indexOf(current) + 1) % players.size();
-        return players.get(indexOfCandidatePlayer);
-    }
-
-    private boolean playerHasFolded(Player candidate) {
-        return plays.stream()
-                .filter(Play::isFold)
-                .anyMatch(play -> play.playedBy(candidate));
-    }
-
-    private boolean hasPlayerNotFolded(Player player) {
-        return plays.stream().noneMatch(play -> play.playedBy(player) && play.isFold());
+    private int next(int current) {
+        int candidate = current;
+        do {
+            candidate = (candidate + 1) % folded.length;
+        } while ((folded[candidate] || allIn[candidate]) && candidate != current);
+        return candidate;
     }
 
     public static class InvalidPlayOnStateException extends RuntimeException {
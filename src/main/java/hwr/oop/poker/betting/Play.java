@@ -3,6 +3,8 @@ package hwr.oop.poker.betting;
 import hwr.oop.poker.ChipValue;
 import hwr.oop.poker.Player;
 
+import java.util.Objects;
+
 public class Play {
     private final Player player;
     private final ChipValue chipsTotal;
@@ -68,6 +70,26 @@ public class Play {
         return chipsTotal;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Play play = (Play) o;
+        return player.equals(play.player)
+                && chipsTotal.value() == play.chipsTotal.value()
+                && chipsAdded.value() == play.chipsAdded.value()
+                && type == play.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(player, chipsTotal.value(), chipsAdded.value(), type);
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
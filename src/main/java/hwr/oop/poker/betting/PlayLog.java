@@ -0,0 +1,63 @@
+package hwr.oop.poker.betting;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+// persistent, append only list of plays: appending is O(1) and every log shares its prefix with the logs it was built on
+public final class PlayLog implements Iterable<Play> {
+    private static final PlayLog EMPTY = new PlayLog(null, null, 0);
+
+    private final PlayLog previous;
+    private final Play last;
+    private final int size;
+
+    public static PlayLog empty() {
+        return EMPTY;
+    }
+
+    private PlayLog(PlayLog previous, Play last, int size) {
+        this.previous = previous;
+        this.last = last;
+        this.size = size;
+    }
+
+    public PlayLog append(Play play) {
+        return new PlayLog(this, play, size + 1);
+    }
+
+    public Optional<Play> last() {
+        return Optional.ofNullable(last);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // oldest play first
+    public List<Play> toList() {
+        final Play[] plays = new Play[size];
+        PlayLog current = this;
+        for (int i = size - 1; i >= 0; i--) {
+            plays[i] = current.last;
+            current = current.previous;
+        }
+        return Collections.unmodifiableList(Arrays.asList(plays));
+    }
+
+    @Override
+    public Iterator<Play> iterator() {
+        return toList().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "PlayLog" + toList();
+    }
+}
@@ -5,19 +5,20 @@ import hwr.oop.poker.Player;
 
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 public class RoundInContext {
 
     private final Player player;
-    private final Supplier<ChipValue> chipsPutIntoPotByPlayer;
+    private final LongSupplier chipsPutIntoPotByPlayer;
     private final Supplier<Optional<Play>> lastChipCountIncreasingPlay;
     private final Function<Play, BettingRound> stateTransition;
     private final Function<Player, ChipValue> remainingChipsProvider;
 
     public RoundInContext(Player player, BettingRound bettingRound) {
         this.player = player;
-        this.chipsPutIntoPotByPlayer = () -> bettingRound.chipsPutIntoPotBy(player);
+        this.chipsPutIntoPotByPlayer = () -> bettingRound.chipsPutIntoPotByAsLong(player);
         this.lastChipCountIncreasingPlay = bettingRound::lastChipCountIncreasingPlay;
         this.stateTransition = bettingRound::nextState;
         this.remainingChipsProvider = bettingRound::remainingChips;
@@ -80,26 +81,35 @@ public class RoundInContext {
         }
     }
 
+    // all remaining chips, a call (for less) if they do not cover the bet, a raise even below the minimum raise
     public BettingRound allIn() {
         final var lastIncreasingPlay = lastChipCountIncreasingPlay.get();
-        final var chipValue = remainingChipsProvider.apply(player);
+        final long remaining = remainingChipsProvider.apply(player).value();
         if (lastIncreasingPlay.isEmpty()) {
-            return bet(chipValue.value());
-        } else {
-            return raiseTo(chipValue.value());
+            return bet(remaining);
+        }
+        final long total = ChipValue.addExact(chipsPutIntoPotByPlayer.getAsLong(), remaining);
+        if (total <= lastIncreasingPlay.get().totalChipValue().value()) {
+            return call();
         }
+        return stateTransition.apply(playUsedToGetTo(ChipValue.of(total)));
     }
 
+    // a player that can not cover the bet calls with all remaining chips, matching only part of it
     private Play playUsedToCall(Play bettingPlay) {
-        final var target = bettingPlay.totalChipValue();
-        final var alreadyPlayed = chipsPutIntoPotByPlayer.get();
-        final var amount = target.minus(alreadyPlayed);
-        return Play.call(player, target, amount);
+        final long alreadyPlayed = chipsPutIntoPotByPlayer.getAsLong();
+        final long remaining = remainingChipsProvider.apply(player).value();
+        final long missing = ChipValue.subtractExact(bettingPlay.totalChipValue().value(), alreadyPlayed);
+        if (missing > remaining) {
+            final var target = ChipValue.of(ChipValue.addExact(alreadyPlayed, remaining));
+            return Play.call(player, target, ChipValue.of(remaining));
+        }
+        return Play.call(player, bettingPlay.totalChipValue(), ChipValue.of(missing));
     }
 
     private Play playUsedToGetTo(ChipValue target) {
-        final var alreadyPlayed = chipsPutIntoPotByPlayer.get();
-        final var amount = target.minus(alreadyPlayed);
+        final long alreadyPlayed = chipsPutIntoPotByPlayer.getAsLong();
+        final var amount = ChipValue.of(ChipValue.subtractExact(target.value(), alreadyPlayed));
         return Play.raiseBy(player, target, amount);
     }
 }
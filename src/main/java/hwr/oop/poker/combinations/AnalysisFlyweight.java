@@ -1,6 +1,7 @@
 package hwr.oop.poker.combinations;
 
 import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
 import hwr.oop.poker.Color;
 import hwr.oop.poker.Symbol;
 
@@ -10,18 +11,14 @@ import java.util.stream.Stream;
 
 class AnalysisFlyweight {
 
-    private final List<Card> cards;
-    private final Map<Symbol, List<Card>> symbolMap;
-    private final Map<Color, Long> colorCountMap;
+    private final CardSet cards;
 
-    public static AnalysisFlyweight create(List<Card> cards) {
+    public static AnalysisFlyweight create(CardSet cards) {
         return new AnalysisFlyweight(cards);
     }
 
-    public AnalysisFlyweight(List<Card> cards) {
+    public AnalysisFlyweight(CardSet cards) {
         this.cards = cards;
-        this.symbolMap = createSymbolMap();
-        this.colorCountMap = createColorCountMap();
     }
 
     public Stream<Symbol> symbolsWithPairs() {
@@ -41,67 +38,60 @@ class AnalysisFlyweight {
     }
 
     public List<Card> cardsWith(List<Symbol> symbols) {
-        return symbols.stream()
-                .map(symbolMap::get)
-                .flatMap(Collection::stream)
+        final List<Card> result = new ArrayList<>();
+        for (Symbol symbol : symbols) {
+            for (Color color : Color.values()) {
+                final Card card = Card.of(color, symbol);
+                if (cards.contains(card)) {
+                    result.add(card);
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<Card> cardsOfColorDesc(Color color) {
+        final int symbolMask = cards.symbolsOf(color);
+        return symbolsDesc(symbolMask).stream()
+                .map(symbol -> Card.of(color, symbol))
                 .collect(Collectors.toList());
     }
 
     public List<Symbol> distinctSymbolsDesc() {
-        return symbolMap.keySet().stream()
-                .sorted(Symbol.DESCENDING_BY_STRENGTH)
-                .collect(Collectors.toList());
-    }
-
-    private Stream<Symbol> distinctSymbols() {
-        return cards.stream()
-                .map(Card::symbol)
-                .distinct();
+        int presentSymbols = 0;
+        for (Color color : Color.values()) {
+            presentSymbols |= cards.symbolsOf(color);
+        }
+        return symbolsDesc(presentSymbols);
     }
 
     public Color mostCommonColor() {
-        return colorCountMap.entrySet().stream()
-                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
-                .map(Map.Entry::getKey)
-                .findFirst().orElseThrow();
+        return mostCommonColor(cards);
     }
 
-    private Stream<Symbol> symbolsThatArePresent(int numberOfTimesPresent) {
-        return symbolMap.entrySet().stream()
-                .filter(e -> hasValueOfSize(e, numberOfTimesPresent))
-                .map(Map.Entry::getKey);
+    public static Color mostCommonColor(CardSet cards) {
+        Color mostCommon = Color.values()[0];
+        for (Color color : Color.values()) {
+            if (cards.countOf(color) > cards.countOf(mostCommon)) {
+                mostCommon = color;
+            }
+        }
+        return mostCommon;
     }
 
-    private boolean hasValueOfSize(Map.Entry<Symbol, List<Card>> entry, int numberOfTimesPresent) {
-        final int value = entry.getValue().size();
-        return value == numberOfTimesPresent;
-    }
-
-    private Map<Symbol, List<Card>> createSymbolMap() {
-        final Map<Symbol, List<Card>> mutableMap = new EnumMap<>(Symbol.class);
-        final var symbols = distinctSymbols();
-        symbols.forEach(s -> mutableMap.put(s, new ArrayList<>()));
-        cards.forEach(c -> mutableMap.get(c.symbol()).add(c));
-        return Collections.unmodifiableMap(mutableMap);
-    }
-
-    private Map<Color, Long> createColorCountMap() {
-        return distinctColors(cards)
-                .collect(Collectors.toMap(
-                        color -> color,
-                        this::countOfColorIn
-                ));
-    }
-
-    private Stream<Color> distinctColors(List<Card> cards) {
-        return cards.stream()
-                .map(Card::color)
-                .distinct();
-    }
-
-    private long countOfColorIn(Color color) {
-        return cards.stream()
-                .filter(card -> card.color().equals(color))
-                .count();
+    private Stream<Symbol> symbolsThatArePresent(int numberOfTimesPresent) {
+        return Arrays.stream(Symbol.values())
+                .filter(symbol -> cards.countOf(symbol) == numberOfTimesPresent);
+    }
+
+    private static List<Symbol> symbolsDesc(int symbolMask) {
+        final Symbol[] symbols = Symbol.values();
+        final List<Symbol> result = new ArrayList<>(Integer.bitCount(symbolMask));
+        for (int ordinal = symbols.length - 1; ordinal >= 0; ordinal--) {
+            if ((symbolMask & (1 << ordinal)) != 0) {
+                result.add(symbols[ordinal]);
+            }
+        }
+        return result;
     }
 }
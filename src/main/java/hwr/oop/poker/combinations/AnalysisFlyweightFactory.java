@@ -1,27 +1,150 @@
 package hwr.oop.poker.combinations;
 
 import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
-class AnalysisFlyweightFactory {
+public class AnalysisFlyweightFactory {
+    private static final int DEFAULT_MAXIMUM_SIZE = 4096;
+    private static final int SEGMENTS = 16;
 
-    private final Map<Integer, AnalysisFlyweight> map;
+    private final Segment[] segments;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
 
-    public AnalysisFlyweightFactory() {
-        this.map = new HashMap<>();
+    public static AnalysisFlyweightFactory create() {
+        return create(EvictionPolicy.LRU, DEFAULT_MAXIMUM_SIZE);
     }
 
-    public AnalysisFlyweight get(List<Card> cards) {
-        final int hashCode = cards.hashCode();
-        if (map.containsKey(hashCode)) {
-            return map.get(hashCode);
-        } else {
-            final AnalysisFlyweight analysisFlyweight = AnalysisFlyweight.create(cards);
-            map.put(hashCode, analysisFlyweight);
-            return analysisFlyweight;
+    public static AnalysisFlyweightFactory create(EvictionPolicy policy, int maximumSize) {
+        return new AnalysisFlyweightFactory(policy, maximumSize);
+    }
+
+    private AnalysisFlyweightFactory(EvictionPolicy policy, int maximumSize) {
+        assertPositive(maximumSize);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        // fewer segments for small caches, a power of two so the segment is picked by a mask
+        this.segments = new Segment[Math.min(SEGMENTS, Integer.highestOneBit(maximumSize))];
+        // the segment sizes add up to the maximum size exactly, the first segments take the remainder
+        final int segmentSize = maximumSize / segments.length;
+        final int remainder = maximumSize % segments.length;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(policy, i < remainder ? segmentSize + 1 : segmentSize);
+        }
+    }
+
+    AnalysisFlyweight get(List<Card> cards) {
+        final CardSet cardSet = CardSet.of(cards);
+        final long key = cardSet.bits();
+        final Segment segment = segmentFor(key);
+        final AnalysisFlyweight cached = segment.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final AnalysisFlyweight created = AnalysisFlyweight.create(cardSet);  // created outside of the lock
+        return segment.putIfAbsent(key, created);
+    }
+
+    public Statistics statistics() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Segment segmentFor(long key) {
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return segments[(int) (mixed >>> 60) & (segments.length - 1)];
+    }
+
+    private void assertPositive(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size of cache must be positive, got " + maximumSize);
+        }
+    }
+
+    public enum EvictionPolicy {
+        LRU(true), FIFO(false);
+
+        private final boolean accessOrder;
+
+        EvictionPolicy(boolean accessOrder) {
+            this.accessOrder = accessOrder;
+        }
+    }
+
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        private Statistics(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long hits() {
+            return hits;
+        }
+
+        public long misses() {
+            return misses;
+        }
+
+        public long evictions() {
+            return evictions;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + '}';
+        }
+    }
+
+    private class Segment {
+        private final Map<Long, AnalysisFlyweight> map;
+
+        private Segment(EvictionPolicy policy, int maximumSize) {
+            this.map = new LinkedHashMap<>(16, 0.75f, policy.accessOrder) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, AnalysisFlyweight> eldest) {
+                    final boolean evict = size() > maximumSize;
+                    if (evict) {
+                        evictions.increment();
+                    }
+                    return evict;
+                }
+            };
+        }
+
+        private synchronized AnalysisFlyweight get(long key) {
+            return map.get(key);
+        }
+
+        private synchronized AnalysisFlyweight putIfAbsent(long key, AnalysisFlyweight analysis) {
+            final AnalysisFlyweight existing = map.putIfAbsent(key, analysis);
+            return existing == null ? analysis : existing;
+        }
+
+        private synchronized int size() {
+            return map.size();
         }
     }
 }
@@ -0,0 +1,165 @@
+package hwr.oop.poker.combinations;
+
+import hwr.oop.poker.CardSet;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// evaluates many hands into a caller owned int[] of strengths (see LookupTableEvaluator#strength, the label is in
+// the upper bits, see LookupTableEvaluator#label), nothing is allocated per hand
+// batches larger than MIN_HANDS_TO_SPLIT are split over the fork/join pool, every task writes its own range
+public class BatchEvaluator {
+    static final int MIN_HANDS_TO_SPLIT = 1 << 13;
+    private static final long ALL_CARDS = (1L << CardSet.NUMBER_OF_CARDS) - 1;
+
+    private final ForkJoinPool pool;
+    private final LookupTableEvaluator evaluator;
+
+    public static BatchEvaluator create() {
+        return create(ForkJoinPool.commonPool());
+    }
+
+    public static BatchEvaluator create(ForkJoinPool pool) {
+        return new BatchEvaluator(pool);
+    }
+
+    private BatchEvaluator(ForkJoinPool pool) {
+        this.pool = pool;
+        this.evaluator = LookupTableEvaluator.create();
+    }
+
+    // one hand per entry, as CardSet#bits
+    public void evaluate(long[] cardSets, int[] strengths) {
+        evaluate(cardSets, 0, cardSets.length, strengths);
+    }
+
+    // hands from (inclusive) to (exclusive), strengths[i] is written for cardSets[i]
+    public void evaluate(long[] cardSets, int from, int to, int[] strengths) {
+        assertRange(from, to, cardSets.length, strengths.length);
+        run(new CardSetTask(cardSets, strengths, from, to));
+    }
+
+    // cardsPerHand consecutive entries per hand, as Card#index
+    public void evaluate(int[] cards, int cardsPerHand, int[] strengths) {
+        if (cardsPerHand < 5 || cardsPerHand > 7) {
+            throw new IllegalArgumentException("Can only evaluate 5 to 7 cards, got " + cardsPerHand);
+        }
+        if (cards.length % cardsPerHand != 0) {
+            throw new IllegalArgumentException("Can not split " + cards.length + " cards into hands of "
+                    + cardsPerHand);
+        }
+        final int hands = cards.length / cardsPerHand;
+        assertRange(0, hands, hands, strengths.length);
+        run(new CardIndexTask(cards, cardsPerHand, strengths, 0, hands));
+    }
+
+    private void run(BatchTask task) {
+        if (task.to - task.from < MIN_HANDS_TO_SPLIT) {
+            task.compute();  // small batches stay on the calling thread
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    private static void assertRange(int from, int to, int hands, int strengths) {
+        if (from < 0 || from > to || to > hands) {
+            throw new IllegalArgumentException("Range [" + from + ", " + to + ") is outside of " + hands + " hands");
+        }
+        if (strengths < to) {
+            throw new IllegalArgumentException("Strengths must hold at least " + to + " values, got " + strengths);
+        }
+    }
+
+    private static long assertValidHand(long bits, int hand) {
+        final int size = Long.bitCount(bits);
+        if ((bits & ~ALL_CARDS) != 0 || size < 5 || size > 7) {
+            throw new IllegalArgumentException("Can only evaluate 5 to 7 cards, got " + size
+                    + " in hand " + hand + ": " + Long.toHexString(bits));
+        }
+        return bits;
+    }
+
+    private abstract class BatchTask extends RecursiveAction {
+        final int from;
+        final int to;
+
+        BatchTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        abstract BatchTask subTask(int from, int to);
+
+        abstract void evaluateRange();
+
+        @Override
+        protected void compute() {
+            if (to - from < MIN_HANDS_TO_SPLIT) {
+                evaluateRange();
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(subTask(from, middle), subTask(middle, to));
+        }
+    }
+
+    private class CardSetTask extends BatchTask {
+        private final long[] cardSets;
+        private final int[] strengths;
+
+        private CardSetTask(long[] cardSets, int[] strengths, int from, int to) {
+            super(from, to);
+            this.cardSets = cardSets;
+            this.strengths = strengths;
+        }
+
+        @Override
+        BatchTask subTask(int from, int to) {
+            return new CardSetTask(cardSets, strengths, from, to);
+        }
+
+        @Override
+        void evaluateRange() {
+            for (int hand = from; hand < to; hand++) {
+                strengths[hand] = evaluator.strength(assertValidHand(cardSets[hand], hand));
+            }
+        }
+    }
+
+    private class CardIndexTask extends BatchTask {
+        private final int[] cards;
+        private final int cardsPerHand;
+        private final int[] strengths;
+
+        private CardIndexTask(int[] cards, int cardsPerHand, int[] strengths, int from, int to) {
+            super(from, to);
+            this.cards = cards;
+            this.cardsPerHand = cardsPerHand;
+            this.strengths = strengths;
+        }
+
+        @Override
+        BatchTask subTask(int from, int to) {
+            return new CardIndexTask(cards, cardsPerHand, strengths, from, to);
+        }
+
+        @Override
+        void evaluateRange() {
+            for (int hand = from; hand < to; hand++) {
+                long bits = 0;
+                for (int i = hand * cardsPerHand; i < (hand + 1) * cardsPerHand; i++) {
+                    final int card = cards[i];
+                    if (card < 0 || card >= CardSet.NUMBER_OF_CARDS) {
+                        throw new IllegalArgumentException("Card index must be in [0, " + CardSet.NUMBER_OF_CARDS
+                                + "), got " + card + " in hand " + hand);
+                    }
+                    bits |= 1L << card;
+                }
+                if (Long.bitCount(bits) != cardsPerHand) {
+                    throw new IllegalArgumentException("Hand " + hand + " contains a card more than once");
+                }
+                strengths[hand] = evaluator.strength(bits);
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package hwr.oop.poker.combinations;
 
 import hwr.oop.poker.Card;
 import hwr.oop.poker.Color;
-import hwr.oop.poker.Symbol;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,7 +21,7 @@ class FlushMatchingStrategy implements CombinationDetectionStrategy {
     public Result match(List<Card> cards) {
         final var helper = flyweightFactory.get(cards);
         final var mostCommonColor = helper.mostCommonColor();
-        final var cardsOfColor = cardsOfColor(mostCommonColor, cards);
+        final var cardsOfColor = helper.cardsOfColorDesc(mostCommonColor);
         if (cardsOfColor.size() >= 5) {
             final int range = cardsOfColor.size() - 4;
             final List<List<Card>> candidates = IntStream.range(0, range)
@@ -41,15 +40,4 @@ class FlushMatchingStrategy implements CombinationDetectionStrategy {
                         candidate.stream().allMatch(card -> card.color().equals(mostCommonColor)));
     }
 
-    private List<Card> cardsOfColor(Color mostCommonColor, List<Card> cards) {
-        return cards.stream()
-                .filter(c -> c.color().equals(mostCommonColor))
-                .sorted(FlushMatchingStrategy::compareCardsBySymbol)
-                .collect(Collectors.toList());
-    }
-
-    private static int compareCardsBySymbol(Card o1, Card o2) {
-        return Symbol.DESCENDING_BY_STRENGTH.compare(o1.symbol(), o2.symbol());
-    }
-
 }
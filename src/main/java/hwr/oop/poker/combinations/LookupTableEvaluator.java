@@ -0,0 +1,237 @@
+package hwr.oop.poker.combinations;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Combination;
+
+import java.util.List;
+
+public class LookupTableEvaluator {
+
+    static final int RANKS = 13;
+    static final int RANK_MASK = (1 << RANKS) - 1;
+    private static final int LABEL_SHIFT = 20;
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final Combination.Label[] LABELS = Combination.Label.values();
+
+    public static LookupTableEvaluator create() {
+        return new LookupTableEvaluator();
+    }
+
+    private LookupTableEvaluator() {
+        // tables are shared, see Tables
+    }
+
+    public int strength(List<Card> cards) {
+        assertValidNumberOfCards(cards.size());
+        long bits = 0;
+        for (Card card : cards) {
+            bits |= CardSet.bitOf(card);
+        }
+        return strength(bits);
+    }
+
+    public int strength(CardSet cards) {
+        assertValidNumberOfCards(cards.size());
+        return strength(cards.bits());
+    }
+
+    // expects 5 to 7 bits set, see CardSet#bits
+    public int strength(long bits) {
+        for (int shift = 0; shift < 4 * RANKS; shift += RANKS) {
+            final int colorMask = (int) (bits >>> shift) & RANK_MASK;
+            if (Integer.bitCount(colorMask) >= 5) {  // flush table, looked up by the ranks of the flush color
+                return Tables.FLUSHES[colorMask];  // with at most 7 cards, nothing but a flush can beat a flush
+            }
+        }
+        long product = 1;  // one prime per rank, so the product identifies the ranks regardless of colors
+        for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            product *= PRIMES[Long.numberOfTrailingZeros(remaining) % RANKS];
+        }
+        return Tables.RANK_PRODUCTS.get(product);
+    }
+
+    public static Combination.Label label(int strength) {
+        return LABELS[strength >>> LABEL_SHIFT];
+    }
+
+    public static int rankAt(int strength, int position) {
+        return (strength >>> (16 - 4 * position)) & 0xF;
+    }
+
+    private void assertValidNumberOfCards(int size) {
+        if (size < 5 || size > 7) {
+            throw new IllegalArgumentException("Can only evaluate 5 to 7 cards, got " + size);
+        }
+    }
+
+    // label << 20 | r1 << 16 | ... | r5, ranks as Symbol#strength in order of relevance (so strengths compare like hands)
+    private static int encode(Combination.Label label, int... rankOrdinals) {
+        int strength = label.strength() << LABEL_SHIFT;
+        for (int i = 0; i < rankOrdinals.length; i++) {
+            strength |= (rankOrdinals[i] + 2) << (16 - 4 * i);
+        }
+        return strength;
+    }
+
+    private static int highestStraight(int rankMask) {
+        for (int top = RANKS - 1; top >= 4; top--) {
+            final int window = 0x1F << (top - 4);
+            if ((rankMask & window) == window) {
+                return top;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] highestRanks(int rankMask, int amount) {
+        final int[] ranks = new int[amount];
+        int found = 0;
+        for (int rank = RANKS - 1; rank >= 0 && found < amount; rank--) {
+            if ((rankMask & (1 << rank)) != 0) {
+                ranks[found++] = rank;
+            }
+        }
+        return ranks;
+    }
+
+    private static int[] prepend(int first, int[] others) {
+        final int[] result = new int[others.length + 1];
+        result[0] = first;
+        System.arraycopy(others, 0, result, 1, others.length);
+        return result;
+    }
+
+    private static int flushStrength(int colorMask) {
+        final int straightFlush = highestStraight(colorMask);
+        if (straightFlush >= 0) {
+            return encode(Combination.Label.STRAIGHT_FLUSH, straightFlush);
+        } else {
+            return encode(Combination.Label.FLUSH, highestRanks(colorMask, 5));
+        }
+    }
+
+    private static int rankStrength(int[] counts) {
+        int present = 0;
+        int quads = -1;
+        int highTrips = -1;
+        int lowTrips = -1;
+        int highPair = -1;
+        int lowPair = -1;
+        for (int rank = RANKS - 1; rank >= 0; rank--) {
+            final int count = counts[rank];
+            if (count > 0) {
+                present |= 1 << rank;
+            }
+            if (count == 4 && quads < 0) {
+                quads = rank;
+            } else if (count == 3) {
+                if (highTrips < 0) {
+                    highTrips = rank;
+                } else if (lowTrips < 0) {
+                    lowTrips = rank;
+                }
+            } else if (count == 2) {
+                if (highPair < 0) {
+                    highPair = rank;
+                } else if (lowPair < 0) {
+                    lowPair = rank;
+                }
+            }
+        }
+        if (quads >= 0) {
+            return encode(Combination.Label.QUADS, prepend(quads, highestRanks(present & ~(1 << quads), 1)));
+        }
+        if (highTrips >= 0 && (lowTrips >= 0 || highPair >= 0)) {
+            return encode(Combination.Label.FULL_HOUSE, highTrips, Math.max(lowTrips, highPair));
+        }
+        final int straight = highestStraight(present);
+        if (straight >= 0) {
+            return encode(Combination.Label.STRAIGHT, straight);
+        }
+        if (highTrips >= 0) {
+            return encode(Combination.Label.TRIPS, prepend(highTrips, highestRanks(present & ~(1 << highTrips), 2)));
+        }
+        if (lowPair >= 0) {
+            final int kickers = highestRanks(present & ~(1 << highPair) & ~(1 << lowPair), 1)[0];
+            return encode(Combination.Label.TWO_PAIRS, highPair, lowPair, kickers);
+        }
+        if (highPair >= 0) {
+            return encode(Combination.Label.PAIR, prepend(highPair, highestRanks(present & ~(1 << highPair), 3)));
+        }
+        return encode(Combination.Label.HIGH_CARD, highestRanks(present, 5));
+    }
+
+    private static class Tables {
+        private static final int[] FLUSHES = createFlushTable();
+        private static final ProductTable RANK_PRODUCTS = createRankProductTable();
+
+        private static int[] createFlushTable() {
+            final int[] table = new int[RANK_MASK + 1];
+            for (int mask = 0; mask <= RANK_MASK; mask++) {
+                if (Integer.bitCount(mask) >= 5) {
+                    table[mask] = flushStrength(mask);
+                }
+            }
+            return table;
+        }
+
+        private static ProductTable createRankProductTable() {
+            final ProductTable table = new ProductTable(1 << 17);
+            fill(table, new int[RANKS], 0, 0, 1);
+            return table;
+        }
+
+        private static void fill(ProductTable table, int[] counts, int rank, int cards, long product) {
+            if (rank == RANKS) {
+                if (cards >= 5) {
+                    table.put(product, rankStrength(counts));
+                }
+                return;
+            }
+            long currentProduct = product;
+            for (int count = 0; count <= 4 && cards + count <= 7; count++) {
+                counts[rank] = count;
+                fill(table, counts, rank + 1, cards + count, currentProduct);
+                currentProduct *= PRIMES[rank];
+            }
+            counts[rank] = 0;
+        }
+    }
+
+    private static class ProductTable {
+        private final long[] keys;
+        private final int[] values;
+        private final int mask;
+
+        private ProductTable(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private void put(long product, int strength) {
+            int slot = slotOf(product);
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = product;
+            values[slot] = strength;
+        }
+
+        private int get(long product) {
+            int slot = slotOf(product);
+            while (keys[slot] != product) {
+                if (keys[slot] == 0) {
+                    throw new IllegalArgumentException("Can only evaluate 5 to 7 cards, no entry for rank product " + product);
+                }
+                slot = (slot + 1) & mask;
+            }
+            return values[slot];
+        }
+
+        private int slotOf(long product) {
+            return (int) ((product * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        }
+    }
+}
@@ -9,8 +9,16 @@ public class MatchingStrategyFactory {
         return new MatchingStrategyFactory();
     }
 
+    public static MatchingStrategyFactory create(AnalysisFlyweightFactory sharedAnalysisCache) {
+        return new MatchingStrategyFactory(sharedAnalysisCache);
+    }
+
     public MatchingStrategyFactory() {
-        this.analysisFlyweightFactory = new AnalysisFlyweightFactory();
+        this(AnalysisFlyweightFactory.create());
+    }
+
+    private MatchingStrategyFactory(AnalysisFlyweightFactory analysisFlyweightFactory) {
+        this.analysisFlyweightFactory = analysisFlyweightFactory;
     }
 
     public List<CombinationDetectionStrategy> all() {
@@ -26,6 +34,19 @@ public class MatchingStrategyFactory {
         );
     }
 
+    public List<CombinationDetectionStrategy> descendingByStrength() {
+        return List.of(
+                createStraightFlush(),
+                createQuads(),
+                createFullHouse(),
+                createFlush(),
+                createStraight(),
+                createTrips(),
+                createTwoPair(),
+                createSinglePair()
+        );
+    }
+
     public CombinationDetectionStrategy createSinglePair() {
         return new PairMatchingStrategy(analysisFlyweightFactory);
     }
@@ -1,11 +1,11 @@
 package hwr.oop.poker.combinations;
 
 import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
 import hwr.oop.poker.Color;
 import hwr.oop.poker.Symbol;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -52,11 +52,7 @@ class StraightMatchingStrategy implements CombinationDetectionStrategy {
     }
 
     private Color mostCommonColor(List<Card> cardsWithSymbols) {
-        final var colorsAndCounts = colorCountMap(cardsWithSymbols);
-        return colorsAndCounts.entrySet().stream()
-                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
-                .map(Map.Entry::getKey)
-                .findFirst().orElseThrow();
+        return AnalysisFlyweight.mostCommonColor(CardSet.of(cardsWithSymbols));
     }
 
     private Card pickCardOfCorrectColor(Color mostCommonColor, List<Card> list) {
@@ -76,22 +72,6 @@ class StraightMatchingStrategy implements CombinationDetectionStrategy {
                 .map(helper::cardsWith);
     }
 
-    private Map<Color, Long> colorCountMap(List<Card> cardsWithSymbols) {
-        return cardsWithSymbols.stream()
-                .map(Card::color)
-                .distinct()
-                .collect(Collectors.toMap(
-                        color -> color,
-                        color -> countOfColorIn(color, cardsWithSymbols)
-                ));
-    }
-
-    private long countOfColorIn(Color color, List<Card> cards) {
-        return cards.stream()
-                .filter(card -> card.color().equals(color))
-                .count();
-    }
-
     private IntStream straightCandidateRanges(List<Symbol> symbols, int numberOfSymbols) {
         final int top = numberOfSymbols - 4;
         return IntStream.range(0, top)
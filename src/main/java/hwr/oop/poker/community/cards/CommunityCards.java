@@ -1,6 +1,7 @@
 package hwr.oop.poker.community.cards;
 
 import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -13,6 +14,7 @@ public class CommunityCards implements CommunityCardsProvider {
     private final Flop flop;
     private final Turn turn;
     private final River river;
+    private final CardSet cardSet;
 
     public static CommunityCardsProvider empty() {
         return new CommunityCards();
@@ -43,6 +45,7 @@ public class CommunityCards implements CommunityCardsProvider {
         this.flop = flop;
         this.turn = turn;
         this.river = river;
+        this.cardSet = CardSet.of(cardsDealt());
     }
 
     @Override
@@ -53,6 +56,11 @@ public class CommunityCards implements CommunityCardsProvider {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CardSet cardSet() {
+        return cardSet;
+    }
+
     @Override
     public Optional<Flop> flop() {
         return Optional.ofNullable(flop);
@@ -1,6 +1,7 @@
 package hwr.oop.poker.community.cards;
 
 import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -9,6 +10,10 @@ public interface CommunityCardsProvider {
 
     Collection<Card> cardsDealt();
 
+    default CardSet cardSet() {
+        return CardSet.of(cardsDealt());
+    }
+
     Optional<Flop> flop();
 
     Optional<Turn> turn();
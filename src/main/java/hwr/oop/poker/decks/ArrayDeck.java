@@ -0,0 +1,90 @@
+package hwr.oop.poker.decks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Deck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class ArrayDeck implements Deck {
+
+    private final byte[] cards;  // card indices, see Card#index
+    private final SplittableRandom random;
+    private int cursor;
+
+    public static ArrayDeck shuffled(long seed) {
+        return new ArrayDeck(new SplittableRandom(seed));
+    }
+
+    public static ArrayDeck shuffled(SplittableRandom random) {
+        return new ArrayDeck(random);
+    }
+
+    private ArrayDeck(SplittableRandom random) {
+        this.cards = new byte[Card.NUMBER_OF_CARDS];
+        this.random = random;
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) i;
+        }
+        reshuffle();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return cursor == cards.length;
+    }
+
+    @Override
+    public Card top() {
+        if (isEmpty()) {
+            throw new DrawFromEmptyDeckException("Cannot peek at top Card if Deck is empty");
+        }
+        return Card.fromIndex(cards[cursor]);
+    }
+
+    @Override
+    public void burn() {
+        if (isEmpty()) {
+            throw new DrawFromEmptyDeckException("Cannot burn card if Deck is empty");
+        }
+        cursor++;
+    }
+
+    @Override
+    public Card draw() {
+        if (isEmpty()) {
+            throw new DrawFromEmptyDeckException("Cannot #draw if Deck #isEmpty");
+        }
+        return Card.fromIndex(cards[cursor++]);
+    }
+
+    @Override
+    public List<Card> drawAllCards() {
+        final List<Card> drawn = new ArrayList<>(remaining());
+        while (!isEmpty()) {
+            drawn.add(Card.fromIndex(cards[cursor++]));
+        }
+        return drawn;
+    }
+
+    public int remaining() {
+        return cards.length - cursor;
+    }
+
+    // puts all cards back in the order they were dealt
+    public void reset() {
+        cursor = 0;
+    }
+
+    // puts all cards back and shuffles them in place (Fisher-Yates), nothing is allocated
+    public void reshuffle() {
+        cursor = 0;
+        for (int i = cards.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final byte swapped = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swapped;
+        }
+    }
+}
@@ -1,32 +1,41 @@
 package hwr.oop.poker.decks;
 
 import hwr.oop.poker.Card;
-import hwr.oop.poker.Color;
 import hwr.oop.poker.Deck;
-import hwr.oop.poker.Symbol;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 public class RandomDeck implements Deck {
 
-    private final List<Card> cards;
+    private final Card[] cards;
+    private final RandomSource random;
+    private int cursor;
+    private int shuffled;  // cards before this position are at their final place
+
+    public static RandomDeck seeded(long seed) {
+        return new RandomDeck(RandomSource.seeded(seed));
+    }
 
     public RandomDeck() {
-        this.cards = new ArrayList<>();
-        for (Color color : Color.values()) {
-            for (Symbol symbol : Symbol.values()) {
-                final Card card = new Card(color, symbol);
-                this.cards.add(card);
-            }
+        this(RandomSource.threadLocal());
+    }
+
+    public RandomDeck(RandomSource random) {
+        this(random, Shuffle.EAGER);
+    }
+
+    public RandomDeck(RandomSource random, Shuffle shuffle) {
+        this.cards = new Card[Card.NUMBER_OF_CARDS];
+        this.random = random;
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = Card.fromIndex(i);
+        }
+        if (shuffle == Shuffle.EAGER) {
+            shuffleUpTo(cards.length);
         }
-        Collections.shuffle(cards);
     }
 
     @Override
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return cursor == cards.length;
     }
 
     @Override
@@ -34,7 +43,8 @@ public class RandomDeck implements Deck {
         if (isEmpty()) {
             throw new DrawFromEmptyDeckException("Cannot peek at top Card if Deck is empty");
         }
-        return cards.get(0);
+        shuffleUpTo(cursor + 1);
+        return cards[cursor];
     }
 
     @Override
@@ -42,6 +52,24 @@ public class RandomDeck implements Deck {
         if (isEmpty()) {
             throw new DrawFromEmptyDeckException("Cannot burn card if Deck is empty");
         }
-        cards.remove(0);
+        shuffleUpTo(cursor + 1);
+        cursor++;
+    }
+
+    // Fisher-Yates from the top, so shuffling lazily and eagerly yield the same order for the same random source
+    private void shuffleUpTo(int position) {
+        for (; shuffled < position; shuffled++) {
+            final int other = shuffled + random.nextInt(cards.length - shuffled);
+            final Card swapped = cards[shuffled];
+            cards[shuffled] = cards[other];
+            cards[other] = swapped;
+        }
+    }
+
+    public enum Shuffle {
+        // shuffles all 52 cards on construction
+        EAGER,
+        // only fixes the position of a card once it is dealt, a heads-up hand deals 12 of 52 cards (burns included)
+        LAZY
     }
 }
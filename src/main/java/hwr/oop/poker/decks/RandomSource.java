@@ -0,0 +1,29 @@
+package hwr.oop.poker.decks;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+@FunctionalInterface
+public interface RandomSource {
+
+    // uniformly distributed in [0, bound)
+    int nextInt(int bound);
+
+    static RandomSource seeded(long seed) {
+        return of(new SplittableRandom(seed));
+    }
+
+    static RandomSource of(SplittableRandom random) {
+        return random::nextInt;
+    }
+
+    static RandomSource of(Random random) {
+        return random::nextInt;
+    }
+
+    // resolves the generator of the calling thread on every call, never shared between threads
+    static RandomSource threadLocal() {
+        return bound -> ThreadLocalRandom.current().nextInt(bound);
+    }
+}
@@ -0,0 +1,56 @@
+package hwr.oop.poker.decks;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Deck;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// remembers every card taken from the wrapped deck (burned cards included), so a hand can be dealt again
+public class RecordingDeck implements Deck {
+    private final Deck deck;
+    private final List<Card> dealt;
+
+    public static RecordingDeck of(Deck deck) {
+        return new RecordingDeck(deck);
+    }
+
+    private RecordingDeck(Deck deck) {
+        this.deck = deck;
+        this.dealt = new ArrayList<>();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return deck.isEmpty();
+    }
+
+    @Override
+    public Card top() {
+        return deck.top();
+    }
+
+    @Override
+    public void burn() {
+        dealt.add(deck.top());
+        deck.burn();
+    }
+
+    @Override
+    public Card draw() {
+        final Card card = deck.draw();
+        dealt.add(card);
+        return card;
+    }
+
+    // in the order the cards were taken
+    public List<Card> dealt() {
+        return Collections.unmodifiableList(dealt);
+    }
+
+    // a deck that deals the recorded cards in the same order
+    public Deck replay() {
+        return new TestDoubleDeck(dealt.toArray(new Card[0]));
+    }
+}
@@ -0,0 +1,67 @@
+package hwr.oop.poker.equity;
+
+import java.util.Objects;
+
+public class Equity {
+    private final long wins;
+    private final long ties;
+    private final long tieUnits;
+    private final long showDowns;
+
+    Equity(long wins, long ties, long tieUnits, long showDowns) {
+        this.wins = wins;
+        this.ties = ties;
+        this.tieUnits = tieUnits;
+        this.showDowns = showDowns;
+    }
+
+    public long wins() {
+        return wins;
+    }
+
+    public long ties() {
+        return ties;
+    }
+
+    public long losses() {
+        return showDowns - wins - ties;
+    }
+
+    public double win() {
+        return (double) wins / showDowns;
+    }
+
+    public double tie() {
+        return (double) ties / showDowns;
+    }
+
+    public double lose() {
+        return (double) losses() / showDowns;
+    }
+
+    public double equity() {
+        return (wins * Tally.TIE_UNITS + tieUnits) / (double) (showDowns * Tally.TIE_UNITS);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Equity that = (Equity) o;
+        return wins == that.wins && ties == that.ties && tieUnits == that.tieUnits && showDowns == that.showDowns;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(wins, ties, tieUnits, showDowns);
+    }
+
+    @Override
+    public String toString() {
+        return "Equity{win=" + win() + ", tie=" + tie() + ", lose=" + lose() + ", equity=" + equity() + '}';
+    }
+}
@@ -0,0 +1,173 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.HoleCards;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
+import hwr.oop.poker.community.cards.CommunityCardsProvider;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class EquityCalculator {
+    private static final int TRIALS_PER_CHUNK = 4096;
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+    private final LookupTableEvaluator evaluator;
+
+    public static EquityCalculator create() {
+        return create(ForkJoinPool.commonPool());
+    }
+
+    public static EquityCalculator create(ForkJoinPool pool) {
+        return new EquityCalculator(pool);
+    }
+
+    private EquityCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+        this.evaluator = LookupTableEvaluator.create();
+    }
+
+    public EquityResult sample(HoleCards holeCards, List<Player> players, CommunityCardsProvider communityCards,
+                               long trials, long seed) {
+        assertPositive(trials);
+        final Situation situation = Situation.create(holeCards, players, communityCards);
+        final long chunks = (trials + TRIALS_PER_CHUNK - 1) / TRIALS_PER_CHUNK;
+        final Tally tally = pool.invoke(new SamplingTask(situation, trials, seed, 0, chunks));
+        return EquityResult.create(players, tally);
+    }
+
+    public EquityResult enumerate(HoleCards holeCards, List<Player> players, CommunityCardsProvider communityCards) {
+        final Situation situation = Situation.create(holeCards, players, communityCards);
+        final Tally tally = pool.invoke(new EnumerationTask(situation, 0, situation.remainingCards().length));
+        return EquityResult.create(players, tally);
+    }
+
+    private void score(Situation situation, long board, int[] strengths, Tally tally) {
+        for (int seat = 0; seat < strengths.length; seat++) {
+            strengths[seat] = evaluator.strength(board | situation.holeCards(seat));
+        }
+        tally.record(strengths);
+    }
+
+    private void assertPositive(long trials) {
+        if (trials <= 0) {
+            throw new InvalidSituationException("Number of trials must be positive, got " + trials);
+        }
+    }
+
+    // every chunk of trials has its own generator derived from the seed, so results do not depend on scheduling
+    private class SamplingTask extends RecursiveTask<Tally> {
+        private final Situation situation;
+        private final long trials;
+        private final long seed;
+        private final long fromChunk;
+        private final long toChunk;
+
+        private SamplingTask(Situation situation, long trials, long seed, long fromChunk, long toChunk) {
+            this.situation = situation;
+            this.trials = trials;
+            this.seed = seed;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (toChunk - fromChunk == 1) {
+                return sampleChunk(fromChunk);
+            }
+            final long middle = (fromChunk + toChunk) >>> 1;
+            final SamplingTask left = new SamplingTask(situation, trials, seed, fromChunk, middle);
+            final SamplingTask right = new SamplingTask(situation, trials, seed, middle, toChunk);
+            left.fork();
+            final Tally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+
+        private Tally sampleChunk(long chunk) {
+            final SplittableRandom random = new SplittableRandom(seed + chunk * SEED_GAMMA);
+            final long trialsInChunk = Math.min(TRIALS_PER_CHUNK, trials - chunk * TRIALS_PER_CHUNK);
+            final int[] deck = situation.remainingCards();
+            final int cardsToDeal = situation.cardsToDeal();
+            final int[] strengths = new int[situation.numberOfPlayers()];
+            final Tally tally = new Tally(situation.numberOfPlayers());
+            for (long trial = 0; trial < trialsInChunk; trial++) {
+                long board = situation.board();
+                for (int i = 0; i < cardsToDeal; i++) {  // partial Fisher-Yates, only shuffles the cards dealt
+                    final int j = i + random.nextInt(deck.length - i);
+                    final int card = deck[j];
+                    deck[j] = deck[i];
+                    deck[i] = card;
+                    board |= 1L << card;
+                }
+                score(situation, board, strengths, tally);
+            }
+            return tally;
+        }
+    }
+
+    // splits on the first card dealt, every task walks all runouts starting with its cards
+    private class EnumerationTask extends RecursiveTask<Tally> {
+        private static final int MIN_CARDS_TO_SPLIT = 3;
+
+        private final Situation situation;
+        private final int fromCard;
+        private final int toCard;
+
+        private EnumerationTask(Situation situation, int fromCard, int toCard) {
+            this.situation = situation;
+            this.fromCard = fromCard;
+            this.toCard = toCard;
+        }
+
+        @Override
+        protected Tally compute() {
+            final int cardsToDeal = situation.cardsToDeal();
+            if (cardsToDeal < MIN_CARDS_TO_SPLIT || toCard - fromCard == 1) {
+                return enumerateRange(cardsToDeal);
+            }
+            final int middle = (fromCard + toCard) >>> 1;
+            final EnumerationTask left = new EnumerationTask(situation, fromCard, middle);
+            final EnumerationTask right = new EnumerationTask(situation, middle, toCard);
+            left.fork();
+            final Tally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+
+        private Tally enumerateRange(int cardsToDeal) {
+            final int[] deck = situation.remainingCards();
+            final int[] strengths = new int[situation.numberOfPlayers()];
+            final Tally tally = new Tally(situation.numberOfPlayers());
+            if (cardsToDeal == 0) {
+                if (fromCard == 0) {
+                    score(situation, situation.board(), strengths, tally);
+                }
+                return tally;
+            }
+            for (int first = fromCard; first < toCard; first++) {
+                final long board = situation.board() | 1L << deck[first];
+                enumerateRunouts(deck, first + 1, cardsToDeal - 1, board, strengths, tally);
+            }
+            return tally;
+        }
+
+        private void enumerateRunouts(int[] deck, int start, int cardsLeft, long board, int[] strengths, Tally tally) {
+            if (cardsLeft == 0) {
+                score(situation, board, strengths, tally);
+                return;
+            }
+            for (int i = start; i <= deck.length - cardsLeft; i++) {
+                enumerateRunouts(deck, i + 1, cardsLeft - 1, board | 1L << deck[i], strengths, tally);
+            }
+        }
+    }
+
+    public static class InvalidSituationException extends RuntimeException {
+        public InvalidSituationException(String message) {
+            super(message);
+        }
+    }
+}
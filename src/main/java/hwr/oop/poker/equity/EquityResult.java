@@ -0,0 +1,44 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Player;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EquityResult {
+    private final Map<Player, Equity> equities;
+    private final long showDowns;
+
+    static EquityResult create(List<Player> players, Tally tally) {
+        final Map<Player, Equity> map = new LinkedHashMap<>();
+        for (int seat = 0; seat < players.size(); seat++) {
+            final var equity = new Equity(tally.wins(seat), tally.ties(seat), tally.tieUnits(seat), tally.showDowns());
+            map.put(players.get(seat), equity);
+        }
+        return new EquityResult(Collections.unmodifiableMap(map), tally.showDowns());
+    }
+
+    private EquityResult(Map<Player, Equity> equities, long showDowns) {
+        this.equities = equities;
+        this.showDowns = showDowns;
+    }
+
+    public Equity of(Player player) {
+        return equities.get(player);
+    }
+
+    public Map<Player, Equity> all() {
+        return equities;
+    }
+
+    public long showDowns() {
+        return showDowns;
+    }
+
+    @Override
+    public String toString() {
+        return "EquityResult{" + equities + ", showDowns=" + showDowns + '}';
+    }
+}
@@ -0,0 +1,360 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Color;
+import hwr.oop.poker.Symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// weights in [0, 1] for each of the 1326 two card combos, immutable
+// notation: comma separated tokens with an optional ":weight", e.g. "QQ+, AKs, AQo:0.5, A5s-A2s, KsQs, 15%"
+//   pairs "TT", "TT+", "TT-77"; hands "AK" (suited and offsuit), "AKs", "AKo", "KTs+" (kicker up to below the
+//   high card), "K9o-K6o"; combos "AsKh" with colors s, h, d, c; "15%" the top 15% of classes, see #top
+public final class HandRange {
+    public static final int COMBOS = Card.NUMBER_OF_CARDS * (Card.NUMBER_OF_CARDS - 1) / 2;
+    private static final int SYMBOLS = 13;
+    private static final Symbol[] SYMBOL_VALUES = Symbol.values();
+    private static final int[] COMBO_OF = new int[Card.NUMBER_OF_CARDS * Card.NUMBER_OF_CARDS];  // by first * 52 + second
+    private static final long[] BITS_OF = new long[COMBOS];  // CardSet#bits by combo
+    private static final HandRange EMPTY = new HandRange(new double[COMBOS]);
+
+    static {
+        int combo = 0;
+        for (int first = 0; first < Card.NUMBER_OF_CARDS; first++) {
+            for (int second = first + 1; second < Card.NUMBER_OF_CARDS; second++) {
+                COMBO_OF[first * Card.NUMBER_OF_CARDS + second] = combo;
+                COMBO_OF[second * Card.NUMBER_OF_CARDS + first] = combo;
+                BITS_OF[combo] = 1L << first | 1L << second;
+                combo++;
+            }
+        }
+    }
+
+    private final double[] weights;  // by combo
+
+    public static HandRange empty() {
+        return EMPTY;
+    }
+
+    public static HandRange parse(String notation) {
+        final double[] weights = new double[COMBOS];
+        for (String part : notation.split(",", -1)) {
+            final String token = part.trim();
+            if (token.isEmpty()) {
+                throw new InvalidRangeException("Empty token in \"" + notation + "\"");
+            }
+            final int colon = token.indexOf(':');
+            final double weight = colon < 0 ? 1.0 : parseWeight(token.substring(colon + 1), token);
+            final String hands = colon < 0 ? token : token.substring(0, colon).trim();
+            for (long combo : combosOf(hands)) {
+                weights[comboOf(combo)] = weight;
+            }
+        }
+        return new HandRange(weights);
+    }
+
+    // best preflop classes by equity against a random hand (see PreflopEquityTable) until the fraction of all combos
+    // is reached, whole classes only
+    public static HandRange top(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new InvalidRangeException("Fraction must be in [0, 1], got " + fraction);
+        }
+        final double[] weights = new double[COMBOS];
+        int combos = 0;
+        for (int handClass : ClassRanking.BEST_FIRST) {
+            if (combos >= fraction * COMBOS) {
+                break;
+            }
+            for (long combo : SuitIsomorphism.preflopCombos(handClass)) {
+                weights[comboOf(combo)] = 1.0;
+            }
+            combos += SuitIsomorphism.combos(handClass);
+        }
+        return new HandRange(weights);
+    }
+
+    private HandRange(double[] weights) {
+        this.weights = weights;
+    }
+
+    public double weight(Card first, Card second) {
+        if (first == second) {
+            return 0;
+        }
+        return weights[COMBO_OF[first.index() * Card.NUMBER_OF_CARDS + second.index()]];
+    }
+
+    public HandRange with(Card first, Card second, double weight) {
+        if (first == second) {
+            throw new InvalidRangeException("Can not combine " + first + " with itself");
+        }
+        assertWeight(weight, first + ", " + second);
+        final double[] copy = weights.clone();
+        copy[COMBO_OF[first.index() * Card.NUMBER_OF_CARDS + second.index()]] = weight;
+        return new HandRange(copy);
+    }
+
+    // blockers: combos that contain a known card (e.g. of the board) can not be held
+    public HandRange withoutCards(CardSet cards) {
+        final double[] copy = weights.clone();
+        for (int combo = 0; combo < COMBOS; combo++) {
+            if ((BITS_OF[combo] & cards.bits()) != 0) {
+                copy[combo] = 0;
+            }
+        }
+        return new HandRange(copy);
+    }
+
+    // combos with a weight above 0
+    public int size() {
+        int size = 0;
+        for (double weight : weights) {
+            size += weight > 0 ? 1 : 0;
+        }
+        return size;
+    }
+
+    public double weightedCombos() {
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public List<CardSet> combos() {
+        final List<CardSet> combos = new ArrayList<>();
+        for (int combo = 0; combo < COMBOS; combo++) {
+            if (weights[combo] > 0) {
+                combos.add(CardSet.ofBits(BITS_OF[combo]));
+            }
+        }
+        return combos;
+    }
+
+    double weight(int combo) {
+        return weights[combo];
+    }
+
+    static long bitsOf(int combo) {
+        return BITS_OF[combo];
+    }
+
+    static int comboOf(long bits) {
+        final int first = Long.numberOfTrailingZeros(bits);
+        final int second = 63 - Long.numberOfLeadingZeros(bits);
+        return COMBO_OF[first * Card.NUMBER_OF_CARDS + second];
+    }
+
+    // same weights after moving every card to the color at permutation[color]
+    boolean isInvariantUnder(int[] permutation) {
+        for (int combo = 0; combo < COMBOS; combo++) {
+            if (weights[combo] != weights[comboOf(permute(BITS_OF[combo], permutation))]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long permute(long bits, int[] permutation) {
+        long permuted = 0;
+        for (int color = 0; color < permutation.length; color++) {
+            permuted |= (bits >>> (color * SYMBOLS) & (1L << SYMBOLS) - 1) << (permutation[color] * SYMBOLS);
+        }
+        return permuted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HandRange that = (HandRange) o;
+        return Arrays.equals(weights, that.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+
+    @Override
+    public String toString() {
+        return "HandRange{combos=" + size() + ", weighted=" + weightedCombos() + '}';
+    }
+
+    private static long[] combosOf(String hands) {
+        if (hands.endsWith("%")) {
+            final double percent;
+            try {
+                percent = Double.parseDouble(hands.substring(0, hands.length() - 1));
+            } catch (NumberFormatException e) {
+                throw new InvalidRangeException("Invalid percentage \"" + hands + "\"");
+            }
+            if (!(percent >= 0 && percent <= 100)) {
+                throw new InvalidRangeException("Percentage must be in [0, 100], got \"" + hands + "\"");
+            }
+            return top(percent / 100).combosBits();
+        }
+        if (hands.length() == 4 && Character.isLowerCase(hands.charAt(1)) && Character.isLowerCase(hands.charAt(3))) {
+            final Card first = cardOf(hands.charAt(0), hands.charAt(1), hands);
+            final Card second = cardOf(hands.charAt(2), hands.charAt(3), hands);
+            if (first == second) {
+                throw new InvalidRangeException("Can not combine a card with itself in \"" + hands + "\"");
+            }
+            return new long[]{CardSet.bitOf(first) | CardSet.bitOf(second)};
+        }
+        final List<Integer> classes = new ArrayList<>();
+        final int dash = hands.indexOf('-');
+        if (dash >= 0) {
+            classesBetween(hands.substring(0, dash), hands.substring(dash + 1), hands, classes);
+        } else if (hands.endsWith("+")) {
+            classesAbove(hands.substring(0, hands.length() - 1), hands, classes);
+        } else {
+            classesOf(hands, classes);
+        }
+        final List<Long> combos = new ArrayList<>();
+        for (int handClass : classes) {
+            for (long combo : SuitIsomorphism.preflopCombos(handClass)) {
+                combos.add(combo);
+            }
+        }
+        return combos.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long[] combosBits() {
+        return combos().stream().mapToLong(CardSet::bits).toArray();
+    }
+
+    // "AK" stands for both "AKs" and "AKo"
+    private static void classesOf(String hands, List<Integer> classes) {
+        if (hands.length() == 2 && hands.charAt(0) != hands.charAt(1)) {
+            classes.add(classOf(hands + "s"));
+            classes.add(classOf(hands + "o"));
+        } else {
+            classes.add(classOf(hands));
+        }
+    }
+
+    private static void classesAbove(String lowest, String hands, List<Integer> classes) {
+        final int handClass = classOf(lowest.length() == 2 && lowest.charAt(0) != lowest.charAt(1)
+                ? lowest + "s" : lowest);
+        final int high = SuitIsomorphism.highSymbol(handClass).ordinal();
+        final int low = SuitIsomorphism.lowSymbol(handClass).ordinal();
+        if (high == low) {
+            for (int pair = low; pair < SYMBOLS; pair++) {
+                classesOf(nameOf(pair, pair, ""), classes);
+            }
+        } else {
+            for (int kicker = low; kicker < high; kicker++) {
+                classesOf(nameOf(high, kicker, lowest.substring(2)), classes);
+            }
+        }
+        if (classes.isEmpty()) {
+            throw new InvalidRangeException("Nothing above \"" + hands + "\"");
+        }
+    }
+
+    private static void classesBetween(String from, String to, String hands, List<Integer> classes) {
+        final int fromClass = classOf(from.length() == 2 && from.charAt(0) != from.charAt(1) ? from + "s" : from);
+        final int toClass = classOf(to.length() == 2 && to.charAt(0) != to.charAt(1) ? to + "s" : to);
+        final int fromHigh = SuitIsomorphism.highSymbol(fromClass).ordinal();
+        final int toHigh = SuitIsomorphism.highSymbol(toClass).ordinal();
+        final int fromLow = SuitIsomorphism.lowSymbol(fromClass).ordinal();
+        final int toLow = SuitIsomorphism.lowSymbol(toClass).ordinal();
+        final boolean pairs = fromHigh == fromLow && toHigh == toLow;
+        if (pairs) {
+            for (int pair = Math.min(fromLow, toLow); pair <= Math.max(fromLow, toLow); pair++) {
+                classesOf(nameOf(pair, pair, ""), classes);
+            }
+        } else if (fromHigh == toHigh && fromHigh != fromLow && toHigh != toLow
+                && from.substring(2).equals(to.substring(2))) {
+            for (int kicker = Math.min(fromLow, toLow); kicker <= Math.max(fromLow, toLow); kicker++) {
+                classesOf(nameOf(fromHigh, kicker, from.substring(2)), classes);
+            }
+        } else {
+            throw new InvalidRangeException("Spans need pairs or the same high card and suitedness, got \""
+                    + hands + "\"");
+        }
+    }
+
+    private static String nameOf(int high, int low, String suffix) {
+        return SYMBOL_VALUES[high].stringRepresentation() + SYMBOL_VALUES[low].stringRepresentation() + suffix;
+    }
+
+    private static int classOf(String name) {
+        try {
+            return SuitIsomorphism.preflopClassOf(name);
+        } catch (SuitIsomorphism.InvalidHandClassException e) {
+            throw new InvalidRangeException(e.getMessage());
+        }
+    }
+
+    private static Card cardOf(char symbol, char color, String hands) {
+        for (Symbol candidate : SYMBOL_VALUES) {
+            if (candidate.stringRepresentation().charAt(0) == symbol) {
+                for (Color colorCandidate : Color.values()) {
+                    if (colorCandidate.stringRepresentation().charAt(0) == Character.toUpperCase(color)) {
+                        return Card.of(colorCandidate, candidate);
+                    }
+                }
+            }
+        }
+        throw new InvalidRangeException("Unknown card \"" + symbol + color + "\" in \"" + hands + "\"");
+    }
+
+    private static double parseWeight(String value, String token) {
+        final double weight;
+        try {
+            weight = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidRangeException("Invalid number \"" + value + "\" in \"" + token + "\"");
+        }
+        assertWeight(weight, token);
+        return weight;
+    }
+
+    private static void assertWeight(double weight, String token) {
+        if (!(weight >= 0 && weight <= 1)) {
+            throw new InvalidRangeException("Weight must be in [0, 1], got " + weight + " for " + token);
+        }
+    }
+
+    // preflop classes by their equity against a random hand, best first, computed once from the table
+    private static class ClassRanking {
+        private static final List<Integer> BEST_FIRST = rank();
+
+        private static List<Integer> rank() {
+            final PreflopEquityTable table = PreflopEquityTable.create();
+            final double[] equities = new double[SuitIsomorphism.PREFLOP_CLASSES];
+            final List<Integer> classes = new ArrayList<>();
+            for (int handClass = 0; handClass < SuitIsomorphism.PREFLOP_CLASSES; handClass++) {
+                double sum = 0;
+                for (int opponent = 0; opponent < SuitIsomorphism.PREFLOP_CLASSES; opponent++) {
+                    sum += SuitIsomorphism.combos(opponent) * table.equity(handClass, opponent);
+                }
+                equities[handClass] = sum / COMBOS;
+                classes.add(handClass);
+            }
+            classes.sort(Comparator.comparingDouble((Integer handClass) -> equities[handClass]).reversed());
+            return List.copyOf(classes);
+        }
+    }
+
+    public static class InvalidRangeException extends RuntimeException {
+        public InvalidRangeException(String message) {
+            super(message);
+        }
+    }
+}
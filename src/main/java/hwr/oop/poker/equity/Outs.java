@@ -0,0 +1,120 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Combination;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// result of OutsAnalyzer, strengths by card index, the sets of cards are kept as CardSet bits
+public class Outs {
+    static final int CARDS = Card.NUMBER_OF_CARDS;
+
+    private final int strength;
+    private final int opponentStrength;
+    private final int[] strengths;
+    private final int[] opponentStrengths;
+    private final long unseen;
+    private final long improvingLabel;
+    private final long improvingShowdown;
+    private final long worseningShowdown;
+
+    Outs(int strength, int opponentStrength, int[] strengths, int[] opponentStrengths, long unseen) {
+        this.strength = strength;
+        this.opponentStrength = opponentStrength;
+        this.strengths = strengths;
+        this.opponentStrengths = opponentStrengths;
+        this.unseen = unseen;
+        final Combination.Label label = LookupTableEvaluator.label(strength);
+        final Showdown showdown = Showdown.of(strength, opponentStrength);
+        long improvingLabel = 0;
+        long improvingShowdown = 0;
+        long worseningShowdown = 0;
+        for (long remaining = unseen; remaining != 0; remaining &= remaining - 1) {
+            final int card = Long.numberOfTrailingZeros(remaining);
+            final int comparison = Showdown.of(strengths[card], opponentStrengths[card]).compareTo(showdown);
+            improvingLabel |= LookupTableEvaluator.label(strengths[card]).compareTo(label) > 0 ? 1L << card : 0;
+            improvingShowdown |= comparison > 0 ? 1L << card : 0;
+            worseningShowdown |= comparison < 0 ? 1L << card : 0;
+        }
+        this.improvingLabel = improvingLabel;
+        this.improvingShowdown = improvingShowdown;
+        this.worseningShowdown = worseningShowdown;
+    }
+
+    public Combination.Label label() {
+        return LookupTableEvaluator.label(strength);
+    }
+
+    public Showdown showdown() {
+        return Showdown.of(strength, opponentStrength);
+    }
+
+    // cards neither on the board nor in the hole cards of any player
+    public CardSet unseen() {
+        return CardSet.ofBits(unseen);
+    }
+
+    public Combination.Label labelWith(Card card) {
+        return LookupTableEvaluator.label(strengths[indexOfUnseen(card)]);
+    }
+
+    public Showdown showdownWith(Card card) {
+        final int index = indexOfUnseen(card);
+        return Showdown.of(strengths[index], opponentStrengths[index]);
+    }
+
+    // cards that give a better label, even if the board improves the opponents as well
+    public CardSet improvingLabel() {
+        return CardSet.ofBits(improvingLabel);
+    }
+
+    // outs, cards that turn a losing showdown into a tie or win, or a tie into a win
+    public CardSet improvingShowdown() {
+        return CardSet.ofBits(improvingShowdown);
+    }
+
+    // cards that turn a winning showdown into a tie or loss, or a tie into a loss
+    public CardSet worseningShowdown() {
+        return CardSet.ofBits(worseningShowdown);
+    }
+
+    // number of unseen cards by the label they give
+    public Map<Combination.Label, Integer> countsByLabel() {
+        final Map<Combination.Label, Integer> counts = new EnumMap<>(Combination.Label.class);
+        for (long remaining = unseen; remaining != 0; remaining &= remaining - 1) {
+            counts.merge(LookupTableEvaluator.label(strengths[Long.numberOfTrailingZeros(remaining)]), 1, Integer::sum);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private int indexOfUnseen(Card card) {
+        final int index = card.index();
+        if ((unseen & 1L << index) == 0) {
+            throw new EquityCalculator.InvalidSituationException(card + " is not an unseen card");
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "Outs{label=" + label() + ", showdown=" + showdown() + ", improvingLabel="
+                + Long.bitCount(improvingLabel) + ", improvingShowdown=" + Long.bitCount(improvingShowdown)
+                + ", worseningShowdown=" + Long.bitCount(worseningShowdown) + ", unseen=" + Long.bitCount(unseen) + '}';
+    }
+
+    // ordered from worst to best
+    public enum Showdown {
+        BEHIND, TIED, AHEAD;
+
+        private static Showdown of(int strength, int opponentStrength) {
+            if (strength > opponentStrength) {
+                return AHEAD;
+            }
+            return strength == opponentStrength ? TIED : BEHIND;
+        }
+    }
+}
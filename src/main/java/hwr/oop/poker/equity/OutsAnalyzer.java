@@ -0,0 +1,59 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.HoleCards;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
+import hwr.oop.poker.community.cards.CommunityCardsProvider;
+
+import java.util.List;
+
+// which unseen card improves a player on the flop or turn, each card is one more bit on the board and the hands are
+// evaluated by table lookups, so a query is about one evaluation per unseen card and player
+public class OutsAnalyzer {
+    private final LookupTableEvaluator evaluator;
+
+    public static OutsAnalyzer create() {
+        return new OutsAnalyzer();
+    }
+
+    private OutsAnalyzer() {
+        this.evaluator = LookupTableEvaluator.create();
+    }
+
+    // the showdown is against the best hand of the other players
+    public Outs analyze(HoleCards holeCards, List<Player> players, Player player,
+                        CommunityCardsProvider communityCards) {
+        final int seat = players.indexOf(player);
+        if (seat < 0) {
+            throw new EquityCalculator.InvalidSituationException(player + " is not one of " + players);
+        }
+        final Situation situation = Situation.create(holeCards, players, communityCards);
+        if (situation.cardsToDeal() == 0 || situation.cardsToDeal() > 2) {
+            throw new EquityCalculator.InvalidSituationException("Outs need a flop or a turn, got "
+                    + communityCards.cardSet());
+        }
+        final long board = situation.board();
+        final long cards = situation.holeCards(seat);
+        final int[] strengths = new int[Outs.CARDS];
+        final int[] opponentStrengths = new int[Outs.CARDS];
+        long unseen = 0;
+        for (int card : situation.remainingCards()) {
+            final long nextBoard = board | 1L << card;
+            strengths[card] = evaluator.strength(nextBoard | cards);
+            opponentStrengths[card] = bestOpponent(situation, seat, nextBoard);
+            unseen |= 1L << card;
+        }
+        return new Outs(evaluator.strength(board | cards), bestOpponent(situation, seat, board), strengths,
+                opponentStrengths, unseen);
+    }
+
+    private int bestOpponent(Situation situation, int seat, long board) {
+        int best = -1;
+        for (int opponent = 0; opponent < situation.numberOfPlayers(); opponent++) {
+            if (opponent != seat) {
+                best = Math.max(best, evaluator.strength(board | situation.holeCards(opponent)));
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,216 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// heads-up all-in equity before the flop of every preflop class against every other, see SuitIsomorphism
+// entries are averaged over all combos of both classes that do not share a card, so suits within a class are ignored
+// the table is generated once (see main) and loaded lazily from preflop-equity.bin next to this class
+public final class PreflopEquityTable {
+    static final String RESOURCE = "preflop-equity.bin";
+    static final int DEFAULT_TRIALS = 100_000;
+    private static final byte[] HEADER = {'P', 'E', 'Q', 1};  // magic and format version
+    private static final int CLASSES = SuitIsomorphism.PREFLOP_CLASSES;
+    private static final int SCALE = Character.MAX_VALUE;  // equities are stored as chars, 0 is 0.0 and SCALE is 1.0
+    private static final int BOARD_CARDS = 5;
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final char[] equities;  // by class * CLASSES + opponent class
+
+    public static PreflopEquityTable create() {
+        return Shared.TABLE;
+    }
+
+    static PreflopEquityTable generate(int trials, long seed, ForkJoinPool pool) {
+        final char[] equities = new char[CLASSES * CLASSES];
+        pool.invoke(new RowsTask(equities, trials, seed, 0, CLASSES));
+        return new PreflopEquityTable(equities);
+    }
+
+    static PreflopEquityTable read(InputStream stream) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        final byte[] header = new byte[HEADER.length];
+        in.readFully(header);
+        if (!Arrays.equals(header, HEADER)) {
+            throw new InvalidTableException("Not a preflop equity table or unsupported version: "
+                    + Arrays.toString(header));
+        }
+        final char[] equities = new char[CLASSES * CLASSES];
+        for (int i = 0; i < equities.length; i++) {
+            equities[i] = in.readChar();
+        }
+        return new PreflopEquityTable(equities);
+    }
+
+    private PreflopEquityTable(char[] equities) {
+        this.equities = equities;
+    }
+
+    public double equity(int handClass, int opponentClass) {
+        assertClass(handClass);
+        assertClass(opponentClass);
+        return (double) equities[handClass * CLASSES + opponentClass] / SCALE;
+    }
+
+    public double equity(CardSet holeCards, CardSet opponentHoleCards) {
+        if (holeCards.containsAny(opponentHoleCards)) {
+            throw new InvalidTableException("Hole cards must not overlap, got " + holeCards + " and " + opponentHoleCards);
+        }
+        return equity(SuitIsomorphism.preflopClass(holeCards.bits()),
+                SuitIsomorphism.preflopClass(opponentHoleCards.bits()));
+    }
+
+    void write(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.write(HEADER);
+            for (char equity : equities) {
+                out.writeChar(equity);
+            }
+        }
+    }
+
+    // regenerates the resource: java -cp target/classes hwr.oop.poker.equity.PreflopEquityTable <file> [trials]
+    public static void main(String[] args) throws IOException {
+        final Path path = Path.of(args.length > 0 ? args[0]
+                : "src/main/resources/hwr/oop/poker/equity/" + RESOURCE);
+        final int trials = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TRIALS;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        generate(trials, 0, ForkJoinPool.commonPool()).write(path);
+    }
+
+    // samples the board for every distinct matchup of the two classes up to suit isomorphism, weighted by its combos
+    static double compute(int handClass, int opponentClass, int trials, long seed) {
+        final Map<List<Long>, Integer> matchups = new HashMap<>();
+        int combos = 0;
+        for (long hand : SuitIsomorphism.preflopCombos(handClass)) {
+            for (long opponent : SuitIsomorphism.preflopCombos(opponentClass)) {
+                if ((hand & opponent) == 0) {
+                    final long[] canonical = SuitIsomorphism.canonical(hand, opponent);
+                    matchups.merge(List.of(canonical[0], canonical[1]), 1, Integer::sum);
+                    combos++;
+                }
+            }
+        }
+        final LookupTableEvaluator evaluator = LookupTableEvaluator.create();
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<List<Long>> ordered = new ArrayList<>(matchups.keySet());
+        ordered.sort((first, second) -> first.get(0).equals(second.get(0))
+                ? Long.compare(first.get(1), second.get(1))
+                : Long.compare(first.get(0), second.get(0)));  // independent of the hash order, so results repeat
+        double equity = 0;
+        for (List<Long> matchup : ordered) {
+            final int weight = matchups.get(matchup);
+            final int matchupTrials = Math.max(1, (int) ((long) trials * weight / combos));
+            equity += sample(evaluator, matchup.get(0), matchup.get(1), matchupTrials, random) * weight / combos;
+        }
+        return equity;
+    }
+
+    private static double sample(LookupTableEvaluator evaluator, long hand, long opponent, int trials,
+                                 SplittableRandom random) {
+        final int[] deck = new int[Card.NUMBER_OF_CARDS - 4];
+        int size = 0;
+        for (int card = 0; card < Card.NUMBER_OF_CARDS; card++) {
+            if (((hand | opponent) & 1L << card) == 0) {
+                deck[size++] = card;
+            }
+        }
+        long points = 0;  // 2 per win, 1 per tie
+        for (int trial = 0; trial < trials; trial++) {
+            long board = 0;
+            for (int i = 0; i < BOARD_CARDS; i++) {  // partial Fisher-Yates, only shuffles the cards dealt
+                final int j = i + random.nextInt(deck.length - i);
+                final int card = deck[j];
+                deck[j] = deck[i];
+                deck[i] = card;
+                board |= 1L << card;
+            }
+            final int strength = evaluator.strength(board | hand);
+            final int opponentStrength = evaluator.strength(board | opponent);
+            points += strength > opponentStrength ? 2 : strength == opponentStrength ? 1 : 0;
+        }
+        return points / (2.0 * trials);
+    }
+
+    private static void assertClass(int handClass) {
+        if (handClass < 0 || handClass >= CLASSES) {
+            throw new InvalidTableException("Preflop class must be in [0, " + CLASSES + "), got " + handClass);
+        }
+    }
+
+    private static class Shared {
+        private static final PreflopEquityTable TABLE = load();
+
+        private static PreflopEquityTable load() {
+            try (InputStream stream = PreflopEquityTable.class.getResourceAsStream(RESOURCE)) {
+                if (stream == null) {
+                    throw new InvalidTableException("Missing resource " + RESOURCE + ", see PreflopEquityTable#main");
+                }
+                return read(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can not read " + RESOURCE, e);
+            }
+        }
+    }
+
+    // every row computes the entries above the diagonal and mirrors them, the diagonal is even by symmetry
+    private static class RowsTask extends RecursiveAction {
+        private final char[] equities;
+        private final int trials;
+        private final long seed;
+        private final int fromRow;
+        private final int toRow;
+
+        private RowsTask(char[] equities, int trials, long seed, int fromRow, int toRow) {
+            this.equities = equities;
+            this.trials = trials;
+            this.seed = seed;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow > 1) {
+                final int middle = (fromRow + toRow) >>> 1;
+                invokeAll(new RowsTask(equities, trials, seed, fromRow, middle),
+                        new RowsTask(equities, trials, seed, middle, toRow));
+                return;
+            }
+            final int row = fromRow;
+            equities[row * CLASSES + row] = (char) Math.round(SCALE / 2.0);
+            for (int column = row + 1; column < CLASSES; column++) {
+                final double equity = PreflopEquityTable.compute(row, column, trials,
+                        seed + (row * CLASSES + column) * SEED_GAMMA);
+                final char scaled = (char) Math.round(equity * SCALE);
+                equities[row * CLASSES + column] = scaled;
+                equities[column * CLASSES + row] = (char) (SCALE - scaled);
+            }
+        }
+    }
+
+    public static class InvalidTableException extends RuntimeException {
+        public InvalidTableException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package hwr.oop.poker.equity;
+
+import java.util.Objects;
+
+// equity of a range against another, every matchup of two combos that share no card counts by the product of
+// their weights (and by how many boards it stands for)
+public class RangeEquity {
+    private final double wins;
+    private final double ties;
+    private final double matchups;
+    private final long boards;
+
+    RangeEquity(double wins, double ties, double matchups, long boards) {
+        this.wins = wins;
+        this.ties = ties;
+        this.matchups = matchups;
+        this.boards = boards;
+    }
+
+    public double win() {
+        return wins / matchups;
+    }
+
+    public double tie() {
+        return ties / matchups;
+    }
+
+    public double lose() {
+        return (matchups - wins - ties) / matchups;
+    }
+
+    public double equity() {
+        return (wins + ties / 2) / matchups;
+    }
+
+    public double opponentEquity() {
+        return 1 - equity();
+    }
+
+    // boards evaluated, isomorphic boards count once
+    public long boards() {
+        return boards;
+    }
+
+    RangeEquity merge(RangeEquity other) {
+        return new RangeEquity(wins + other.wins, ties + other.ties, matchups + other.matchups, boards + other.boards);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RangeEquity that = (RangeEquity) o;
+        return Double.compare(wins, that.wins) == 0 && Double.compare(ties, that.ties) == 0
+                && Double.compare(matchups, that.matchups) == 0 && boards == that.boards;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(wins, ties, matchups, boards);
+    }
+
+    @Override
+    public String toString() {
+        return "RangeEquity{win=" + win() + ", tie=" + tie() + ", lose=" + lose() + ", equity=" + equity()
+                + ", boards=" + boards + '}';
+    }
+}
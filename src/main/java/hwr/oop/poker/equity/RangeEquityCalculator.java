@@ -0,0 +1,344 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// equity of a range against another range on a (partial) board
+// every board is evaluated once for all combos of both ranges, then the combos are sorted by strength and scored in
+// one sweep, combos that share a card are taken out by per card sums instead of comparing every pair
+// boards that only differ by a permutation of colors leaving the board and both ranges unchanged are evaluated once
+public class RangeEquityCalculator {
+    private static final int BOARD_CARDS = 5;
+    private static final int BOARDS_PER_TASK = 256;
+    private static final int COMBO_BITS = 11;  // combo indices are below 2048
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int[][] PERMUTATIONS = permutations();
+
+    private final ForkJoinPool pool;
+    private final LookupTableEvaluator evaluator;
+
+    public static RangeEquityCalculator create() {
+        return create(ForkJoinPool.commonPool());
+    }
+
+    public static RangeEquityCalculator create(ForkJoinPool pool) {
+        return new RangeEquityCalculator(pool);
+    }
+
+    private RangeEquityCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+        this.evaluator = LookupTableEvaluator.create();
+    }
+
+    // all runouts of the board, exact
+    public RangeEquity enumerate(HandRange range, HandRange opponentRange, CardSet board) {
+        final Matchup matchup = Matchup.create(range, opponentRange, board);
+        final List<int[]> symmetries = symmetries(matchup, range.withoutCards(board), opponentRange.withoutCards(board));
+        final Runouts runouts = new Runouts();
+        enumerateRunouts(matchup.deck, 0, BOARD_CARDS - board.size(), 0L, symmetries, runouts);
+        return assertMatchups(pool.invoke(new BoardsTask(matchup, runouts, 0, runouts.size)));
+    }
+
+    // random runouts of the board, every chunk of boards has its own generator derived from the seed
+    public RangeEquity sample(HandRange range, HandRange opponentRange, CardSet board, long boards, long seed) {
+        if (boards <= 0) {
+            throw new EquityCalculator.InvalidSituationException("Number of boards must be positive, got " + boards);
+        }
+        final Matchup matchup = Matchup.create(range, opponentRange, board);
+        final long chunks = (boards + BOARDS_PER_TASK - 1) / BOARDS_PER_TASK;
+        return assertMatchups(pool.invoke(new SamplingTask(matchup, boards, seed, 0, chunks)));
+    }
+
+    private static RangeEquity assertMatchups(RangeEquity equity) {
+        if (!(equity.win() + equity.tie() + equity.lose() > 0)) {
+            throw new HandRange.InvalidRangeException("The ranges have no combos that can meet on this board");
+        }
+        return equity;
+    }
+
+    // color permutations that leave the board and both ranges unchanged, the identity included
+    private static List<int[]> symmetries(Matchup matchup, HandRange range, HandRange opponentRange) {
+        final List<int[]> symmetries = new ArrayList<>();
+        for (int[] permutation : PERMUTATIONS) {
+            if (HandRange.permute(matchup.board, permutation) == matchup.board
+                    && range.isInvariantUnder(permutation) && opponentRange.isInvariantUnder(permutation)) {
+                symmetries.add(permutation);
+            }
+        }
+        return symmetries;
+    }
+
+    // keeps a runout only if no symmetry maps it to a smaller one, counted once per runout it stands for
+    private static void enumerateRunouts(int[] deck, int start, int cardsLeft, long runout, List<int[]> symmetries,
+                                         Runouts runouts) {
+        if (cardsLeft == 0) {
+            int fixedBy = 0;
+            for (int[] symmetry : symmetries) {
+                final long image = HandRange.permute(runout, symmetry);
+                if (image < runout) {
+                    return;
+                }
+                fixedBy += image == runout ? 1 : 0;
+            }
+            runouts.add(runout, symmetries.size() / fixedBy);
+            return;
+        }
+        for (int i = start; i <= deck.length - cardsLeft; i++) {
+            enumerateRunouts(deck, i + 1, cardsLeft - 1, runout | 1L << deck[i], symmetries, runouts);
+        }
+    }
+
+    private static int[][] permutations() {
+        final List<int[]> permutations = new ArrayList<>();
+        permute(new int[]{0, 1, 2, 3}, 0, permutations);
+        return permutations.toArray(new int[0][]);
+    }
+
+    private static void permute(int[] colors, int position, List<int[]> permutations) {
+        if (position == colors.length) {
+            permutations.add(colors.clone());
+            return;
+        }
+        for (int i = position; i < colors.length; i++) {
+            swap(colors, position, i);
+            permute(colors, position + 1, permutations);
+            swap(colors, position, i);
+        }
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        final int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    // live combos of both ranges, a combo in both ranges is evaluated once
+    private static class Matchup {
+        private final long board;
+        private final int[] deck;  // cards that are not on the board
+        private final long[] bits;
+        private final int[] firstCard;
+        private final int[] secondCard;
+        private final double[] weights;
+        private final double[] opponentWeights;
+
+        private static Matchup create(HandRange range, HandRange opponentRange, CardSet board) {
+            if (board.size() > BOARD_CARDS) {
+                throw new EquityCalculator.InvalidSituationException("Board can have at most " + BOARD_CARDS
+                        + " cards, got " + board.size());
+            }
+            return new Matchup(range.withoutCards(board), opponentRange.withoutCards(board), board.bits());
+        }
+
+        private Matchup(HandRange range, HandRange opponentRange, long board) {
+            this.board = board;
+            this.deck = new int[Card.NUMBER_OF_CARDS - Long.bitCount(board)];
+            int size = 0;
+            for (int card = 0; card < Card.NUMBER_OF_CARDS; card++) {
+                if ((board & 1L << card) == 0) {
+                    deck[size++] = card;
+                }
+            }
+            int live = 0;
+            for (int combo = 0; combo < HandRange.COMBOS; combo++) {
+                live += range.weight(combo) > 0 || opponentRange.weight(combo) > 0 ? 1 : 0;
+            }
+            this.bits = new long[live];
+            this.firstCard = new int[live];
+            this.secondCard = new int[live];
+            this.weights = new double[live];
+            this.opponentWeights = new double[live];
+            int i = 0;
+            for (int combo = 0; combo < HandRange.COMBOS; combo++) {
+                if (range.weight(combo) > 0 || opponentRange.weight(combo) > 0) {
+                    bits[i] = HandRange.bitsOf(combo);
+                    firstCard[i] = Long.numberOfTrailingZeros(bits[i]);
+                    secondCard[i] = 63 - Long.numberOfLeadingZeros(bits[i]);
+                    weights[i] = range.weight(combo);
+                    opponentWeights[i] = opponentRange.weight(combo);
+                    i++;
+                }
+            }
+        }
+    }
+
+    private static class Runouts {
+        private long[] cards = new long[1024];
+        private int[] multiplicities = new int[1024];
+        private int size = 0;
+
+        private void add(long runout, int multiplicity) {
+            if (size == cards.length) {
+                cards = Arrays.copyOf(cards, size * 2);
+                multiplicities = Arrays.copyOf(multiplicities, size * 2);
+            }
+            cards[size] = runout;
+            multiplicities[size] = multiplicity;
+            size++;
+        }
+    }
+
+    // scratch arrays of one task, reused for every board it scores
+    private class Scorer {
+        private final Matchup matchup;
+        private final long[] keys;  // strength << COMBO_BITS | combo
+        private final double[] live = new double[Card.NUMBER_OF_CARDS];
+        private final double[] below = new double[Card.NUMBER_OF_CARDS];
+        private final double[] group = new double[Card.NUMBER_OF_CARDS];
+        private double wins;
+        private double ties;
+        private double matchups;
+        private long boards;
+
+        private Scorer(Matchup matchup) {
+            this.matchup = matchup;
+            this.keys = new long[matchup.bits.length];
+        }
+
+        private void score(long board, int multiplicity) {
+            final Matchup m = matchup;
+            int size = 0;
+            double liveTotal = 0;
+            for (int i = 0; i < m.bits.length; i++) {
+                if ((m.bits[i] & board) == 0) {
+                    keys[size++] = (long) evaluator.strength(board | m.bits[i]) << COMBO_BITS | i;
+                    final double weight = m.opponentWeights[i];
+                    liveTotal += weight;
+                    live[m.firstCard[i]] += weight;
+                    live[m.secondCard[i]] += weight;
+                }
+            }
+            Arrays.sort(keys, 0, size);
+            double belowTotal = 0;
+            int from = 0;
+            while (from < size) {
+                final long strength = keys[from] >>> COMBO_BITS;
+                int to = from;
+                double groupTotal = 0;
+                while (to < size && keys[to] >>> COMBO_BITS == strength) {
+                    final int i = (int) keys[to] & (1 << COMBO_BITS) - 1;
+                    groupTotal += m.opponentWeights[i];
+                    group[m.firstCard[i]] += m.opponentWeights[i];
+                    group[m.secondCard[i]] += m.opponentWeights[i];
+                    to++;
+                }
+                for (int k = from; k < to; k++) {
+                    final int i = (int) keys[k] & (1 << COMBO_BITS) - 1;
+                    final double weight = m.weights[i] * multiplicity;
+                    if (weight > 0) {
+                        final int first = m.firstCard[i];
+                        final int second = m.secondCard[i];
+                        // the same combo of the opponent shares both cards, so it is subtracted twice and added once
+                        wins += weight * (belowTotal - below[first] - below[second]);
+                        ties += weight * (groupTotal - group[first] - group[second] + m.opponentWeights[i]);
+                        matchups += weight * (liveTotal - live[first] - live[second] + m.opponentWeights[i]);
+                    }
+                }
+                for (int k = from; k < to; k++) {
+                    final int i = (int) keys[k] & (1 << COMBO_BITS) - 1;
+                    belowTotal += m.opponentWeights[i];
+                    below[m.firstCard[i]] += m.opponentWeights[i];
+                    below[m.secondCard[i]] += m.opponentWeights[i];
+                    group[m.firstCard[i]] = 0;
+                    group[m.secondCard[i]] = 0;
+                }
+                from = to;
+            }
+            Arrays.fill(live, 0);
+            Arrays.fill(below, 0);
+            boards++;
+        }
+
+        private RangeEquity result() {
+            return new RangeEquity(wins, ties, matchups, boards);
+        }
+    }
+
+    private class BoardsTask extends RecursiveTask<RangeEquity> {
+        private final Matchup matchup;
+        private final Runouts runouts;
+        private final int from;
+        private final int to;
+
+        private BoardsTask(Matchup matchup, Runouts runouts, int from, int to) {
+            this.matchup = matchup;
+            this.runouts = runouts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected RangeEquity compute() {
+            if (to - from <= BOARDS_PER_TASK) {
+                final Scorer scorer = new Scorer(matchup);
+                for (int i = from; i < to; i++) {
+                    scorer.score(matchup.board | runouts.cards[i], runouts.multiplicities[i]);
+                }
+                return scorer.result();
+            }
+            final int middle = (from + to) >>> 1;
+            final BoardsTask left = new BoardsTask(matchup, runouts, from, middle);
+            final BoardsTask right = new BoardsTask(matchup, runouts, middle, to);
+            left.fork();
+            final RangeEquity rightEquity = right.compute();
+            return left.join().merge(rightEquity);
+        }
+    }
+
+    private class SamplingTask extends RecursiveTask<RangeEquity> {
+        private final Matchup matchup;
+        private final long boards;
+        private final long seed;
+        private final long fromChunk;
+        private final long toChunk;
+
+        private SamplingTask(Matchup matchup, long boards, long seed, long fromChunk, long toChunk) {
+            this.matchup = matchup;
+            this.boards = boards;
+            this.seed = seed;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected RangeEquity compute() {
+            if (toChunk - fromChunk == 1) {
+                return sampleChunk(fromChunk);
+            }
+            final long middle = (fromChunk + toChunk) >>> 1;
+            final SamplingTask left = new SamplingTask(matchup, boards, seed, fromChunk, middle);
+            final SamplingTask right = new SamplingTask(matchup, boards, seed, middle, toChunk);
+            left.fork();
+            final RangeEquity rightEquity = right.compute();
+            return left.join().merge(rightEquity);
+        }
+
+        private RangeEquity sampleChunk(long chunk) {
+            final SplittableRandom random = new SplittableRandom(seed + chunk * SEED_GAMMA);
+            final long boardsInChunk = Math.min(BOARDS_PER_TASK, boards - chunk * BOARDS_PER_TASK);
+            final int[] deck = matchup.deck.clone();
+            final int cardsToDeal = BOARD_CARDS - Long.bitCount(matchup.board);
+            final Scorer scorer = new Scorer(matchup);
+            for (long trial = 0; trial < boardsInChunk; trial++) {
+                long board = matchup.board;
+                for (int i = 0; i < cardsToDeal; i++) {  // partial Fisher-Yates, only shuffles the cards dealt
+                    final int j = i + random.nextInt(deck.length - i);
+                    final int card = deck[j];
+                    deck[j] = deck[i];
+                    deck[i] = card;
+                    board |= 1L << card;
+                }
+                scorer.score(board, 1);
+            }
+            return scorer.result();
+        }
+    }
+}
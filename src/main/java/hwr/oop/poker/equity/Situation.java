@@ -0,0 +1,95 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.HoleCards;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.community.cards.CommunityCardsProvider;
+
+import java.util.List;
+
+class Situation {
+    static final int MAX_PLAYERS = 10;
+    private static final int BOARD_SIZE = 5;
+
+    private final long[] holeCards;
+    private final long board;
+    private final int[] remainingCards;
+
+    static Situation create(HoleCards holeCards, List<Player> players, CommunityCardsProvider communityCards) {
+        assertValidNumberOfPlayers(players);
+        final long[] holeCardBits = new long[players.size()];
+        long known = communityCards.cardSet().bits();
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            final CardSet cards = holeCards.cardSetOf(player);
+            assertValidHoleCards(player, cards, known);
+            holeCardBits[i] = cards.bits();
+            known |= cards.bits();
+        }
+        return new Situation(holeCardBits, communityCards.cardSet());
+    }
+
+    private Situation(long[] holeCards, CardSet board) {
+        assertValidBoard(board);
+        this.holeCards = holeCards;
+        this.board = board.bits();
+        long known = this.board;
+        for (long cards : holeCards) {
+            known |= cards;
+        }
+        this.remainingCards = indicesOf(CardSet.fullDeck().without(CardSet.ofBits(known)));
+    }
+
+    int numberOfPlayers() {
+        return holeCards.length;
+    }
+
+    long holeCards(int seat) {
+        return holeCards[seat];
+    }
+
+    long board() {
+        return board;
+    }
+
+    int cardsToDeal() {
+        return BOARD_SIZE - Long.bitCount(board);
+    }
+
+    int[] remainingCards() {
+        return remainingCards.clone();
+    }
+
+    private static int[] indicesOf(CardSet cards) {
+        final int[] indices = new int[cards.size()];
+        int i = 0;
+        for (long remaining = cards.bits(); remaining != 0; remaining &= remaining - 1) {
+            indices[i++] = Long.numberOfTrailingZeros(remaining);
+        }
+        return indices;
+    }
+
+    private static void assertValidNumberOfPlayers(List<Player> players) {
+        if (players.size() < 2 || players.size() > MAX_PLAYERS) {
+            throw new EquityCalculator.InvalidSituationException("Can only calculate equity for 2 to "
+                    + MAX_PLAYERS + " players, got " + players.size());
+        }
+    }
+
+    private static void assertValidHoleCards(Player player, CardSet cards, long known) {
+        if (cards == null || cards.size() != 2) {
+            throw new EquityCalculator.InvalidSituationException("Expected 2 hole cards for " + player + ", got " + cards);
+        }
+        if ((cards.bits() & known) != 0) {
+            throw new EquityCalculator.InvalidSituationException("Hole cards of " + player
+                    + " are already in use: " + cards.intersection(CardSet.ofBits(known)));
+        }
+    }
+
+    private static void assertValidBoard(CardSet board) {
+        final int size = board.size();
+        if (size != 0 && (size < 3 || size > BOARD_SIZE)) {
+            throw new EquityCalculator.InvalidSituationException("Expected no community cards, a flop, turn or river, got " + board);
+        }
+    }
+}
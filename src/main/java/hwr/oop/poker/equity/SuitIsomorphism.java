@@ -0,0 +1,169 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Color;
+import hwr.oop.poker.Symbol;
+
+import java.util.Arrays;
+
+// card sets that only differ by a permutation of the colors are strategically the same
+// preflop classes: 169 cells of a 13x13 grid by symbol ordinal, pairs on the diagonal,
+// suited as high * 13 + low, offsuit as low * 13 + high
+public final class SuitIsomorphism {
+    public static final int PREFLOP_CLASSES = 169;
+    static final int MAX_GROUPS = 4;
+    private static final int SYMBOLS = 13;
+    private static final int SYMBOL_MASK = (1 << SYMBOLS) - 1;
+    private static final int COLORS = Color.values().length;
+    private static final Symbol[] SYMBOL_VALUES = Symbol.values();
+
+    private SuitIsomorphism() {
+        // static helpers only
+    }
+
+    public static int preflopClass(Card first, Card second) {
+        if (first == second) {
+            throw new InvalidHandClassException("Can not classify the same card twice: " + first);
+        }
+        final int high = Math.max(first.symbol().ordinal(), second.symbol().ordinal());
+        final int low = Math.min(first.symbol().ordinal(), second.symbol().ordinal());
+        return first.color() == second.color() ? high * SYMBOLS + low : low * SYMBOLS + high;
+    }
+
+    // exactly two bits set, see CardSet#bits
+    public static int preflopClass(long bits) {
+        if (Long.bitCount(bits) != 2) {
+            throw new InvalidHandClassException("Preflop classes need exactly 2 cards, got " + Long.bitCount(bits));
+        }
+        final int first = Long.numberOfTrailingZeros(bits);
+        final int second = 63 - Long.numberOfLeadingZeros(bits);
+        return preflopClass(Card.fromIndex(first), Card.fromIndex(second));
+    }
+
+    public static boolean isPair(int handClass) {
+        return highSymbol(handClass) == lowSymbol(handClass);
+    }
+
+    public static boolean isSuited(int handClass) {
+        assertPreflopClass(handClass);
+        return handClass / SYMBOLS > handClass % SYMBOLS;
+    }
+
+    public static Symbol highSymbol(int handClass) {
+        assertPreflopClass(handClass);
+        return SYMBOL_VALUES[Math.max(handClass / SYMBOLS, handClass % SYMBOLS)];
+    }
+
+    public static Symbol lowSymbol(int handClass) {
+        assertPreflopClass(handClass);
+        return SYMBOL_VALUES[Math.min(handClass / SYMBOLS, handClass % SYMBOLS)];
+    }
+
+    // e.g. "AA", "AKs", "T9o"
+    public static String preflopName(int handClass) {
+        final String symbols = highSymbol(handClass).stringRepresentation() + lowSymbol(handClass).stringRepresentation();
+        if (isPair(handClass)) {
+            return symbols;
+        }
+        return symbols + (isSuited(handClass) ? "s" : "o");
+    }
+
+    public static int preflopClassOf(String name) {
+        final boolean pair = name.length() == 2 && name.charAt(0) == name.charAt(1);
+        final boolean suitedOrOffsuit = name.length() == 3 && (name.charAt(2) == 's' || name.charAt(2) == 'o');
+        if (!pair && !suitedOrOffsuit) {
+            throw new InvalidHandClassException("Expected a pair like \"QQ\" or a hand like \"AKs\" or \"AKo\", got \""
+                    + name + "\"");
+        }
+        final int first = symbolOrdinalOf(name.charAt(0), name);
+        final int second = symbolOrdinalOf(name.charAt(1), name);
+        if (!pair && first == second) {
+            throw new InvalidHandClassException("Pairs can not be suited or offsuit, got \"" + name + "\"");
+        }
+        final int high = Math.max(first, second);
+        final int low = Math.min(first, second);
+        return pair || name.charAt(2) == 's' ? high * SYMBOLS + low : low * SYMBOLS + high;
+    }
+
+    // 6 for pairs, 4 for suited and 12 for offsuit hands
+    public static int combos(int handClass) {
+        if (isPair(handClass)) {
+            return 6;
+        }
+        return isSuited(handClass) ? 4 : 12;
+    }
+
+    // every two card set of the class, as CardSet#bits
+    public static long[] preflopCombos(int handClass) {
+        final int high = highSymbol(handClass).ordinal();
+        final int low = lowSymbol(handClass).ordinal();
+        final boolean pair = isPair(handClass);
+        final boolean suited = !pair && isSuited(handClass);
+        final long[] combos = new long[combos(handClass)];
+        int found = 0;
+        for (int highColor = 0; highColor < COLORS; highColor++) {
+            for (int lowColor = 0; lowColor < COLORS; lowColor++) {
+                final boolean sameColor = highColor == lowColor;
+                final boolean matches = pair ? highColor < lowColor : suited == sameColor;
+                if (matches) {
+                    combos[found++] = 1L << (highColor * SYMBOLS + high) | 1L << (lowColor * SYMBOLS + low);
+                }
+            }
+        }
+        return combos;
+    }
+
+    public static long canonical(long bits) {
+        return canonical(new long[]{bits})[0];
+    }
+
+    // one permutation of the colors applied to all groups (e.g. hole cards and board), colors are ordered by their
+    // symbols in the first group, ties broken by the following groups, so isomorphic groups map to the same result
+    public static long[] canonical(long... groups) {
+        if (groups.length == 0 || groups.length > MAX_GROUPS) {
+            throw new InvalidHandClassException("Can canonicalize 1 to " + MAX_GROUPS + " groups, got " + groups.length);
+        }
+        final long[] keys = new long[COLORS];
+        for (int color = 0; color < COLORS; color++) {
+            long key = 0;
+            for (long group : groups) {
+                key = key << SYMBOLS | symbolsOf(group, color);
+            }
+            keys[color] = key << 2 | color;  // the color in the lowest bits keeps keys distinct
+        }
+        Arrays.sort(keys);
+        final long[] canonical = new long[groups.length];
+        for (int position = 0; position < COLORS; position++) {
+            final int color = (int) (keys[COLORS - 1 - position] & 3);
+            for (int group = 0; group < groups.length; group++) {
+                canonical[group] |= (long) symbolsOf(groups[group], color) << (position * SYMBOLS);
+            }
+        }
+        return canonical;
+    }
+
+    private static int symbolsOf(long bits, int color) {
+        return (int) (bits >>> (color * SYMBOLS)) & SYMBOL_MASK;
+    }
+
+    private static int symbolOrdinalOf(char representation, String name) {
+        for (Symbol symbol : SYMBOL_VALUES) {
+            if (symbol.stringRepresentation().charAt(0) == representation) {
+                return symbol.ordinal();
+            }
+        }
+        throw new InvalidHandClassException("Unknown symbol '" + representation + "' in \"" + name + "\"");
+    }
+
+    private static void assertPreflopClass(int handClass) {
+        if (handClass < 0 || handClass >= PREFLOP_CLASSES) {
+            throw new InvalidHandClassException("Preflop class must be in [0, " + PREFLOP_CLASSES + "), got " + handClass);
+        }
+    }
+
+    public static class InvalidHandClassException extends RuntimeException {
+        public InvalidHandClassException(String message) {
+            super(message);
+        }
+    }
+}
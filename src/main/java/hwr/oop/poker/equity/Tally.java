@@ -0,0 +1,68 @@
+package hwr.oop.poker.equity;
+
+class Tally {
+    // divisible by every number of tied players up to Situation.MAX_PLAYERS, so split pots are counted exactly
+    static final long TIE_UNITS = 2520;
+
+    private final long[] wins;
+    private final long[] ties;
+    private final long[] tieUnits;
+    private long showDowns;
+
+    Tally(int numberOfPlayers) {
+        this.wins = new long[numberOfPlayers];
+        this.ties = new long[numberOfPlayers];
+        this.tieUnits = new long[numberOfPlayers];
+        this.showDowns = 0;
+    }
+
+    void record(int[] strengths) {
+        int best = Integer.MIN_VALUE;
+        int numberOfWinners = 0;
+        for (int strength : strengths) {
+            if (strength > best) {
+                best = strength;
+                numberOfWinners = 1;
+            } else if (strength == best) {
+                numberOfWinners++;
+            }
+        }
+        for (int seat = 0; seat < strengths.length; seat++) {
+            if (strengths[seat] == best) {
+                if (numberOfWinners == 1) {
+                    wins[seat]++;
+                } else {
+                    ties[seat]++;
+                    tieUnits[seat] += TIE_UNITS / numberOfWinners;
+                }
+            }
+        }
+        showDowns++;
+    }
+
+    Tally merge(Tally other) {
+        for (int seat = 0; seat < wins.length; seat++) {
+            wins[seat] += other.wins[seat];
+            ties[seat] += other.ties[seat];
+            tieUnits[seat] += other.tieUnits[seat];
+        }
+        showDowns += other.showDowns;
+        return this;
+    }
+
+    long wins(int seat) {
+        return wins[seat];
+    }
+
+    long ties(int seat) {
+        return ties[seat];
+    }
+
+    long tieUnits(int seat) {
+        return tieUnits[seat];
+    }
+
+    long showDowns() {
+        return showDowns;
+    }
+}
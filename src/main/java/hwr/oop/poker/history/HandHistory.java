@@ -0,0 +1,164 @@
+package hwr.oop.poker.history;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.betting.Play;
+import hwr.oop.poker.betting.PlayLog;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.TestDoubleDeck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// everything needed to deal and play a hand again, see HandHistoryCodec for the binary format
+public final class HandHistory {
+    private final List<Player> players;  // in seat order
+    private final long smallBlind;
+    private final long[] startingStacks;  // by seat
+    private final List<Card> deckOrder;  // cards taken from the deck, burned cards included
+    private final List<List<Play>> rounds;  // plays of the rounds reached, indexed by RoundPosition#position
+    private final long[] finalStacks;  // by seat, after settling, null if the hand is not finished
+
+    // the deck order is known to whoever dealt the hand, e.g. by dealing from a RecordingDeck
+    public static HandHistory of(Hand hand, List<Card> deckOrder) {
+        final List<Player> players = hand.players();
+        final long[] startingStacks = new long[players.size()];
+        for (int seat = 0; seat < startingStacks.length; seat++) {
+            final Player player = players.get(seat);
+            startingStacks[seat] = hand.stacks().ofPlayerAsLong(player) + hand.chipsPutIntoPotBy(player);
+        }
+        final List<List<Play>> rounds = new ArrayList<>();
+        for (PlayLog plays : hand.playsByRound()) {
+            rounds.add(plays.toList());
+        }
+        long[] finalStacks = null;
+        if (hand.isFinished()) {
+            final Stacks settled = hand.settle();
+            finalStacks = new long[players.size()];
+            for (int seat = 0; seat < finalStacks.length; seat++) {
+                finalStacks[seat] = settled.ofPlayerAsLong(players.get(seat));
+            }
+        }
+        final long smallBlind = hand.blindConfiguration().smallBlind().value();
+        return new HandHistory(List.copyOf(players), smallBlind, startingStacks, List.copyOf(deckOrder), rounds, finalStacks);
+    }
+
+    static HandHistory create(List<Player> players, long smallBlind, long[] startingStacks, List<Card> deckOrder,
+                              List<List<Play>> rounds, long[] finalStacks) {
+        return new HandHistory(players, smallBlind, startingStacks, deckOrder, rounds, finalStacks);
+    }
+
+    private HandHistory(List<Player> players, long smallBlind, long[] startingStacks, List<Card> deckOrder,
+                        List<List<Play>> rounds, long[] finalStacks) {
+        this.players = players;
+        this.smallBlind = smallBlind;
+        this.startingStacks = startingStacks;
+        this.deckOrder = deckOrder;
+        this.rounds = List.copyOf(rounds);
+        this.finalStacks = finalStacks;
+    }
+
+    public List<Player> players() {
+        return players;
+    }
+
+    public long smallBlind() {
+        return smallBlind;
+    }
+
+    public long startingStack(int seat) {
+        return startingStacks[seat];
+    }
+
+    public List<Card> deckOrder() {
+        return deckOrder;
+    }
+
+    public List<List<Play>> rounds() {
+        return rounds;
+    }
+
+    public Optional<long[]> finalStacks() {
+        return Optional.ofNullable(finalStacks).map(long[]::clone);
+    }
+
+    public boolean isFinished() {
+        return finalStacks != null;
+    }
+
+    // plays of all rounds in the order they were made
+    public List<Play> plays() {
+        final List<Play> plays = new ArrayList<>();
+        rounds.forEach(plays::addAll);
+        return plays;
+    }
+
+    public int playCount() {
+        int count = 0;
+        for (List<Play> plays : rounds) {
+            count += plays.size();
+        }
+        return count;
+    }
+
+    // the hand as dealt from the recorded cards, before any play
+    public Hand dealt() {
+        final var stacks = Stacks.newBuilder();
+        for (int seat = 0; seat < startingStacks.length; seat++) {
+            stacks.of(players.get(seat)).is(startingStacks[seat]);
+        }
+        return Hand.newBuilder()
+                .deck(new TestDoubleDeck(deckOrder.toArray(new Card[0])))
+                .players(players)
+                .smallBlind(SmallBlind.of(smallBlind))
+                .stacks(stacks.build())
+                .build();
+    }
+
+    // deals the recorded cards and applies the recorded plays
+    public Hand replay() {
+        return ReplayEngine.replayTrusted(dealt(), plays());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HandHistory that = (HandHistory) o;
+        return smallBlind == that.smallBlind
+                && players.equals(that.players)
+                && Arrays.equals(startingStacks, that.startingStacks)
+                && deckOrder.equals(that.deckOrder)
+                && rounds.equals(that.rounds)
+                && Arrays.equals(finalStacks, that.finalStacks);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(players, smallBlind, deckOrder, rounds);
+        result = 31 * result + Arrays.hashCode(startingStacks);
+        result = 31 * result + Arrays.hashCode(finalStacks);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "HandHistory{" +
+                "players=" + players +
+                ", smallBlind=" + smallBlind +
+                ", startingStacks=" + Arrays.toString(startingStacks) +
+                ", deckOrder=" + deckOrder +
+                ", rounds=" + rounds +
+                ", finalStacks=" + Arrays.toString(finalStacks) +
+                '}';
+    }
+}
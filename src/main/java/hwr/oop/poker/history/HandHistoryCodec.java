@@ -0,0 +1,212 @@
+package hwr.oop.poker.history;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.ChipValue;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.betting.Play;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// seats: 1 byte count, then per seat varint name length and UTF-8 name
+// blinds and stacks: varint small blind, varint starting stack per seat
+// deck: 1 byte count, then 1 byte per card (Card#index), burned cards included
+// rounds: 1 byte count, per round varint play count, per play 1 byte (type << 5 | seat) and varint chips added
+// result: 1 byte finished flag, if set varint final stack per seat
+// varints are unsigned LEB128, chip totals of calls and raises follow from the chips added
+public final class HandHistoryCodec {
+    static final int MAX_SEATS = 32;
+    private static final int SEAT_BITS = 5;
+    private static final int SEAT_MASK = (1 << SEAT_BITS) - 1;
+    private static final int MAX_ROUNDS = 4;
+    private static final Play.Type[] TYPES = Play.Type.values();
+
+    private HandHistoryCodec() {
+        // static helpers only
+    }
+
+    public static void encode(HandHistory history, ByteBuffer buffer) {
+        final List<Player> players = history.players();
+        if (players.isEmpty() || players.size() > MAX_SEATS) {
+            throw new InvalidHistoryException("Can only encode 1 to " + MAX_SEATS + " seats, got " + players.size());
+        }
+        buffer.put((byte) players.size());
+        for (Player player : players) {
+            final byte[] name = player.identifier().getBytes(StandardCharsets.UTF_8);
+            putVarLong(buffer, name.length);
+            buffer.put(name);
+        }
+        putVarLong(buffer, history.smallBlind());
+        for (int seat = 0; seat < players.size(); seat++) {
+            putVarLong(buffer, history.startingStack(seat));
+        }
+        buffer.put((byte) history.deckOrder().size());
+        for (Card card : history.deckOrder()) {
+            buffer.put((byte) card.index());
+        }
+        buffer.put((byte) history.rounds().size());
+        for (List<Play> plays : history.rounds()) {
+            putVarLong(buffer, plays.size());
+            for (Play play : plays) {
+                final int seat = players.indexOf(play.player());
+                if (seat < 0) {
+                    throw new InvalidHistoryException("Can not encode " + play + ", player is not seated");
+                }
+                buffer.put((byte) (play.type().ordinal() << SEAT_BITS | seat));
+                if (play.increasedChips()) {
+                    putVarLong(buffer, play.chipValue().value());
+                }
+            }
+        }
+        final long[] finalStacks = history.finalStacks().orElse(null);
+        buffer.put((byte) (finalStacks == null ? 0 : 1));
+        if (finalStacks != null) {
+            for (long stack : finalStacks) {
+                putVarLong(buffer, stack);
+            }
+        }
+    }
+
+    public static HandHistory decode(ByteBuffer buffer) {
+        try {
+            final List<Player> players = readPlayers(buffer);
+            final int seats = players.size();
+            final long smallBlind = getVarLong(buffer);
+            final long[] startingStacks = new long[seats];
+            for (int seat = 0; seat < seats; seat++) {
+                startingStacks[seat] = getVarLong(buffer);
+            }
+            final int cards = buffer.get() & 0xFF;
+            assertInRange("cards", cards, 0, Card.NUMBER_OF_CARDS);
+            final Card[] deckOrder = new Card[cards];
+            for (int i = 0; i < cards; i++) {
+                deckOrder[i] = Card.fromIndex(buffer.get());
+            }
+            final int roundCount = buffer.get() & 0xFF;
+            assertInRange("rounds", roundCount, 0, MAX_ROUNDS);
+            final List<List<Play>> rounds = new ArrayList<>(roundCount);
+            final long[] committed = new long[seats];  // per round, to restore the totals of calls and raises
+            for (int round = 0; round < roundCount; round++) {
+                Arrays.fill(committed, 0);
+                final int playCount = lengthAt(buffer, "plays");
+                final List<Play> plays = new ArrayList<>(playCount);
+                for (int i = 0; i < playCount; i++) {
+                    plays.add(decodePlay(buffer, players, committed));
+                }
+                rounds.add(plays);
+            }
+            long[] finalStacks = null;
+            if (buffer.get() != 0) {
+                finalStacks = new long[seats];
+                for (int seat = 0; seat < seats; seat++) {
+                    finalStacks[seat] = getVarLong(buffer);
+                }
+            }
+            return HandHistory.create(List.copyOf(players), smallBlind, startingStacks, List.of(deckOrder),
+                    rounds, finalStacks);
+        } catch (BufferUnderflowException e) {
+            throw new InvalidHistoryException("Hand history is truncated");
+        } catch (IllegalArgumentException e) {
+            throw new InvalidHistoryException("Hand history is corrupt: " + e.getMessage());
+        }
+    }
+
+    // reads only the seats at the start of a record, e.g. to index hands by player
+    static List<Player> decodePlayers(ByteBuffer buffer) {
+        try {
+            return readPlayers(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new InvalidHistoryException("Hand history is truncated");
+        }
+    }
+
+    private static List<Player> readPlayers(ByteBuffer buffer) {
+        final int seats = buffer.get() & 0xFF;
+        assertInRange("seats", seats, 1, MAX_SEATS);
+        final List<Player> players = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            final byte[] name = new byte[lengthAt(buffer, "name bytes")];
+            buffer.get(name);
+            players.add(new Player(new String(name, StandardCharsets.UTF_8)));
+        }
+        return players;
+    }
+
+    private static Play decodePlay(ByteBuffer buffer, List<Player> players, long[] committed) {
+        final int header = buffer.get() & 0xFF;
+        final int seat = header & SEAT_MASK;
+        final int type = header >>> SEAT_BITS;
+        assertInRange("seat", seat, 0, players.size() - 1);
+        assertInRange("play type", type, 0, TYPES.length - 1);
+        final Player player = players.get(seat);
+        switch (TYPES[type]) {
+            case FOLD:
+                return Play.fold(player);
+            case CHECK:
+                return Play.check(player);
+            default:
+                final long added = getVarLong(buffer);
+                committed[seat] = ChipValue.addExact(committed[seat], added);
+                final ChipValue amount = ChipValue.of(added);
+                final ChipValue total = ChipValue.of(committed[seat]);
+                if (TYPES[type] == Play.Type.BET) {
+                    return Play.bet(player, amount);
+                } else if (TYPES[type] == Play.Type.CALL) {
+                    return Play.call(player, total, amount);
+                } else {
+                    return Play.raiseBy(player, total, amount);
+                }
+        }
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        if (value < 0) {
+            throw new InvalidHistoryException("Can only encode values of at least 0, got " + value);
+        }
+        long remaining = value;
+        while (remaining >= 0x80) {
+            buffer.put((byte) (remaining | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    static int varLongSize(long value) {
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new InvalidHistoryException("Varint is longer than 10 bytes");
+    }
+
+    // lengths can not exceed the bytes left, every element takes at least one byte
+    private static int lengthAt(ByteBuffer buffer, String name) {
+        final long length = getVarLong(buffer);
+        assertInRange(name, (int) Math.min(length, Integer.MAX_VALUE), 0, buffer.remaining());
+        return (int) length;
+    }
+
+    private static void assertInRange(String name, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new InvalidHistoryException(name + " must be in [" + min + ", " + max + "], got " + value);
+        }
+    }
+
+    public static class InvalidHistoryException extends RuntimeException {
+        public InvalidHistoryException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package hwr.oop.poker.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// streams hand histories written by HandHistoryWriter, buffered, not thread safe
+public class HandHistoryReader implements AutoCloseable {
+    private static final int MAX_LENGTH_PREFIX = 5;
+    private static final int MAX_RECORD_SIZE = 1 << 24;  // guards against allocating for corrupt lengths
+
+    private final FileChannel channel;
+    private ByteBuffer in;
+    private boolean endOfFile;
+
+    public static HandHistoryReader open(Path path) {
+        try {
+            final HandHistoryReader reader = new HandHistoryReader(FileChannel.open(path, StandardOpenOption.READ));
+            try {
+                reader.readHeader();
+            } catch (RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+            return reader;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not open hand history " + path, e);
+        }
+    }
+
+    private HandHistoryReader(FileChannel channel) {
+        this.channel = channel;
+        this.in = ByteBuffer.allocate(HandHistoryWriter.BUFFER_SIZE).flip();
+        this.endOfFile = false;
+    }
+
+    public Optional<HandHistory> next() {
+        fill(MAX_LENGTH_PREFIX);
+        if (!in.hasRemaining()) {
+            return Optional.empty();
+        }
+        final long length;
+        try {
+            length = HandHistoryCodec.getVarLong(in);
+        } catch (BufferUnderflowException e) {
+            throw new HandHistoryCodec.InvalidHistoryException("Hand history is truncated in its length prefix");
+        }
+        if (length > MAX_RECORD_SIZE) {
+            throw new HandHistoryCodec.InvalidHistoryException("Hand history of " + length + " bytes is too large");
+        }
+        if (length > in.capacity()) {
+            in = ByteBuffer.allocate((int) length).put(in).flip();
+        }
+        fill((int) length);
+        if (in.remaining() < length) {
+            throw new HandHistoryCodec.InvalidHistoryException("Hand history is truncated, expected " + length
+                    + " bytes, got " + in.remaining());
+        }
+        final ByteBuffer record = in.slice(in.position(), (int) length);
+        in.position(in.position() + (int) length);
+        return Optional.of(HandHistoryCodec.decode(record));
+    }
+
+    public void forEach(Consumer<HandHistory> consumer) {
+        Optional<HandHistory> history;
+        while ((history = next()).isPresent()) {
+            consumer.accept(history.get());
+        }
+    }
+
+    public List<HandHistory> readAll() {
+        final List<HandHistory> histories = new ArrayList<>();
+        forEach(histories::add);
+        return histories;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not close hand history", e);
+        }
+    }
+
+    private void readHeader() {
+        final byte[] header = new byte[HandHistoryWriter.HEADER.length];
+        fill(header.length);
+        if (in.remaining() < header.length) {
+            throw new HandHistoryCodec.InvalidHistoryException("Not a hand history, file is too short");
+        }
+        in.get(header);
+        if (!Arrays.equals(header, HandHistoryWriter.HEADER)) {
+            throw new HandHistoryCodec.InvalidHistoryException("Not a hand history or unsupported version: "
+                    + Arrays.toString(header));
+        }
+    }
+
+    // reads until at least the given number of bytes are buffered or the file ends
+    private void fill(int bytes) {
+        if (in.remaining() >= bytes || endOfFile) {
+            return;
+        }
+        in.compact();
+        try {
+            while (in.position() < bytes && !endOfFile) {
+                endOfFile = channel.read(in) < 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not read hand history", e);
+        } finally {
+            in.flip();
+        }
+    }
+}
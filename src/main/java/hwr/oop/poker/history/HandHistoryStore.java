@@ -0,0 +1,400 @@
+package hwr.oop.poker.history;
+
+import hwr.oop.poker.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// appends hands to segment files of a directory, hand ids count up from 0 in append order
+// finished segments are read through read only memory maps, the active one through its channel
+// every segment is a valid hand history file, see HandHistoryWriter, not thread safe
+public final class HandHistoryStore implements AutoCloseable {
+    static final int INDEX_INTERVAL = 32;  // offset of every 32nd hand of a segment is indexed
+    static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    private static final long MAX_SEGMENT_SIZE = 1L << 30;  // one record past it still fits a mapped buffer
+    private static final int MAX_LENGTH_PREFIX = 5;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".pkh";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final List<Segment> segments;  // by first hand id, the last one is active
+    private final Map<Player, PostingList> postings;
+    private HandHistoryWriter writer;
+    private FileChannel activeChannel;
+    private boolean unflushed;
+    private long size;
+
+    public static HandHistoryStore open(Path directory) {
+        return open(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public static HandHistoryStore open(Path directory, long segmentSize) {
+        if (segmentSize < HandHistoryWriter.HEADER.length || segmentSize > MAX_SEGMENT_SIZE) {
+            throw new InvalidStoreException("Segment size must be in [" + HandHistoryWriter.HEADER.length
+                    + ", " + MAX_SEGMENT_SIZE + "], got " + segmentSize);
+        }
+        final HandHistoryStore store = new HandHistoryStore(directory, segmentSize);
+        try {
+            Files.createDirectories(directory);
+            store.load();
+        } catch (IOException e) {
+            store.close();
+            throw new UncheckedIOException("Can not open hand history store " + directory, e);
+        } catch (RuntimeException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    private HandHistoryStore(Path directory, long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.segments = new ArrayList<>();
+        this.postings = new HashMap<>();
+        this.unflushed = false;
+        this.size = 0;
+    }
+
+    public long append(HandHistory history) {
+        final Segment active = active();
+        final long offset = writer.position();
+        writer.write(history);
+        unflushed = true;
+        final long handId = size++;
+        active.indexed(offset);
+        for (Player player : history.players()) {
+            postings.computeIfAbsent(player, p -> new PostingList()).add(handId);
+        }
+        if (writer.position() >= segmentSize) {
+            roll();
+        }
+        return handId;
+    }
+
+    public Optional<HandHistory> read(long handId) {
+        if (handId < 0 || handId >= size) {
+            return Optional.empty();
+        }
+        return Optional.of(HandHistoryCodec.decode(recordOf(handId)));
+    }
+
+    public long[] handIdsOf(Player player) {
+        final PostingList handIds = postings.get(player);
+        return handIds == null ? new long[0] : handIds.toArray();
+    }
+
+    public List<HandHistory> handsOf(Player player) {
+        final long[] handIds = handIdsOf(player);
+        final List<HandHistory> histories = new ArrayList<>(handIds.length);
+        for (long handId : handIds) {
+            histories.add(HandHistoryCodec.decode(recordOf(handId)));
+        }
+        return histories;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public void flush() {
+        if (writer != null && unflushed) {
+            writer.flush();
+            unflushed = false;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } finally {
+            closeActiveChannel();
+        }
+    }
+
+    private ByteBuffer recordOf(long handId) {
+        final Segment segment = segmentOf(handId);
+        final int local = (int) (handId - segment.firstHandId);
+        final long offset = segment.offsets[local / INDEX_INTERVAL];
+        final int skip = local % INDEX_INTERVAL;
+        try {
+            return segment.isFinished()
+                    ? mappedRecord(segment.map.duplicate(), offset, skip)
+                    : activeRecord(offset, skip);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new HandHistoryCodec.InvalidHistoryException("Hand " + handId + " is truncated in " + segment.path);
+        }
+    }
+
+    private Segment segmentOf(long handId) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (segments.get(middle).firstHandId <= handId) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return segments.get(low);
+    }
+
+    // skips over the records before the wanted one by their length prefixes, without decoding them
+    private static ByteBuffer mappedRecord(ByteBuffer segment, long offset, int skip) {
+        segment.position((int) offset);
+        for (int i = 0; i < skip; i++) {
+            final int length = (int) HandHistoryCodec.getVarLong(segment);
+            segment.position(segment.position() + length);
+        }
+        final int length = (int) HandHistoryCodec.getVarLong(segment);
+        return segment.slice(segment.position(), length);
+    }
+
+    private ByteBuffer activeRecord(long offset, int skip) {
+        flush();
+        long position = offset;
+        for (int i = 0; ; i++) {
+            final ByteBuffer prefix = readActive(position, MAX_LENGTH_PREFIX);
+            final long length = HandHistoryCodec.getVarLong(prefix);
+            position += prefix.position() + length;
+            if (i == skip) {
+                final ByteBuffer record = readActive(position - length, (int) length);
+                if (record.remaining() < length) {
+                    throw new BufferUnderflowException();
+                }
+                return record;
+            }
+        }
+    }
+
+    private ByteBuffer readActive(long position, int bytes) {
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        try {
+            while (buffer.hasRemaining() && activeChannel.read(buffer, position + buffer.position()) > 0) {
+                // reads until the buffer is full or the file ends
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not read hand history store " + directory, e);
+        }
+        return buffer.flip();
+    }
+
+    private void load() throws IOException {
+        final List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(HandHistoryStore::isSegment).sorted().toList();
+        }
+        for (int i = 0; i < paths.size(); i++) {
+            if (!paths.get(i).equals(segmentPath(i))) {
+                throw new InvalidStoreException("Missing segment " + segmentPath(i) + ", found " + paths.get(i));
+            }
+            final Segment segment = new Segment(paths.get(i), size);
+            if (i < paths.size() - 1) {
+                final MappedByteBuffer map = map(segment.path);
+                scan(segment, map, false);
+                segment.map = map;
+            } else {
+                // the active segment is read without a mapping, so it can be truncated
+                final ByteBuffer buffer = read(segment.path);
+                final long end = scan(segment, buffer, true);
+                if (end < buffer.limit()) {
+                    // only the active segment may end in a record torn by a crash during append
+                    truncate(segment.path, end);
+                }
+            }
+            segments.add(segment);
+        }
+        if (segments.isEmpty()) {
+            segments.add(new Segment(segmentPath(0), 0));
+        }
+        openActive(active());
+        if (writer.position() >= segmentSize) {
+            roll();
+        }
+    }
+
+    // rebuilds the offset index and posting lists, only the seats of every record are decoded
+    // returns the end of the last complete record, the active segment is recovered up to it
+    private long scan(Segment segment, ByteBuffer segmentBuffer, boolean active) {
+        final ByteBuffer buffer = segmentBuffer.duplicate();
+        final byte[] header = new byte[HandHistoryWriter.HEADER.length];
+        if (active && buffer.remaining() < header.length) {
+            return 0;  // torn header, written again by the writer
+        }
+        try {
+            buffer.get(header);
+            if (!Arrays.equals(header, HandHistoryWriter.HEADER)) {
+                throw new HandHistoryCodec.InvalidHistoryException("Not a hand history or unsupported version: "
+                        + segment.path);
+            }
+            while (buffer.hasRemaining()) {
+                final int offset = buffer.position();
+                final ByteBuffer record;
+                try {
+                    final int length = (int) HandHistoryCodec.getVarLong(buffer);
+                    record = buffer.slice(buffer.position(), length);
+                    buffer.position(buffer.position() + length);
+                } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                    if (active) {
+                        return offset;
+                    }
+                    throw e;
+                }
+                final long handId = size++;
+                segment.indexed(offset);
+                for (Player player : HandHistoryCodec.decodePlayers(record)) {
+                    postings.computeIfAbsent(player, p -> new PostingList()).add(handId);
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new HandHistoryCodec.InvalidHistoryException("Segment " + segment.path + " is truncated");
+        }
+        return buffer.position();
+    }
+
+    private void roll() {
+        final Segment finished = active();
+        writer.close();
+        writer = null;
+        unflushed = false;
+        closeActiveChannel();
+        try {
+            finished.map = map(finished.path);
+            final Segment next = new Segment(segmentPath(segments.size()), size);
+            segments.add(next);
+            openActive(next);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not roll hand history store " + directory, e);
+        }
+    }
+
+    private void openActive(Segment segment) throws IOException {
+        writer = HandHistoryWriter.open(segment.path);
+        writer.flush();
+        activeChannel = FileChannel.open(segment.path, StandardOpenOption.READ);
+    }
+
+    private void closeActiveChannel() {
+        if (activeChannel == null) {
+            return;
+        }
+        try {
+            activeChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not close hand history store " + directory, e);
+        } finally {
+            activeChannel = null;
+        }
+    }
+
+    private Segment active() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static boolean isSegment(Path path) {
+        final String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private static ByteBuffer read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // reads until the buffer is full or the file ends
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final long firstHandId;
+        private long[] offsets;  // sparse, offset of hand firstHandId + i * INDEX_INTERVAL at i
+        private int handCount;
+        private MappedByteBuffer map;  // null while the segment is active
+
+        private Segment(Path path, long firstHandId) {
+            this.path = path;
+            this.firstHandId = firstHandId;
+            this.offsets = new long[16];
+            this.handCount = 0;
+        }
+
+        private void indexed(long offset) {
+            if (handCount % INDEX_INTERVAL == 0) {
+                final int entry = handCount / INDEX_INTERVAL;
+                if (entry == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[entry] = offset;
+            }
+            handCount++;
+        }
+
+        private boolean isFinished() {
+            return map != null;
+        }
+    }
+
+    // hand ids of one player, ascending since ids are assigned in append order
+    private static final class PostingList {
+        private long[] handIds = new long[8];
+        private int size = 0;
+
+        private void add(long handId) {
+            if (size == handIds.length) {
+                handIds = Arrays.copyOf(handIds, size * 2);
+            }
+            handIds[size++] = handId;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(handIds, size);
+        }
+    }
+
+    public static class InvalidStoreException extends RuntimeException {
+        public InvalidStoreException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package hwr.oop.poker.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// appends length prefixed hand histories to a file, buffered, not thread safe
+public class HandHistoryWriter implements AutoCloseable {
+    static final byte[] HEADER = {'P', 'K', 'H', 1};  // magic and format version
+    static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_LENGTH_PREFIX = 5;
+
+    private final FileChannel channel;
+    private final ByteBuffer out;
+    private ByteBuffer scratch;
+    private long written;
+    private long position;
+
+    public static HandHistoryWriter open(Path path) {
+        try {
+            final FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            final HandHistoryWriter writer = new HandHistoryWriter(channel);
+            writer.position = channel.size();
+            if (writer.position == 0) {
+                writer.out.put(HEADER);
+                writer.position = HEADER.length;
+            }
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not open hand history " + path, e);
+        }
+    }
+
+    private HandHistoryWriter(FileChannel channel) {
+        this.channel = channel;
+        this.out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.scratch = ByteBuffer.allocate(1024);
+        this.written = 0;
+        this.position = 0;
+    }
+
+    public void write(HandHistory history) {
+        encodeToScratch(history);
+        final int length = scratch.remaining();
+        if (out.remaining() < MAX_LENGTH_PREFIX + length) {
+            flush();
+        }
+        if (out.remaining() < MAX_LENGTH_PREFIX + length) {  // larger than the buffer, written on its own
+            HandHistoryCodec.putVarLong(out, length);
+            flush();
+            writeFully(scratch);
+        } else {
+            HandHistoryCodec.putVarLong(out, length);
+            out.put(scratch);
+        }
+        written++;
+        position += HandHistoryCodec.varLongSize(length) + length;
+    }
+
+    public long written() {
+        return written;
+    }
+
+    // file offset the next hand is written at, buffered bytes included
+    long position() {
+        return position;
+    }
+
+    public void flush() {
+        out.flip();
+        writeFully(out);
+        out.clear();
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can not close hand history", e);
+            }
+        }
+    }
+
+    private void encodeToScratch(HandHistory history) {
+        while (true) {
+            scratch.clear();
+            try {
+                HandHistoryCodec.encode(history, scratch);
+                scratch.flip();
+                return;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not write hand history", e);
+        }
+    }
+}
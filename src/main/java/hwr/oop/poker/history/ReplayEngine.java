@@ -0,0 +1,145 @@
+package hwr.oop.poker.history;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.betting.Play;
+import hwr.oop.poker.betting.RoundInContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// rebuilds the hand states of a session of logged hands, action by action
+// trusted logs go straight to BettingRound#nextState, verified logs through RoundInContext, which enforces the rules
+// every hand is a checkpoint: it carries its starting stacks and card order, so seeking replays at most one hand
+public final class ReplayEngine {
+    private final List<HandHistory> session;
+    private final long[] firstActions;  // by hand, session wide index of its first play, plus the total at the end
+    private final boolean trusted;
+
+    public static ReplayEngine trusted(List<HandHistory> session) {
+        return new ReplayEngine(session, true);
+    }
+
+    public static ReplayEngine verified(List<HandHistory> session) {
+        return new ReplayEngine(session, false);
+    }
+
+    private ReplayEngine(List<HandHistory> session, boolean trusted) {
+        this.session = List.copyOf(session);
+        this.firstActions = new long[this.session.size() + 1];
+        for (int hand = 0; hand < this.session.size(); hand++) {
+            firstActions[hand + 1] = firstActions[hand] + this.session.get(hand).playCount();
+        }
+        this.trusted = trusted;
+    }
+
+    public int handCount() {
+        return session.size();
+    }
+
+    public long actionCount() {
+        return firstActions[session.size()];
+    }
+
+    // index of the hand the action belongs to, actions are counted session wide from 0
+    public int handOf(long action) {
+        assertAction(action);
+        int low = 0;
+        int high = session.size() - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (firstActions[middle] <= action) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    // state of the hand the action belongs to, right after the action was played
+    public Hand seek(long action) {
+        final int hand = handOf(action);
+        final HandHistory history = session.get(hand);
+        final int played = (int) (action - firstActions[hand]) + 1;
+        return replay(history.dealt(), history.plays().subList(0, played));
+    }
+
+    // every state of one hand: as dealt, then after each play
+    public List<Hand> states(int hand) {
+        final HandHistory history = session.get(hand);
+        final List<Play> plays = history.plays();
+        final List<Hand> states = new ArrayList<>(plays.size() + 1);
+        Hand state = history.dealt();
+        states.add(state);
+        for (Play play : plays) {
+            state = apply(state, play);
+            states.add(state);
+        }
+        return states;
+    }
+
+    // the dealt hand can come from any deck, e.g. ArrayDeck.shuffled(seed) or a TestDoubleDeck of a card order
+    public Hand replay(Hand dealt, List<Play> plays) {
+        Hand state = dealt;
+        for (Play play : plays) {
+            state = apply(state, play);
+        }
+        return state;
+    }
+
+    static Hand replayTrusted(Hand dealt, List<Play> plays) {
+        Hand state = dealt;
+        for (Play play : plays) {
+            state = state.onCurrentRound(round -> round.nextState(play));
+        }
+        return state;
+    }
+
+    private Hand apply(Hand state, Play play) {
+        return trusted
+                ? state.onCurrentRound(round -> round.nextState(play))
+                : state.onCurrentRound(round -> verify(round, play));
+    }
+
+    private static BettingRound verify(BettingRound round, Play play) {
+        final BettingRound next = playByRules(round, play);
+        final Play played = next.lastPlay().orElseThrow();
+        if (!played.equals(play)) {
+            throw new InvalidReplayException("Logged " + play + ", but the rules give " + played);
+        }
+        return next;
+    }
+
+    private static BettingRound playByRules(BettingRound round, Play play) {
+        final RoundInContext context = round.with(play.player());
+        switch (play.type()) {
+            case FOLD:
+                return context.fold();
+            case CHECK:
+                return context.check();
+            case BET:
+                return context.bet(play.totalChipValue().value());
+            case CALL:
+                return context.call();
+            case RAISE:
+                // a raise with all remaining chips may stay below the minimum raise
+                final boolean allIn = play.chipValue().value() == round.remainingChips(play.player()).value();
+                return allIn ? context.allIn() : context.raiseTo(play.totalChipValue().value());
+            default:
+                throw new InvalidReplayException("Unknown play type " + play.type());
+        }
+    }
+
+    private void assertAction(long action) {
+        if (action < 0 || action >= actionCount()) {
+            throw new InvalidReplayException("Action must be in [0, " + actionCount() + "), got " + action);
+        }
+    }
+
+    public static class InvalidReplayException extends RuntimeException {
+        public InvalidReplayException(String message) {
+            super(message);
+        }
+    }
+}
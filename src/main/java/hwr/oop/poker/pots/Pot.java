@@ -0,0 +1,51 @@
+package hwr.oop.poker.pots;
+
+import hwr.oop.poker.Player;
+
+import java.util.List;
+import java.util.Objects;
+
+public class Pot {
+    private final long amount;
+    private final List<Player> eligible;
+
+    static Pot of(long amount, List<Player> eligible) {
+        return new Pot(amount, eligible);
+    }
+
+    private Pot(long amount, List<Player> eligible) {
+        this.amount = amount;
+        this.eligible = List.copyOf(eligible);
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    // players that have not folded and committed enough to win this pot, in seat order
+    public List<Player> eligible() {
+        return eligible;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Pot pot = (Pot) o;
+        return amount == pot.amount && eligible.equals(pot.eligible);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(amount, eligible);
+    }
+
+    @Override
+    public String toString() {
+        return "Pot{" + amount + " for " + eligible + '}';
+    }
+}
@@ -0,0 +1,144 @@
+package hwr.oop.poker.pots;
+
+import hwr.oop.poker.ChipValue;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Seats;
+import hwr.oop.poker.Stacks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+public class PotSettlement {
+    private final Seats seats;
+    private final boolean[] folded;
+    private final Integer[] byCommitment;  // seats, least committed first
+    // one entry per pot, main pot first: chips and first index into byCommitment of the players that paid for it
+    private final long[] amounts;
+    private final int[] firstContributor;
+    private final int numberOfPots;
+    private final int remainingPlayers;
+
+    // committed and folded are indexed by seat
+    public static PotSettlement of(Seats seats, long[] committed, boolean[] folded) {
+        return new PotSettlement(seats, committed, folded);
+    }
+
+    private PotSettlement(Seats seats, long[] committed, boolean[] folded) {
+        assertSameNumberOfSeats(seats, committed, folded);
+        this.seats = seats;
+        this.folded = folded.clone();
+        this.byCommitment = new Integer[seats.size()];
+        for (int seat = 0; seat < byCommitment.length; seat++) {
+            byCommitment[seat] = seat;
+        }
+        Arrays.sort(byCommitment, Comparator.comparingLong((Integer seat) -> committed[seat]));
+        this.amounts = new long[seats.size()];
+        this.firstContributor = new int[seats.size()];
+        // every distinct commitment closes a pot, paid by everybody that committed at least as much
+        int pots = 0;
+        int remaining = 0;
+        long previousLevel = 0;
+        boolean eligibleDroppedOut = false;  // since the last pot was opened
+        for (int index = 0; index < byCommitment.length; index++) {
+            final int seat = byCommitment[index];
+            final long level = committed[seat];
+            if (level > previousLevel) {
+                final int contributors = byCommitment.length - index;
+                final long amount = ChipValue.multiplyExact(level - previousLevel, contributors);
+                if (pots > 0 && !eligibleDroppedOut) {
+                    amounts[pots - 1] = ChipValue.addExact(amounts[pots - 1], amount);  // same players eligible, same pot
+                } else {
+                    amounts[pots] = amount;
+                    firstContributor[pots] = index;
+                    pots++;
+                    eligibleDroppedOut = false;
+                }
+                previousLevel = level;
+            }
+            if (!folded[seat]) {
+                eligibleDroppedOut = true;
+                remaining++;
+            }
+        }
+        this.numberOfPots = pots;
+        this.remainingPlayers = remaining;
+    }
+
+    public List<Pot> pots() {
+        final List<Pot> pots = new ArrayList<>(numberOfPots);
+        for (int pot = 0; pot < numberOfPots; pot++) {
+            final List<Player> eligible = new ArrayList<>();
+            for (int index = firstContributor[pot]; index < byCommitment.length; index++) {
+                if (!folded[byCommitment[index]]) {
+                    eligible.add(seats.player(byCommitment[index]));
+                }
+            }
+            eligible.sort(Comparator.comparingInt(seats::seatOf));
+            pots.add(Pot.of(amounts[pot], eligible));
+        }
+        return Collections.unmodifiableList(pots);
+    }
+
+    // chips won by seat; strength is only asked for players that have not folded, higher is better
+    public long[] winnings(ToIntFunction<Player> strength) {
+        final long[] winnings = new long[seats.size()];
+        final List<Integer> winners = new ArrayList<>();
+        int best = Integer.MIN_VALUE;
+        int added = byCommitment.length;
+        long carried = 0;  // chips of pots nobody is eligible for go to the next smaller pot
+        // from the highest side pot down to the main pot, every pot adds the players that paid less
+        for (int pot = numberOfPots - 1; pot >= 0; pot--) {
+            for (int index = added - 1; index >= firstContributor[pot]; index--) {
+                final int seat = byCommitment[index];
+                if (!folded[seat]) {
+                    // nobody to compare with (everybody else folded), so there is no need to evaluate the hand
+                    final int playerStrength = remainingPlayers == 1 ? best : strength.applyAsInt(seats.player(seat));
+                    if (winners.isEmpty() || playerStrength > best) {
+                        winners.clear();
+                        winners.add(seat);
+                        best = playerStrength;
+                    } else if (playerStrength == best) {
+                        winners.add(seat);
+                    }
+                }
+            }
+            added = firstContributor[pot];
+            final long amount = ChipValue.addExact(amounts[pot], carried);
+            if (winners.isEmpty()) {
+                carried = amount;
+            } else {
+                carried = 0;
+                award(amount, winners, winnings);
+            }
+        }
+        return winnings;
+    }
+
+    public Stacks settle(Stacks stacks, ToIntFunction<Player> strength) {
+        return stacks.award(seats, winnings(strength));
+    }
+
+    // odd chips go one by one to the winners closest to the left of the button, i.e. in seat order
+    private void award(long amount, List<Integer> winners, long[] winnings) {
+        final List<Integer> inSeatOrder = new ArrayList<>(winners);
+        Collections.sort(inSeatOrder);
+        final long share = amount / inSeatOrder.size();
+        final long oddChips = amount % inSeatOrder.size();
+        for (int i = 0; i < inSeatOrder.size(); i++) {
+            final int seat = inSeatOrder.get(i);
+            final long won = i < oddChips ? share + 1 : share;
+            winnings[seat] = ChipValue.addExact(winnings[seat], won);
+        }
+    }
+
+    private static void assertSameNumberOfSeats(Seats seats, long[] committed, boolean[] folded) {
+        if (committed.length != seats.size() || folded.length != seats.size()) {
+            throw new IllegalArgumentException("Expected commitments and folds for " + seats.size()
+                    + " seats, got " + committed.length + " and " + folded.length);
+        }
+    }
+}
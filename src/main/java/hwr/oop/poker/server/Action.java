@@ -0,0 +1,66 @@
+package hwr.oop.poker.server;
+
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.betting.RoundInContext;
+
+import java.util.Locale;
+
+@FunctionalInterface
+public interface Action {
+
+    BettingRound applyTo(RoundInContext context);
+
+    // CHECK, CALL, FOLD, ALLIN, BET <chips> or RAISE <total chips>, case insensitive
+    static Action parse(String line) {
+        final String[] words = line.trim().split("\\s+");
+        final String command = words[0].toUpperCase(Locale.ROOT);
+        switch (command) {
+            case "CHECK":
+                assertArguments(words, 0);
+                return RoundInContext::check;
+            case "CALL":
+                assertArguments(words, 0);
+                return RoundInContext::call;
+            case "FOLD":
+                assertArguments(words, 0);
+                return RoundInContext::fold;
+            case "ALLIN":
+                assertArguments(words, 0);
+                return RoundInContext::allIn;
+            case "BET":
+                assertArguments(words, 1);
+                final long bet = chipsOf(words[1]);
+                return context -> context.bet(bet);
+            case "RAISE":
+                assertArguments(words, 1);
+                final long total = chipsOf(words[1]);
+                return context -> context.raiseTo(total);
+            default:
+                throw new InvalidActionException("Unknown action: " + line);
+        }
+    }
+
+    private static void assertArguments(String[] words, int expected) {
+        if (words.length - 1 != expected) {
+            throw new InvalidActionException(words[0] + " expects " + expected + " argument(s), got " + (words.length - 1));
+        }
+    }
+
+    private static long chipsOf(String word) {
+        try {
+            final long chips = Long.parseLong(word);
+            if (chips <= 0) {
+                throw new InvalidActionException("Chips must be positive, got " + word);
+            }
+            return chips;
+        } catch (NumberFormatException e) {
+            throw new InvalidActionException("Chips must be a number, got " + word);
+        }
+    }
+
+    class InvalidActionException extends RuntimeException {
+        public InvalidActionException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package hwr.oop.poker.server;
+
+// line based conversation with one client, receive blocks (cheap on a virtual thread)
+public interface Connection extends AutoCloseable {
+
+    // next line sent by the other side, null once the connection is closed
+    String receive() throws InterruptedException;
+
+    void send(String line);
+
+    @Override
+    void close();
+}
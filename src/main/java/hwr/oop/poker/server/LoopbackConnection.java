@@ -0,0 +1,78 @@
+package hwr.oop.poker.server;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// in memory transport, both ends of a pair share one closed flag, like the two ends of a socket
+public class LoopbackConnection implements Connection {
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String CLOSED = new String("<closed>");  // compared by identity, can not be sent by clients
+
+    private final BlockingQueue<String> inbox;
+    private final BlockingQueue<String> outbox;
+    private final AtomicBoolean closed;
+
+    public static Pair open() {
+        final BlockingQueue<String> toServer = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> toClient = new LinkedBlockingQueue<>();
+        final AtomicBoolean closed = new AtomicBoolean();
+        return new Pair(
+                new LoopbackConnection(toClient, toServer, closed),
+                new LoopbackConnection(toServer, toClient, closed));
+    }
+
+    private LoopbackConnection(BlockingQueue<String> inbox, BlockingQueue<String> outbox, AtomicBoolean closed) {
+        this.inbox = inbox;
+        this.outbox = outbox;
+        this.closed = closed;
+    }
+
+    @Override
+    public String receive() throws InterruptedException {
+        final String line = inbox.take();
+        if (line == CLOSED) {
+            inbox.add(CLOSED);  // every further receive returns null as well
+            return null;
+        }
+        return line;
+    }
+
+    // lines sent after closing are dropped, like writes to a peer that went away
+    @Override
+    public void send(String line) {
+        if (!closed.get()) {
+            outbox.add(line);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            inbox.add(CLOSED);
+            outbox.add(CLOSED);
+        }
+    }
+
+    public static class Pair {
+        private final LoopbackConnection client;
+        private final LoopbackConnection server;
+
+        private Pair(LoopbackConnection client, LoopbackConnection server) {
+            this.client = client;
+            this.server = server;
+        }
+
+        public LoopbackConnection client() {
+            return client;
+        }
+
+        public LoopbackConnection server() {
+            return server;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package hwr.oop.poker.server;
+
+import hwr.oop.poker.Hand;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// hosts table sessions, every seat and every table writer is a virtual thread, so idle seats only cost memory
+public class TableServer implements AutoCloseable {
+    private final ExecutorService executor;
+    private final Queue<TableSession> sessions;
+
+    public static TableServer create() {
+        return new TableServer(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    private TableServer(ExecutorService executor) {
+        this.executor = executor;
+        this.sessions = new ConcurrentLinkedQueue<>();
+    }
+
+    public TableSession open(Hand hand) {
+        final TableSession session = TableSession.open(hand, executor);
+        sessions.add(session);
+        return session;
+    }
+
+    public int tables() {
+        sessions.removeIf(TableSession::isClosed);
+        return sessions.size();
+    }
+
+    public int seated() {
+        return sessions.stream().mapToInt(TableSession::seated).sum();
+    }
+
+    // closes all sessions and waits until every conversation has ended
+    @Override
+    public void close() {
+        sessions.forEach(TableSession::close);
+        sessions.clear();
+        executor.close();
+    }
+}
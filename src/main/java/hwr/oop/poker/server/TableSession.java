@@ -0,0 +1,208 @@
+package hwr.oop.poker.server;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+// one table, every change of the hand goes through the queue and is applied by a single writer thread,
+// every seat is a blocking conversation on its own (virtual) thread
+public class TableSession implements AutoCloseable {
+    private static final Command STOP = new Command(null, null);
+
+    private final Executor executor;
+    private final BlockingQueue<Command> commands;
+    private final Map<Player, Connection> seats;
+    private final AtomicBoolean closed;
+    private final ReentrantLock enqueueLock;  // not synchronized, that would pin virtual threads
+    private volatile Hand hand;  // only written by the writer thread
+
+    static TableSession open(Hand hand, Executor executor) {
+        final TableSession session = new TableSession(hand, executor);
+        executor.execute(session::write);
+        return session;
+    }
+
+    private TableSession(Hand hand, Executor executor) {
+        this.executor = executor;
+        this.commands = new LinkedBlockingQueue<>();
+        this.seats = new ConcurrentHashMap<>();
+        this.closed = new AtomicBoolean();
+        this.enqueueLock = new ReentrantLock();
+        this.hand = hand;
+    }
+
+    public Hand hand() {
+        return hand;
+    }
+
+    public int seated() {
+        return seats.size();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public void seat(Player player, Connection connection) {
+        if (isClosed()) {
+            connection.close();
+            throw new SessionClosedException("Cannot seat " + player + ", session is closed");
+        }
+        final Connection previous = seats.put(player, connection);
+        if (previous != null) {
+            previous.close();  // reconnect, the old conversation ends
+        }
+        if (isClosed()) {
+            connection.close();  // closed while seating, the conversation ends right away
+        }
+        executor.execute(() -> converse(player, connection));
+    }
+
+    public CompletableFuture<Hand> submit(Player player, Action action) {
+        return enqueue(current -> current.onCurrentRound(round -> action.applyTo(round.with(player))));
+    }
+
+    // replaces the hand once all actions submitted before are applied, e.g. to deal the next hand
+    public CompletableFuture<Hand> deal(Hand nextHand) {
+        return enqueue(current -> nextHand);
+    }
+
+    @Override
+    public void close() {
+        enqueueLock.lock();
+        try {  // nothing is enqueued after STOP
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            commands.add(STOP);
+        } finally {
+            enqueueLock.unlock();
+        }
+        seats.values().forEach(Connection::close);
+    }
+
+    private CompletableFuture<Hand> enqueue(UnaryOperator<Hand> transition) {
+        final Command command = new Command(transition, new CompletableFuture<>());
+        enqueueLock.lock();
+        try {
+            if (isClosed()) {
+                command.result.completeExceptionally(new SessionClosedException("Session is closed"));
+            } else {
+                commands.add(command);
+            }
+        } finally {
+            enqueueLock.unlock();
+        }
+        return command.result;
+    }
+
+    private void write() {
+        try {
+            Command command;
+            while ((command = commands.take()) != STOP) {
+                apply(command);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stop();  // stopped, interrupted or an error in a transition, nothing is applied any more
+        }
+    }
+
+    // once the writer is gone nothing may wait for it, commands left in the queue fail and the seats are closed
+    private void stop() {
+        enqueueLock.lock();
+        try {
+            closed.set(true);
+        } finally {
+            enqueueLock.unlock();
+        }
+        Command pending;
+        while ((pending = commands.poll()) != null) {
+            if (pending != STOP) {
+                pending.result.completeExceptionally(new SessionClosedException("Session is closed"));
+            }
+        }
+        seats.values().forEach(Connection::close);
+    }
+
+    private void apply(Command command) {
+        final Hand next;
+        try {
+            next = command.transition.apply(hand);
+        } catch (RuntimeException e) {
+            command.result.completeExceptionally(e);
+            return;
+        } catch (Error e) {
+            command.result.completeExceptionally(e);
+            throw e;  // ends the writer, see #stop
+        }
+        hand = next;
+        try {
+            final String state = stateOf(next);
+            seats.values().forEach(connection -> connection.send(state));
+        } finally {
+            command.result.complete(next);
+        }
+    }
+
+    private void converse(Player player, Connection connection) {
+        try {
+            connection.send(stateOf(hand));
+            String line;
+            while ((line = connection.receive()) != null) {
+                try {
+                    submit(player, Action.parse(line)).join();  // one action in flight per seat
+                } catch (Action.InvalidActionException e) {
+                    connection.send(errorOf(e));
+                } catch (CompletionException e) {
+                    connection.send(errorOf(e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            seats.remove(player, connection);
+        }
+    }
+
+    // STATE round=<0 to 3> pot=<chips> finished=<true|false> turn=<player or ->
+    static String stateOf(Hand hand) {
+        final String turn = hand.playerOnTurn().map(Player::toString).orElse("-");
+        return "STATE round=" + hand.currentPosition().position() +
+                " pot=" + hand.potSize().value() +
+                " finished=" + hand.isFinished() +
+                " turn=" + turn;
+    }
+
+    private static String errorOf(Throwable throwable) {
+        final String message = throwable.getMessage();
+        return "ERROR " + (message == null ? throwable.getClass().getSimpleName() : message);
+    }
+
+    private static class Command {
+        private final UnaryOperator<Hand> transition;
+        private final CompletableFuture<Hand> result;
+
+        private Command(UnaryOperator<Hand> transition, CompletableFuture<Hand> result) {
+            this.transition = transition;
+            this.result = result;
+        }
+    }
+
+    public static class SessionClosedException extends RuntimeException {
+        public SessionClosedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package hwr.oop.poker.simulation;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Combination;
+import hwr.oop.poker.Symbol;
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.combinations.LookupTableEvaluator;
+
+import java.util.List;
+
+// raises pairs and two high cards before the flop, two pairs or better after, calls with a pair, folds the rest
+class MadeHandStrategy implements Strategy {
+    private static final LookupTableEvaluator EVALUATOR = LookupTableEvaluator.create();
+
+    static MadeHandStrategy create() {
+        return new MadeHandStrategy();
+    }
+
+    private MadeHandStrategy() {
+        // stateless
+    }
+
+    @Override
+    public BettingRound play(Spot spot) {
+        if (spot.board().isEmpty()) {
+            return playPreFlop(spot);
+        }
+        final var label = LookupTableEvaluator.label(EVALUATOR.strength(spot.cards().bits()));
+        if (label.strength() >= Combination.Label.TWO_PAIRS.strength()) {
+            return spot.raiseTo(spot.pot() + 2 * spot.toCall());
+        } else if (label == Combination.Label.PAIR) {
+            return spot.checkOrCall();
+        } else {
+            return spot.checkOrFold();
+        }
+    }
+
+    private BettingRound playPreFlop(Spot spot) {
+        final List<Card> holeCards = spot.holeCards();
+        final Symbol first = holeCards.get(0).symbol();
+        final Symbol second = holeCards.get(1).symbol();
+        final boolean pair = first == second;
+        final boolean highCards = first.strength() >= Symbol.TEN.strength() && second.strength() >= Symbol.TEN.strength();
+        if (pair || highCards) {
+            return spot.raiseTo(3 * spot.minRaiseTo());
+        } else {
+            return spot.checkOrFold();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package hwr.oop.poker.simulation;
+
+import java.util.List;
+
+public class SimulationReport {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final List<TableResult> tables;
+    private final long elapsedNanos;
+    private final long hands;
+    private final int busted;
+
+    static SimulationReport of(List<TableResult> tables, long elapsedNanos) {
+        return new SimulationReport(tables, elapsedNanos);
+    }
+
+    private SimulationReport(List<TableResult> tables, long elapsedNanos) {
+        this.tables = List.copyOf(tables);
+        this.elapsedNanos = elapsedNanos;
+        this.hands = tables.stream().mapToLong(TableResult::hands).sum();
+        this.busted = tables.stream().mapToInt(TableResult::busted).sum();
+    }
+
+    public List<TableResult> tables() {
+        return tables;
+    }
+
+    public long hands() {
+        return hands;
+    }
+
+    public int busted() {
+        return busted;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double handsPerSecond() {
+        return hands * NANOS_PER_SECOND / Math.max(1, elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d tables, %d hands, %d busted in %.3f s (%.0f hands/s)",
+                tables.size(), hands, busted, elapsedNanos / NANOS_PER_SECOND, handsPerSecond());
+    }
+}
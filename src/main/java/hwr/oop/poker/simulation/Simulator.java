@@ -0,0 +1,183 @@
+package hwr.oop.poker.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class Simulator {
+    private static final int MAX_SEATS = 10;
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+    private final List<Strategy> strategies;
+    private final int tables;
+    private final int seats;
+    private final long startingStack;
+    private final long smallBlind;
+    private final int handsPerLevel;
+    private final long maxHandsPerTable;
+    private final long seed;
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    private Simulator(Builder builder) {
+        this.pool = builder.pool;
+        this.strategies = List.copyOf(builder.strategies);
+        this.tables = builder.tables;
+        this.seats = builder.seats;
+        this.startingStack = builder.startingStack;
+        this.smallBlind = builder.smallBlind;
+        this.handsPerLevel = builder.handsPerLevel;
+        this.maxHandsPerTable = builder.maxHandsPerTable;
+        this.seed = builder.seed;
+    }
+
+    public SimulationReport run() {
+        final long start = System.nanoTime();
+        final List<TableResult> results = pool.invoke(new TablesTask(0, tables));
+        return SimulationReport.of(results, System.nanoTime() - start);
+    }
+
+    // every table has its own generator derived from the seed, so results do not depend on scheduling
+    private TableResult playTable(int table) {
+        final long tableSeed = seed + table * SEED_GAMMA;
+        return new Table(table, strategies, seats, startingStack, smallBlind, handsPerLevel, maxHandsPerTable, tableSeed)
+                .play();
+    }
+
+    private class TablesTask extends RecursiveTask<List<TableResult>> {
+        private final int fromTable;
+        private final int toTable;
+
+        private TablesTask(int fromTable, int toTable) {
+            this.fromTable = fromTable;
+            this.toTable = toTable;
+        }
+
+        @Override
+        protected List<TableResult> compute() {
+            if (toTable - fromTable == 1) {
+                return List.of(playTable(fromTable));
+            }
+            final int middle = (fromTable + toTable) >>> 1;
+            final TablesTask left = new TablesTask(fromTable, middle);
+            final TablesTask right = new TablesTask(middle, toTable);
+            left.fork();
+            final List<TableResult> rightResults = right.compute();
+            final List<TableResult> results = new ArrayList<>(left.join());
+            results.addAll(rightResults);
+            return results;
+        }
+    }
+
+    public static class Builder {
+        private ForkJoinPool pool;
+        private List<Strategy> strategies;
+        private int tables;
+        private int seats;
+        private long startingStack;
+        private long smallBlind;
+        private int handsPerLevel;
+        private long maxHandsPerTable;
+        private long seed;
+
+        private Builder() {
+            this.pool = ForkJoinPool.commonPool();
+            this.strategies = List.of(Strategy.callingStation());
+            this.tables = 1;
+            this.seats = 6;
+            this.startingStack = 1500;
+            this.smallBlind = 10;
+            this.handsPerLevel = 0;
+            this.maxHandsPerTable = 1000;
+            this.seed = 0;
+        }
+
+        public Simulator build() {
+            assertPositive("tables", tables);
+            assertPositive("small blind", smallBlind);
+            assertPositive("hands per table", maxHandsPerTable);
+            if (seats < 2 || seats > MAX_SEATS) {
+                throw new InvalidSimulationException("Tables need 2 to " + MAX_SEATS + " seats, got " + seats);
+            }
+            if (startingStack < 2 * smallBlind) {
+                throw new InvalidSimulationException("Starting stack must cover the big blind, got " + startingStack);
+            }
+            if (handsPerLevel < 0) {
+                throw new InvalidSimulationException("Hands per level must not be negative, got " + handsPerLevel);
+            }
+            if (strategies.isEmpty()) {
+                throw new InvalidSimulationException("Need at least one strategy");
+            }
+            return new Simulator(this);
+        }
+
+        private static void assertPositive(String name, long value) {
+            if (value <= 0) {
+                throw new InvalidSimulationException("Number of " + name + " must be positive, got " + value);
+            }
+        }
+
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        // strategies are assigned to the seats of every table in turn
+        public Builder strategies(List<Strategy> strategies) {
+            this.strategies = strategies;
+            return this;
+        }
+
+        public Builder tables(int tables) {
+            this.tables = tables;
+            return this;
+        }
+
+        public Builder seats(int seats) {
+            this.seats = seats;
+            return this;
+        }
+
+        public Builder startingStack(long startingStack) {
+            this.startingStack = startingStack;
+            return this;
+        }
+
+        public Builder smallBlind(long smallBlind) {
+            this.smallBlind = smallBlind;
+            return this;
+        }
+
+        // blinds double every given number of hands (tournament), 0 keeps them fixed (cash game)
+        public Builder handsPerLevel(int handsPerLevel) {
+            this.handsPerLevel = handsPerLevel;
+            return this;
+        }
+
+        public Builder maxHandsPerTable(long maxHandsPerTable) {
+            this.maxHandsPerTable = maxHandsPerTable;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+    }
+
+    public static class InvalidSimulationException extends RuntimeException {
+        public InvalidSimulationException(String message) {
+            super(message);
+        }
+    }
+
+    public static class InvalidStrategyException extends RuntimeException {
+        public InvalidStrategyException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package hwr.oop.poker.simulation;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.ChipValue;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.betting.RoundInContext;
+import hwr.oop.poker.betting.positions.RoundPosition;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+// everything a strategy may look at when it is on turn, plays are made through the RoundInContext
+public class Spot {
+    private final Player player;
+    private final RoundPosition position;
+    private final List<Card> holeCards;
+    private final CardSet board;
+    private final long bigBlind;
+    private final long pot;
+    private final long currentBet;
+    private final long committed;
+    private final long maxTotal;
+    private final SplittableRandom random;
+    private final RoundInContext context;
+
+    static Spot create(Player player, RoundPosition position, List<Card> holeCards, CardSet board,
+                       long bigBlind, long potOfEarlierRounds, BettingRound round, SplittableRandom random) {
+        return new Spot(player, position, holeCards, board, bigBlind, potOfEarlierRounds, round, random);
+    }
+
+    private Spot(Player player, RoundPosition position, List<Card> holeCards, CardSet board,
+                 long bigBlind, long potOfEarlierRounds, BettingRound round, SplittableRandom random) {
+        this.player = player;
+        this.position = position;
+        this.holeCards = holeCards;
+        this.board = board;
+        this.bigBlind = bigBlind;
+        this.pot = ChipValue.addExact(potOfEarlierRounds, round.potAsLong());
+        this.currentBet = round.lastChipCountIncreasingPlay()
+                .map(play -> play.totalChipValue().value())
+                .orElse(0L);
+        this.committed = round.chipsPutIntoPotByAsLong(player);
+        // all in at most, bets above what others can cover are settled as side pots (or returned) by Hand#settle
+        this.maxTotal = ChipValue.addExact(round.stacks().ofPlayerAsLong(player), committed);
+        this.random = random;
+        this.context = round.with(player);
+    }
+
+    public Player player() {
+        return player;
+    }
+
+    public RoundPosition position() {
+        return position;
+    }
+
+    public List<Card> holeCards() {
+        return holeCards;
+    }
+
+    public CardSet board() {
+        return board;
+    }
+
+    public CardSet cards() {
+        return board.union(CardSet.of(holeCards));
+    }
+
+    public long pot() {
+        return pot;
+    }
+
+    public long toCall() {
+        return currentBet - committed;
+    }
+
+    public boolean isBetMade() {
+        return currentBet > 0;
+    }
+
+    public long minRaiseTo() {
+        return isBetMade() ? ChipValue.minRaise(ChipValue.of(currentBet)).value() : bigBlind;
+    }
+
+    public long maxTotal() {
+        return maxTotal;
+    }
+
+    public boolean canRaise() {
+        return minRaiseTo() <= maxTotal;
+    }
+
+    public SplittableRandom random() {
+        return random;
+    }
+
+    public RoundInContext context() {
+        return context;
+    }
+
+    // calls with all remaining chips if they do not cover the bet
+    public BettingRound checkOrCall() {
+        return isBetMade() ? context.call() : context.check();
+    }
+
+    public BettingRound checkOrFold() {
+        if (!isBetMade()) {
+            return context.check();
+        }
+        return toCall() == 0 ? context.call() : context.fold();
+    }
+
+    // bets or raises to the given total, clamped to what is allowed, calls (or checks) if no raise is possible
+    public BettingRound raiseTo(long total) {
+        if (!canRaise()) {
+            return checkOrCall();
+        }
+        final long target = Math.max(minRaiseTo(), Math.min(total, maxTotal));
+        return isBetMade() ? context.raiseTo(target) : context.bet(target);
+    }
+}
@@ -0,0 +1,32 @@
+package hwr.oop.poker.simulation;
+
+import hwr.oop.poker.betting.BettingRound;
+
+@FunctionalInterface
+public interface Strategy {
+
+    // must make exactly one play, see Spot for the plays that are always valid
+    BettingRound play(Spot spot);
+
+    static Strategy checkOrFold() {
+        return Spot::checkOrFold;
+    }
+
+    static Strategy callingStation() {
+        return Spot::checkOrCall;
+    }
+
+    // raises the pot with the given probability, otherwise checks or calls
+    static Strategy randomAggression(double raiseProbability) {
+        if (raiseProbability < 0 || raiseProbability > 1) {
+            throw new IllegalArgumentException("Raise probability must be in [0, 1], got " + raiseProbability);
+        }
+        return spot -> spot.random().nextDouble() < raiseProbability
+                ? spot.raiseTo(spot.pot() + 2 * spot.toCall())
+                : spot.checkOrCall();
+    }
+
+    static Strategy madeHandAggression() {
+        return MadeHandStrategy.create();
+    }
+}
@@ -0,0 +1,171 @@
+package hwr.oop.poker.simulation;
+
+import hwr.oop.poker.ChipValue;
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.blinds.BlindConfiguration;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.ArrayDeck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// plays hands on one table until one player is left or the hand limit is reached, not thread safe
+class Table {
+    private final int number;
+    private final Player[] players;
+    private final Strategy[] strategies;
+    private final long[] stacks;  // by seat, 0 once busted
+    private final boolean[] busted;
+    private final long smallBlind;
+    private final int handsPerLevel;
+    private final long maxHands;
+    private final SplittableRandom random;
+    private final ArrayDeck deck;
+
+    Table(int number, List<Strategy> strategies, int seats, long startingStack,
+          long smallBlind, int handsPerLevel, long maxHands, long seed) {
+        this.number = number;
+        this.players = new Player[seats];
+        this.strategies = new Strategy[seats];
+        this.stacks = new long[seats];
+        this.busted = new boolean[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            players[seat] = new Player(number + "-" + seat);
+            this.strategies[seat] = strategies.get(seat % strategies.size());
+            stacks[seat] = startingStack;
+        }
+        this.smallBlind = smallBlind;
+        this.handsPerLevel = handsPerLevel;
+        this.maxHands = maxHands;
+        this.random = new SplittableRandom(seed);
+        this.deck = ArrayDeck.shuffled(random.split());
+    }
+
+    TableResult play() {
+        long hands = 0;
+        int bustedCount = 0;
+        int smallBlindSeat = 0;
+        while (hands < maxHands) {
+            final SmallBlind blind = blindFor(hands);
+            for (int seat = 0; seat < stacks.length; seat++) {
+                if (!busted[seat] && stacks[seat] == 0) {  // short stacks play on, all in for less if they must
+                    busted[seat] = true;
+                    bustedCount++;
+                }
+            }
+            if (stacks.length - bustedCount < 2) {
+                break;
+            }
+            smallBlindSeat = nextActiveSeat(smallBlindSeat);
+            playHand(seatsFrom(smallBlindSeat), blind);
+            hands++;
+            smallBlindSeat = nextActiveSeat(smallBlindSeat + 1);
+        }
+        return TableResult.of(number, hands, stacks, bustedCount);
+    }
+
+    private SmallBlind blindFor(long hands) {
+        long blind = smallBlind;
+        for (long level = handsPerLevel == 0 ? 0 : hands / handsPerLevel; level > 0; level--) {  // doubles every level
+            blind = ChipValue.multiplyExact(blind, 2);
+        }
+        return SmallBlind.of(blind);
+    }
+
+    private int nextActiveSeat(int seat) {
+        int candidate = seat % stacks.length;
+        while (busted[candidate]) {
+            candidate = (candidate + 1) % stacks.length;
+        }
+        return candidate;
+    }
+
+    // active seats, starting with the small blind
+    private List<Integer> seatsFrom(int smallBlindSeat) {
+        final List<Integer> seats = new ArrayList<>(stacks.length);
+        for (int offset = 0; offset < stacks.length; offset++) {
+            final int seat = (smallBlindSeat + offset) % stacks.length;
+            if (!busted[seat]) {
+                seats.add(seat);
+            }
+        }
+        return seats;
+    }
+
+    private void playHand(List<Integer> seats, SmallBlind blind) {
+        final List<Player> handPlayers = new ArrayList<>(seats.size());
+        final var stacksBuilder = Stacks.newBuilder();
+        for (int seat : seats) {
+            handPlayers.add(players[seat]);
+            stacksBuilder.of(players[seat]).is(stacks[seat]);
+        }
+        deck.reshuffle();
+        final Hand dealt = Hand.newBuilder()
+                .deck(deck)
+                .players(handPlayers)
+                .smallBlind(blind)
+                .stacks(stacksBuilder.build())
+                .build();
+        Hand hand = dealt.onCurrentRound(round -> postBlinds(round, dealt.blindConfiguration(), handPlayers));
+        while (!hand.isFinished()) {
+            hand = playRound(hand, seats);
+        }
+        final Stacks settled = hand.settle();
+        for (int seat : seats) {
+            stacks[seat] = settled.ofPlayerAsLong(players[seat]);
+        }
+    }
+
+    // a stack that can not cover its blind posts what it has and is all in
+    private BettingRound postBlinds(BettingRound round, BlindConfiguration blinds, List<Player> handPlayers) {
+        final Player smallBlind = handPlayers.get(0);
+        final Player bigBlind = handPlayers.get(1);
+        final BettingRound posted = round.with(smallBlind)
+                .bet(Math.min(blinds.smallBlind().value(), round.stacks().ofPlayerAsLong(smallBlind)));
+        if (posted.stacks().ofPlayerAsLong(bigBlind) < blinds.bigBlind().value()) {
+            return posted.with(bigBlind).allIn();
+        }
+        return posted.with(bigBlind).raiseTo(blinds.bigBlind().value());
+    }
+
+    private Hand playRound(Hand hand, List<Integer> seats) {
+        return hand.onCurrentRound(start -> {
+            final long potOfEarlierRounds = potOf(hand, seats) - start.potAsLong();
+            final long bigBlind = hand.blindConfiguration().bigBlind().value();
+            BettingRound round = start;
+            while (!round.isFinished()) {
+                final Player player = round.turn().orElseThrow();
+                final Spot spot = Spot.create(player, hand.currentPosition(), hand.holeCards(player),
+                        hand.cardSet(), bigBlind, potOfEarlierRounds, round, random);
+                final BettingRound next = strategyOf(player).play(spot);
+                if (next.history().size() != round.history().size() + 1) {
+                    throw new Simulator.InvalidStrategyException("Strategy of " + player
+                            + " has to make exactly one play, made " + (next.history().size() - round.history().size()));
+                }
+                round = next;
+            }
+            return round;
+        });
+    }
+
+    private long potOf(Hand hand, List<Integer> seats) {
+        long pot = 0;
+        for (int seat : seats) {
+            pot = ChipValue.addExact(pot, hand.chipsPutIntoPotBy(players[seat]));
+        }
+        return pot;
+    }
+
+    private Strategy strategyOf(Player player) {
+        for (int seat = 0; seat < players.length; seat++) {
+            if (players[seat].equals(player)) {
+                return strategies[seat];
+            }
+        }
+        throw new IllegalStateException("No seat for " + player + " on table " + number);
+    }
+}
@@ -0,0 +1,51 @@
+package hwr.oop.poker.simulation;
+
+import java.util.Arrays;
+
+public class TableResult {
+    private final int table;
+    private final long hands;
+    private final long[] stacks;  // by seat, 0 for busted players
+    private final int busted;
+
+    static TableResult of(int table, long hands, long[] stacks, int busted) {
+        return new TableResult(table, hands, stacks.clone(), busted);
+    }
+
+    private TableResult(int table, long hands, long[] stacks, int busted) {
+        this.table = table;
+        this.hands = hands;
+        this.stacks = stacks;
+        this.busted = busted;
+    }
+
+    public int table() {
+        return table;
+    }
+
+    public long hands() {
+        return hands;
+    }
+
+    public long[] stacks() {
+        return stacks.clone();
+    }
+
+    public int busted() {
+        return busted;
+    }
+
+    public long chipsInPlay() {
+        return Arrays.stream(stacks).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TableResult{" +
+                "table=" + table +
+                ", hands=" + hands +
+                ", stacks=" + Arrays.toString(stacks) +
+                ", busted=" + busted +
+                '}';
+    }
+}
@@ -0,0 +1,101 @@
+package hwr.oop.poker;
+
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Sets of Cards packed into a single long")
+class CardSetTest {
+
+    private Converter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+    }
+
+    @Test
+    @DisplayName("empty set, contains no card and has size 0")
+    void emptySet_SizeZero() {
+        final CardSet empty = CardSet.empty();
+        assertThat(empty.size()).isZero();
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.contains(converter.from("AS"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("full deck, contains all 52 distinct cards")
+    void fullDeck_52DistinctCards() {
+        final CardSet deck = CardSet.fullDeck();
+        final List<Card> cards = deck.toList();
+        assertThat(deck.size()).isEqualTo(52);
+        assertThat(cards).hasSize(52).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("add AS and 7H, contains both, but not AH")
+    void add_ContainsAddedCardsOnly() {
+        final CardSet set = CardSet.empty()
+                .add(converter.from("AS"))
+                .add(converter.from("7H"));
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains(converter.from("AS"))).isTrue();
+        assertThat(set.contains(converter.from("7H"))).isTrue();
+        assertThat(set.contains(converter.from("AH"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("remove a card, set without that card, original unchanged")
+    void remove_OriginalUnchanged() {
+        final CardSet original = CardSet.of(converter.convert("AS,KS,QS"));
+        final CardSet removed = original.remove(converter.from("KS"));
+        assertThat(removed).isEqualTo(CardSet.of(converter.convert("AS,QS")));
+        assertThat(original.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("union, intersection and difference of two sets")
+    void setOperations() {
+        final CardSet first = CardSet.of(converter.convert("AS,KS,QS"));
+        final CardSet second = CardSet.of(converter.convert("QS,JS"));
+        assertThat(first.union(second)).isEqualTo(CardSet.of(converter.convert("AS,KS,QS,JS")));
+        assertThat(first.intersection(second)).isEqualTo(CardSet.of(converter.convert("QS")));
+        assertThat(first.without(second)).isEqualTo(CardSet.of(converter.convert("AS,KS")));
+        assertThat(first.containsAny(second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("toList and back, same set")
+    void toListAndBack_SameSet() {
+        final List<Card> cards = converter.convert("2C,TD,AH,5S,9C");
+        final CardSet set = CardSet.of(cards);
+        assertThat(set.toList()).containsExactlyInAnyOrderElementsOf(cards);
+        assertThat(CardSet.of(set.toList())).isEqualTo(set);
+        assertThat(CardSet.ofBits(set.bits())).isEqualTo(set);
+    }
+
+    @Test
+    @DisplayName("count per symbol and per color")
+    void countOfSymbolAndColor() {
+        final CardSet set = CardSet.of(converter.convert("AS,AH,AD,KS,2S"));
+        assertThat(set.countOf(Symbol.ACE)).isEqualTo(3);
+        assertThat(set.countOf(Symbol.KING)).isEqualTo(1);
+        assertThat(set.countOf(Symbol.QUEEN)).isZero();
+        assertThat(set.countOf(Color.SPADES)).isEqualTo(3);
+        assertThat(set.symbolsOf(Color.SPADES))
+                .isEqualTo(1 << Symbol.ACE.ordinal() | 1 << Symbol.KING.ordinal() | 1 << Symbol.TWO.ordinal());
+    }
+
+    @Test
+    @DisplayName("bits above the 52 cards, throws exception")
+    void invalidBits_ThrowsException() {
+        assertThatThrownBy(() -> CardSet.ofBits(1L << 52))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,11 +2,15 @@ package hwr.oop.poker;
 
 import hwr.oop.poker.testing.Converter;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.NoSuchElementException;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Creating Cards")
 class CardsTest {
@@ -18,7 +22,7 @@ class CardsTest {
         final Symbol seven = Symbol.SEVEN;
         final Color expectedColor = Color.valueOf(colorString);
 
-        final Card card = new Card(expectedColor, seven);
+        final Card card = Card.of(expectedColor, seven);
         final Color color = card.color();
         final Symbol number = card.symbol();
 
@@ -36,7 +40,7 @@ class CardsTest {
         final Symbol expectedNumber = Symbol.valueOf(numberString);
         final Color hearts = Color.HEARTS;
 
-        final Card card = new Card(hearts, expectedNumber);
+        final Card card = Card.of(hearts, expectedNumber);
         final Color color = card.color();
         final Symbol number = card.symbol();
 
@@ -88,4 +92,50 @@ class CardsTest {
         final Card second = converter.from(secondCard);
         assertThat(first).isNotEqualTo(second);
     }
+
+    @ParameterizedTest
+    @DisplayName("#of: equal cards, same instance")
+    @ValueSource(strings = {"TH", "AS", "2D", "JC"})
+    void of_EqualCards_SameInstance(String card) {
+        Converter converter = Converter.create();
+        final Card parsed = converter.from(card);
+        final Card created = Card.of(parsed.color(), parsed.symbol());
+        assertThat(created).isSameAs(parsed);
+    }
+
+    @Test
+    @DisplayName("#fromIndex and #index, inverse for all 52 cards")
+    void fromIndexAndIndex_Inverse() {
+        for (int index = 0; index < Card.NUMBER_OF_CARDS; index++) {
+            final Card card = Card.fromIndex(index);
+            assertThat(card.index()).isEqualTo(index);
+            assertThat(card.hashCode()).isEqualTo(index);
+            assertThat(Card.of(card.color(), card.symbol())).isSameAs(card);
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("#fromIndex: index outside of the deck, throws exception")
+    @ValueSource(ints = {-1, 52})
+    void fromIndex_OutsideOfDeck_ThrowsException(int index) {
+        assertThatThrownBy(() -> Card.fromIndex(index))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(index));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Symbol#of: strength of each symbol, that symbol")
+    @ValueSource(strings = {"TWO", "SEVEN", "TEN", "KING", "ACE"})
+    void symbolOf_Strength_Symbol(String symbolString) {
+        final Symbol symbol = Symbol.valueOf(symbolString);
+        assertThat(Symbol.of(symbol.strength())).isSameAs(symbol);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Symbol#of: no symbol with that strength, throws exception")
+    @ValueSource(ints = {-1, 0, 1, 15})
+    void symbolOf_UnknownStrength_ThrowsException(int strength) {
+        assertThatThrownBy(() -> Symbol.of(strength))
+                .isInstanceOf(NoSuchElementException.class);
+    }
 }
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Stacks of chips have a Chip Value")
 class ChipValuesTest {
@@ -36,6 +37,48 @@ class ChipValuesTest {
         assertThat(valuedBigBlind).isGreaterThan(smallBlind);
     }
 
+    @Test
+    @DisplayName("common Chip Values (small or multiples of 25), same instance")
+    void commonChipValues_SameInstance() {
+        assertThat(ChipValue.of(0)).isSameAs(ChipValue.zero());
+        assertThat(ChipValue.of(42)).isSameAs(ChipValue.of(42));
+        assertThat(ChipValue.of(2500)).isSameAs(ChipValue.of(2500));
+        assertThat(ChipValue.of(1000).plus(ChipValue.of(1500))).isSameAs(ChipValue.of(2500));
+    }
+
+    @Test
+    @DisplayName("uncommon Chip Value, equal but not cached")
+    void uncommonChipValue_Equal() {
+        assertThat(ChipValue.of(1_000_001)).isEqualTo(ChipValue.of(1_000_001));
+    }
+
+    @Test
+    @DisplayName("adding beyond the largest Chip Value, throws exception instead of wrapping around")
+    void plus_Overflow_ThrowsException() {
+        final ChipValue huge = ChipValue.of(Long.MAX_VALUE);
+        final ChipValue one = ChipValue.of(1);
+        assertThatThrownBy(() -> huge.plus(one))
+                .isInstanceOf(ChipValue.ChipValueOverflowException.class)
+                .hasMessageContaining(String.valueOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("minimum raise on a huge bet, throws exception instead of wrapping around")
+    void minRaise_Overflow_ThrowsException() {
+        final ChipValue huge = ChipValue.of(Long.MAX_VALUE / 2 + 1);
+        assertThatThrownBy(() -> ChipValue.minRaise(huge))
+                .isInstanceOf(ChipValue.ChipValueOverflowException.class);
+    }
+
+    @Test
+    @DisplayName("subtracting more than available, throws exception")
+    void minus_BelowZero_ThrowsException() {
+        final ChipValue ten = ChipValue.of(10);
+        final ChipValue eleven = ChipValue.of(11);
+        assertThatThrownBy(() -> ten.minus(eleven))
+                .isInstanceOf(ChipValue.NegativeChipCountException.class);
+    }
+
     @Test
     @Disabled("Chip values outside of blinds are not yet implemented")
     void trueStacksIndependentOfBlindsAndAntes() {
@@ -1,12 +1,17 @@
 package hwr.oop.poker;
 
+import hwr.oop.poker.decks.ArrayDeck;
 import hwr.oop.poker.decks.RandomDeck;
+import hwr.oop.poker.decks.RandomSource;
 import hwr.oop.poker.decks.TestDoubleDeck;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -64,15 +69,15 @@ class DeckTest {
         @DisplayName("only (H7,JS,AC) in deck, exactly (H7,JS,AC) can be drawn")
         void testDouble_ThreeCards_ExactlyTheseCardsPresent() {
             final Deck deck = new TestDoubleDeck(
-                    new Card(Color.HEARTS, Symbol.SEVEN),
-                    new Card(Color.SPADES, Symbol.JACK),
-                    new Card(Color.CLUBS, Symbol.ACE)
+                    Card.of(Color.HEARTS, Symbol.SEVEN),
+                    Card.of(Color.SPADES, Symbol.JACK),
+                    Card.of(Color.CLUBS, Symbol.ACE)
             );
             final List<Card> cards = deck.drawAllCards();
             assertThat(cards).containsExactly(
-                    new Card(Color.HEARTS, Symbol.SEVEN),
-                    new Card(Color.SPADES, Symbol.JACK),
-                    new Card(Color.CLUBS, Symbol.ACE)
+                    Card.of(Color.HEARTS, Symbol.SEVEN),
+                    Card.of(Color.SPADES, Symbol.JACK),
+                    Card.of(Color.CLUBS, Symbol.ACE)
             );
         }
 
@@ -80,13 +85,13 @@ class DeckTest {
         @DisplayName("only (H7,H8) in deck, exactly (H7,H8) can be drawn")
         void testDoubleDeckWithFiveCards_AllDrawnCardsAreTheOnesProvided() {
             final Deck deck = new TestDoubleDeck(
-                    new Card(Color.HEARTS, Symbol.SEVEN),
-                    new Card(Color.HEARTS, Symbol.EIGHT)
+                    Card.of(Color.HEARTS, Symbol.SEVEN),
+                    Card.of(Color.HEARTS, Symbol.EIGHT)
             );
             final List<Card> cards = deck.drawAllCards();
             assertThat(cards).containsExactly(
-                    new Card(Color.HEARTS, Symbol.SEVEN),
-                    new Card(Color.HEARTS, Symbol.EIGHT)
+                    Card.of(Color.HEARTS, Symbol.SEVEN),
+                    Card.of(Color.HEARTS, Symbol.EIGHT)
             );
         }
 
@@ -94,7 +99,7 @@ class DeckTest {
         @DisplayName("draw all cards, draw once more, throws exception")
         void emptyDeck_DrawOnceMore_ThrowsException() {
             final Deck deck = new TestDoubleDeck(
-                    new Card(Color.HEARTS, Symbol.SEVEN)
+                    Card.of(Color.HEARTS, Symbol.SEVEN)
             );
             deck.drawAllCards();
             assertThrows(Deck.DrawFromEmptyDeckException.class, deck::draw);
@@ -104,7 +109,7 @@ class DeckTest {
         @DisplayName("draw all cards, draw once more, throws exception")
         void emptyDeck_PeekOnTopCard_ThrowsException() {
             final Deck deck = new TestDoubleDeck(
-                    new Card(Color.HEARTS, Symbol.SEVEN)
+                    Card.of(Color.HEARTS, Symbol.SEVEN)
             );
             deck.drawAllCards();
             assertThrows(Deck.DrawFromEmptyDeckException.class, deck::top);
@@ -114,11 +119,129 @@ class DeckTest {
         @DisplayName("draw all cards, remove top card, throws exception")
         void emptyDeck_RemoveFirstCard_ThrowsException() {
             final Deck deck = new TestDoubleDeck(
-                    new Card(Color.HEARTS, Symbol.SEVEN)
+                    Card.of(Color.HEARTS, Symbol.SEVEN)
             );
             deck.drawAllCards();
             assertThrows(Deck.DrawFromEmptyDeckException.class, deck::burn);
         }
 
     }
+
+    @Nested
+    @DisplayName("Provide a Deck backed by card indices, reusable for many hands")
+    class ArrayDeckTest {
+        @Test
+        @DisplayName("new Deck, contains each of the 52 cards exactly once")
+        void newDeck_ContainsEachCardExactlyOnce() {
+            final Deck deck = ArrayDeck.shuffled(42);
+            final List<Card> cards = deck.drawAllCards();
+            assertThat(cards).hasSize(52).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("same seed, same order of cards")
+        void sameSeed_SameOrder() {
+            final List<Card> first = ArrayDeck.shuffled(42).drawAllCards();
+            final List<Card> second = ArrayDeck.shuffled(42).drawAllCards();
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("top card, is the card drawn next")
+        void topCard_IsDrawnNext() {
+            final Deck deck = ArrayDeck.shuffled(42);
+            final Card top = deck.top();
+            assertThat(deck.draw()).isSameAs(top);
+        }
+
+        @Test
+        @DisplayName("draw and burn, remaining cards decrease")
+        void drawAndBurn_RemainingDecreases() {
+            final ArrayDeck deck = ArrayDeck.shuffled(42);
+            deck.draw();
+            deck.burn();
+            assertThat(deck.remaining()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("reset, same cards in same order again")
+        void reset_SameOrderAgain() {
+            final ArrayDeck deck = ArrayDeck.shuffled(42);
+            final List<Card> first = deck.drawAllCards();
+            deck.reset();
+            assertThat(deck.drawAllCards()).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("reshuffle, all 52 cards in another order")
+        void reshuffle_AllCardsInOtherOrder() {
+            final ArrayDeck deck = ArrayDeck.shuffled(42);
+            final List<Card> first = deck.drawAllCards();
+            deck.reshuffle();
+            final List<Card> second = deck.drawAllCards();
+            assertThat(second).containsExactlyInAnyOrderElementsOf(first).isNotEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("draw all cards, draw, peek and burn, throw exceptions")
+        void emptyDeck_DrawPeekBurn_ThrowExceptions() {
+            final Deck deck = ArrayDeck.shuffled(42);
+            deck.drawAllCards();
+            assertThrows(Deck.DrawFromEmptyDeckException.class, deck::draw);
+            assertThrows(Deck.DrawFromEmptyDeckException.class, deck::top);
+            assertThrows(Deck.DrawFromEmptyDeckException.class, deck::burn);
+        }
+    }
+
+    @Nested
+    @DisplayName("Provide a random Deck with a pluggable random source")
+    class RandomDeckTest {
+        @Test
+        @DisplayName("same seed, same order of cards")
+        void sameSeed_SameOrder() {
+            final List<Card> first = RandomDeck.seeded(42).drawAllCards();
+            final List<Card> second = RandomDeck.seeded(42).drawAllCards();
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("different seeds, different order of cards")
+        void differentSeeds_DifferentOrder() {
+            final List<Card> first = RandomDeck.seeded(42).drawAllCards();
+            final List<Card> second = RandomDeck.seeded(43).drawAllCards();
+            assertThat(first).isNotEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("lazy shuffle, same order as eager shuffle with same seed")
+        void lazyShuffle_SameOrderAsEager() {
+            final Deck eager = new RandomDeck(RandomSource.of(new SplittableRandom(42)), RandomDeck.Shuffle.EAGER);
+            final Deck lazy = new RandomDeck(RandomSource.of(new SplittableRandom(42)), RandomDeck.Shuffle.LAZY);
+            assertThat(lazy.drawAllCards()).isEqualTo(eager.drawAllCards());
+        }
+
+        @Test
+        @DisplayName("lazy shuffle, only draws random numbers for dealt cards")
+        void lazyShuffle_RandomNumbersOnlyForDealtCards() {
+            final AtomicInteger calls = new AtomicInteger();
+            final RandomSource source = RandomSource.seeded(42);
+            final Deck deck = new RandomDeck(bound -> {
+                calls.incrementAndGet();
+                return source.nextInt(bound);
+            }, RandomDeck.Shuffle.LAZY);
+            deck.draw();
+            deck.top();
+            deck.top();
+            deck.burn();
+            deck.draw();
+            assertThat(calls).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("java.util.Random as source, contains each of the 52 cards exactly once")
+        void randomAsSource_AllCardsExactlyOnce() {
+            final Deck deck = new RandomDeck(RandomSource.of(new Random(42)), RandomDeck.Shuffle.LAZY);
+            assertThat(deck.drawAllCards()).hasSize(52).doesNotHaveDuplicates();
+        }
+    }
 }
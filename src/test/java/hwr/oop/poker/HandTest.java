@@ -0,0 +1,123 @@
+package hwr.oop.poker;
+
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.TestDoubleDeck;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hand, three Players, the Player with the best cards folds on the turn")
+class HandTest {
+
+    private Player firstPlayer;
+    private Player secondPlayer;
+    private Player thirdPlayer;
+    private Hand finishedHand;
+
+    private static Deck deck() {
+        final Converter converter = Converter.create();
+        return new TestDoubleDeck(
+                converter.from("AH"),  // p1, c1
+                converter.from("KS"),  // p2, c1
+                converter.from("7C"),  // p3, c1
+                converter.from("AC"),  // p1, c2
+                converter.from("KD"),  // p2, c2
+                converter.from("2D"),  // p3, c2
+                converter.from("4C"),  // burned, flop following
+                converter.from("2H"),
+                converter.from("5S"),
+                converter.from("9D"),
+                converter.from("4S"),  // burned, turn following
+                converter.from("JC"),
+                converter.from("4D"),  // burned, river following
+                converter.from("3H")
+        );
+    }
+
+    private Hand.Builder hand(long firstStack) {
+        final Stacks stacks = Stacks.newBuilder()
+                .of(firstPlayer).is(firstStack)
+                .of(secondPlayer).is(1000)
+                .of(thirdPlayer).is(1000)
+                .build();
+        return Hand.newBuilder()
+                .deck(deck())
+                .players(List.of(firstPlayer, secondPlayer, thirdPlayer))
+                .smallBlind(SmallBlind.of(10))
+                .stacks(stacks);
+    }
+
+    @BeforeEach
+    void setUp() {
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+        thirdPlayer = new Player("3");
+        finishedHand = hand(1000).build()
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check().with(thirdPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check().with(thirdPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).bet(100)
+                        .with(thirdPlayer).call().with(firstPlayer).fold())
+                .onCurrentRound(r -> r.with(secondPlayer).check().with(thirdPlayer).check());
+    }
+
+    @Test
+    @DisplayName("#showDown, folded aces are not part of it, kings win")
+    void showDown_FoldedPlayerNotPart_KingsWin() {
+        assertThat(finishedHand.isFinished()).isTrue();
+        assertThat(finishedHand.showDown()).isPresent().get().satisfies(showDown -> {
+            assertThat(showDown.winner()).isEqualTo(secondPlayer);
+            assertThat(showDown.ranking()).containsExactly(List.of(secondPlayer), List.of(thirdPlayer));
+        });
+    }
+
+    @Test
+    @DisplayName("#settle, kings win the bet of the turn, folded aces lose nothing")
+    void settle_KingsWinBet() {
+        final Stacks stacks = finishedHand.settle();
+        assertThat(stacks.ofPlayerAsLong(firstPlayer)).isEqualTo(1000);
+        assertThat(stacks.ofPlayerAsLong(secondPlayer)).isEqualTo(1100);
+        assertThat(stacks.ofPlayerAsLong(thirdPlayer)).isEqualTo(900);
+    }
+
+    @Nested
+    @DisplayName("short stack with the aces is all in for 100 before the flop")
+    class ShortStackAllInTest {
+
+        @Test
+        @DisplayName("called by one player only, the remaining rounds are dealt without plays")
+        void calledByOne_DealtToRiver() {
+            final Hand hand = hand(100).build()
+                    .onCurrentRound(r -> r.with(firstPlayer).allIn()
+                            .with(secondPlayer).call().with(thirdPlayer).fold());
+            assertThat(hand.isFinished()).isTrue();
+            assertThat(hand.river()).isPresent();
+            final Stacks stacks = hand.settle();
+            assertThat(stacks.ofPlayerAsLong(firstPlayer)).isEqualTo(200);
+            assertThat(stacks.ofPlayerAsLong(secondPlayer)).isEqualTo(900);
+            assertThat(stacks.ofPlayerAsLong(thirdPlayer)).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("the others play on without the short stack, aces win the main pot, kings the side pot")
+        void othersPlayOn_MainAndSidePot() {
+            final Hand hand = hand(100).build()
+                    .onCurrentRound(r -> r.with(firstPlayer).allIn()
+                            .with(secondPlayer).raiseTo(300).with(thirdPlayer).call())
+                    .onCurrentRound(r -> r.with(secondPlayer).check().with(thirdPlayer).check())
+                    .onCurrentRound(r -> r.with(secondPlayer).check().with(thirdPlayer).check())
+                    .onCurrentRound(r -> r.with(secondPlayer).check().with(thirdPlayer).check());
+            assertThat(hand.isFinished()).isTrue();
+            assertThat(hand.potSize()).isEqualTo(ChipValue.of(700));
+            final Stacks stacks = hand.settle();
+            assertThat(stacks.ofPlayerAsLong(firstPlayer)).isEqualTo(300);
+            assertThat(stacks.ofPlayerAsLong(secondPlayer)).isEqualTo(1100);
+            assertThat(stacks.ofPlayerAsLong(thirdPlayer)).isEqualTo(700);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package hwr.oop.poker;
 
 import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.betting.positions.RoundPosition;
 import hwr.oop.poker.blinds.BigBlind;
 import hwr.oop.poker.blinds.BlindConfiguration;
 import hwr.oop.poker.blinds.SmallBlind;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Scripted Hand, two Players, Tens full vs. Aces full")
 class PlayingHandsWithTwoPlayersTest {
@@ -43,17 +45,17 @@ class PlayingHandsWithTwoPlayersTest {
                 converter.from("AS")
         );
         final Deck deck = new TestDoubleDeck(
-                new Card(Color.HEARTS, Symbol.ACE),  // p1, c1
-                new Card(Color.SPADES, Symbol.TEN),
-                new Card(Color.CLUBS, Symbol.ACE),  // p1, c2
-                new Card(Color.SPADES, Symbol.TWO),
-                new Card(Color.CLUBS, Symbol.THREE),  // burned, flop following
+                Card.of(Color.HEARTS, Symbol.ACE),  // p1, c1
+                Card.of(Color.SPADES, Symbol.TEN),
+                Card.of(Color.CLUBS, Symbol.ACE),  // p1, c2
+                Card.of(Color.SPADES, Symbol.TWO),
+                Card.of(Color.CLUBS, Symbol.THREE),  // burned, flop following
                 cardsOnFlop.get(0),
                 cardsOnFlop.get(1),
                 cardsOnFlop.get(2),
-                new Card(Color.SPADES, Symbol.THREE),  // burned, turn following
+                Card.of(Color.SPADES, Symbol.THREE),  // burned, turn following
                 cardsOnTurn.get(0),
-                new Card(Color.DIAMONDS, Symbol.THREE),  // burned, river following
+                Card.of(Color.DIAMONDS, Symbol.THREE),  // burned, river following
                 cardsOnRiver.get(0)
         );
         firstPlayer = new Player("1");
@@ -75,8 +77,8 @@ class PlayingHandsWithTwoPlayersTest {
     void firstPlayerHoleCards_Bullets_HeartsAndClubs() {
         List<Card> firstPlayerHoleCards = hand.holeCards(firstPlayer);
         assertThat(firstPlayerHoleCards).containsExactlyInAnyOrder(
-                new Card(Color.HEARTS, Symbol.ACE),
-                new Card(Color.CLUBS, Symbol.ACE)
+                Card.of(Color.HEARTS, Symbol.ACE),
+                Card.of(Color.CLUBS, Symbol.ACE)
         );
     }
 
@@ -85,8 +87,8 @@ class PlayingHandsWithTwoPlayersTest {
     void secondPlayerHoleCards_TenDeuceOfSpades() {
         List<Card> secondPlayerHoleCards = hand.holeCards(secondPlayer);
         assertThat(secondPlayerHoleCards).containsExactlyInAnyOrder(
-                new Card(Color.SPADES, Symbol.TEN),
-                new Card(Color.SPADES, Symbol.TWO)
+                Card.of(Color.SPADES, Symbol.TEN),
+                Card.of(Color.SPADES, Symbol.TWO)
         );
     }
 
@@ -452,6 +454,24 @@ class PlayingHandsWithTwoPlayersTest {
             assertThat(isHandFinished).isTrue();
         }
 
+        @Test
+        @DisplayName("flop played one play at a time: flop is dealt once, turn follows")
+        void flopPlayedPlayByPlay_FlopDealtOnce() {
+            final Hand handAfterFlop = hand
+                    .onCurrentRound(this::bothPlayersChecking)
+                    .onCurrentRound(r -> r.with(firstPlayer).bet(100))
+                    .onCurrentRound(r -> r.with(secondPlayer).raiseTo(200))
+                    .onCurrentRound(r -> r.with(firstPlayer).call());
+            // then
+            assertThat(handAfterFlop.flop())
+                    .isPresent().get()
+                    .satisfies(fl -> assertContainsCards(fl, cardsOnFlop));
+            assertThat(handAfterFlop.turn())
+                    .isPresent().get()
+                    .satisfies(tu -> assertContainsCards(tu, cardsOnTurn));
+            assertThat(handAfterFlop.currentPosition()).isEqualTo(RoundPosition.TURN);
+        }
+
         private void assertContainsCards(Card.Provider cardProvider, Collection<Card> expected) {
             assertThat(cardProvider.cards())
                     .isNotEmpty()
@@ -500,24 +520,103 @@ class PlayingHandsWithTwoPlayersTest {
             });
         }
 
+        @Test
+        void settle_AllChecks_StacksUnchanged() {
+            final Stacks stacks = finishedHand.settle();
+            assertThat(stacks.ofPlayerAsLong(firstPlayer)).isEqualTo(1000);
+            assertThat(stacks.ofPlayerAsLong(secondPlayer)).isEqualTo(1000);
+        }
+
         private BettingRound bothPlayersCheck(BettingRound r) {
             return r.with(firstPlayer).check().with(secondPlayer).check();
         }
     }
 
     @Test
-    @DisplayName("#potSize, is equal to sum of Small Blind and Big Blind")
-    void potSize_IsEqualToSumOfSmallBlindAndBigBlind() {
+    @DisplayName("#settle, bet and call on river, aces full win the pot")
+    void settle_BetAndCallOnRiver_FirstPlayerWinsPot() {
+        final Hand handWithBetOnRiver = hand
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).bet(100).with(secondPlayer).call());
+        final Stacks stacks = handWithBetOnRiver.settle();
+        assertThat(handWithBetOnRiver.chipsPutIntoPotBy(secondPlayer)).isEqualTo(100);
+        assertThat(stacks.ofPlayerAsLong(firstPlayer)).isEqualTo(1100);
+        assertThat(stacks.ofPlayerAsLong(secondPlayer)).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("#settle, second player folds to a bet, first player wins without show down")
+    void settle_FoldToBet_FirstPlayerWinsWithoutShowDown() {
+        final Hand handAfterFold = hand
+                .onCurrentRound(r -> r.with(firstPlayer).bet(100).with(secondPlayer).fold());
+        final Stacks stacks = handAfterFold.settle();
+        assertThat(handAfterFold.hasFolded(secondPlayer)).isTrue();
+        assertThat(stacks.ofPlayerAsLong(firstPlayer)).isEqualTo(1000);
+        assertThat(stacks.ofPlayerAsLong(secondPlayer)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("second player folds pre-flop: hand finished, no flop dealt and no show down")
+    void foldPreFlop_HandFinishedWithoutFlopAndShowDown() {
+        final Hand handAfterFold = hand
+                .onCurrentRound(r -> r.with(firstPlayer).bet(100).with(secondPlayer).fold());
+        assertThat(handAfterFold.isFinished()).isTrue();
+        assertThat(handAfterFold.currentPosition()).isEqualTo(RoundPosition.PRE_FLOP);
+        assertThat(handAfterFold.flop()).isNotPresent();
+        assertThat(handAfterFold.showDown()).isNotPresent();
+        assertThatThrownBy(() -> handAfterFold.onCurrentRound(r -> r))
+                .isInstanceOf(Hand.PlayOnOnFinishedHandException.class);
+    }
+
+    @Test
+    @DisplayName("#settle, before show down with two players remaining, throws exception")
+    void settle_BeforeShowDown_ThrowsException() {
+        final Hand handOnFlop = hand
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check());
+        assertThatThrownBy(handOnFlop::settle)
+                .isInstanceOf(Hand.SettleUnfinishedHandException.class);
+    }
+
+    @Test
+    @DisplayName("#potSize, no plays yet, blinds are not posted, pot is empty")
+    void potSize_NoPlays_Empty() {
+        assertThat(hand.potSize()).isEqualTo(ChipValue.zero());
+    }
+
+    @Test
+    @DisplayName("#potSize, blinds posted as plays, is equal to sum of Small Blind and Big Blind")
+    void potSize_BlindsPosted_IsEqualToSumOfSmallBlindAndBigBlind() {
         // given
         final BlindConfiguration config = hand.blindConfiguration();
         final long sbValue = config.smallBlind().value();
         final long bbValue = config.bigBlind().value();
         // when
-        final long potSize = hand.potSize().value();
+        final Hand handWithBlinds = hand.onCurrentRound(r -> r.with(firstPlayer).bet(sbValue)
+                .with(secondPlayer).raiseTo(bbValue));
+        final long potSize = handWithBlinds.potSize().value();
         // then
         assertThat(potSize).isEqualTo(sbValue + bbValue);
     }
 
+    @Test
+    @DisplayName("#potSize, after the river, is equal to the sum of the settled winnings")
+    void potSize_AfterRiver_IsEqualToSettledWinnings() {
+        final Hand finishedHand = hand
+                .onCurrentRound(r -> r.with(firstPlayer).bet(42).with(secondPlayer).raiseTo(84)
+                        .with(firstPlayer).call())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).bet(100).with(secondPlayer).call())
+                .onCurrentRound(r -> r.with(firstPlayer).bet(300).with(secondPlayer).call());
+        final Stacks settled = finishedHand.settle();
+        long winnings = 0;
+        for (Player player : List.of(firstPlayer, secondPlayer)) {
+            winnings += settled.ofPlayerAsLong(player) - finishedHand.stacks().ofPlayerAsLong(player);
+        }
+        assertThat(finishedHand.potSize().value()).isEqualTo(2 * (84 + 100 + 300)).isEqualTo(winnings);
+    }
+
     @Test
     @Disabled("Stacks for individual players are not yet implemented")
     void stacksForPlayers() {
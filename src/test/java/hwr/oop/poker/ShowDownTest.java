@@ -0,0 +1,129 @@
+package hwr.oop.poker;
+
+import hwr.oop.poker.community.cards.CommunityCards;
+import hwr.oop.poker.community.cards.CommunityCardsProvider;
+import hwr.oop.poker.community.cards.Flop;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Show down ranks Players by their best Combination")
+class ShowDownTest {
+
+    private Converter converter;
+    private Player firstPlayer;
+    private Player secondPlayer;
+    private Player thirdPlayer;
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+        thirdPlayer = new Player("3");
+        players = List.of(firstPlayer, secondPlayer, thirdPlayer);
+    }
+
+    @ParameterizedTest(name = "({0}) beats ({1})")
+    @CsvSource(delimiter = '-', value = {
+            "AS,AD,KC,KH,QD,4C,5H - AS,AD,KC,KH,JD,4C,5H",
+            "2S,3S,4S,5S,6S,KD,KC - AS,AD,AC,AH,KD,4C,5H",
+            "7S,7D,7C,2H,2D,4C,5H - AS,KS,QS,JS,9S,4C,5H",
+            "AS,KD,9C,8H,7D,4C,2H - AS,QD,9C,8H,7D,4C,2H",
+    })
+    void strongerCombination_ComparesGreater(String stronger, String weaker) {
+        final Combination strongerCombination = Combination.of(converter.convert(stronger));
+        final Combination weakerCombination = Combination.of(converter.convert(weaker));
+        assertThat(strongerCombination).isGreaterThan(weakerCombination);
+        assertThat(strongerCombination.beats(weakerCombination)).isTrue();
+        assertThat(weakerCombination.beats(strongerCombination)).isFalse();
+    }
+
+    @Test
+    @DisplayName("same pair and kickers in different colors, combinations are tied")
+    void sameRanks_Tied() {
+        final Combination first = Combination.of(converter.convert("AS,AD,KC,QH,9D,4C,2H"));
+        final Combination second = Combination.of(converter.convert("AH,AC,KD,QS,9C,4D,2S"));
+        assertThat(first.isTiedWith(second)).isTrue();
+        assertThat(first).isEqualByComparingTo(second);
+    }
+
+    @Test
+    @DisplayName("flush beats straight beats pair, ranking in that order")
+    void threeDifferentCombinations_RankedBestFirst() {
+        final ShowDown showDown = showDown("2C,3D", "8H,9H", "KS,KD");
+        assertThat(showDown.ranking()).containsExactly(
+                List.of(secondPlayer),
+                List.of(thirdPlayer),
+                List.of(firstPlayer)
+        );
+        assertThat(showDown.winner()).isEqualTo(secondPlayer);
+    }
+
+    @Test
+    @DisplayName("two players with the same straight, split the pot")
+    void sameStraight_TiedGroup() {
+        final ShowDown showDown = showDown("8C,9C", "8D,9S", "KS,KD");
+        assertThat(showDown.ranking()).containsExactly(
+                List.of(firstPlayer, secondPlayer),
+                List.of(thirdPlayer)
+        );
+        assertThat(showDown.winners()).containsExactly(firstPlayer, secondPlayer);
+        assertThat(showDown.strength(firstPlayer)).isEqualTo(showDown.strength(secondPlayer));
+    }
+
+    @Test
+    @DisplayName("split pot, asking for a single winner throws exception")
+    void splitPot_SingleWinner_ThrowsException() {
+        final ShowDown showDown = showDown("8C,9C", "8D,9S", "KS,KD");
+        assertThatThrownBy(showDown::winner)
+                .isInstanceOf(ShowDown.SplitPotException.class)
+                .hasMessageContaining(firstPlayer.toString())
+                .hasMessageContaining(secondPlayer.toString());
+    }
+
+    @Test
+    @DisplayName("strength and combination of a player agree")
+    void strength_SameAsCombination() {
+        final ShowDown showDown = showDown("2C,3D", "8H,9H", "KS,KD");
+        for (Player player : players) {
+            assertThat(showDown.strength(player)).isEqualTo(showDown.combination(player).strength());
+        }
+    }
+
+    @Test
+    @DisplayName("no players or no board yet, created without evaluating, asking for winners throws exception")
+    void noPlayersOrNoBoard_CreatedLazily() {
+        final HoleCards holeCards = HoleCards.assign(Map.of(
+                firstPlayer, converter.convert("AS,AD"),
+                secondPlayer, converter.convert("KS,KD")
+        ));
+        final ShowDown noPlayers = ShowDown.create(CommunityCards.empty(), holeCards, List.of());
+        final ShowDown noBoard = ShowDown.create(CommunityCards.empty(), holeCards, List.of(firstPlayer, secondPlayer));
+        assertThat(noPlayers.ranking()).isEmpty();
+        assertThatThrownBy(noPlayers::winners).isInstanceOf(ShowDown.NoPlayersException.class);
+        assertThatThrownBy(noBoard::winners).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ShowDown showDown(String first, String second, String third) {
+        final CommunityCardsProvider board = CommunityCards.flop(Flop.of(converter.convert("TH,JH,QC")))
+                .turn(converter.from("4H"))
+                .river(converter.from("2H"));
+        final HoleCards holeCards = HoleCards.assign(Map.of(
+                firstPlayer, converter.convert(first),
+                secondPlayer, converter.convert(second),
+                thirdPlayer, converter.convert(third)
+        ));
+        return ShowDown.create(board, holeCards, players);
+    }
+}
@@ -5,7 +5,6 @@ import hwr.oop.poker.betting.Play;
 import hwr.oop.poker.blinds.SmallBlind;
 import hwr.oop.poker.decks.RandomDeck;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -13,7 +12,6 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.junit.jupiter.api.Assertions.fail;
 
 class StacksForPlayersTest {
 
@@ -124,19 +122,57 @@ class StacksForPlayersTest {
 
 
         @Test
-        @Disabled("Player 1 has more than Player 2, all in + call," +
-                " Player 1 has 0 chips left, Player 2 has some chips left not yet implemented")
         void player1LessChipsThanPlayer2_AllInCalled_Player1HasNoChipsLeftWhilePlayer2StillHasSome() {
-            fail("Player 1 has more than Player 2, all in + call," +
-                    " Player 1 has 0 chips left, Player 2 has some chips left not yet implemented");
+            // given
+            final Stacks stacks = Stacks.newBuilder()
+                    .of(firstPlayer).is(40)
+                    .of(secondPlayer).is(100)
+                    .build();
+            // when
+            final BettingRound roundAfterCall = BettingRound.create(stacks, firstPlayer, secondPlayer)
+                    .with(firstPlayer).allIn()
+                    .with(secondPlayer).call();
+            // then
+            assertThat(roundAfterCall.remainingChips(firstPlayer)).isEqualTo(ChipValue.zero());
+            assertThat(roundAfterCall.remainingChips(secondPlayer)).isEqualTo(ChipValue.of(60));
+            assertThat(roundAfterCall.isFinished()).isTrue();
+        }
+
+        @Test
+        void player1LessChipsThanPlayer2_betAllInCalled_BothPlayersHaveNoChipsLeft() {
+            // given
+            final Stacks stacks = Stacks.newBuilder()
+                    .of(firstPlayer).is(40)
+                    .of(secondPlayer).is(100)
+                    .build();
+            // when
+            final BettingRound roundAfterCall = BettingRound.create(stacks, firstPlayer, secondPlayer)
+                    .with(firstPlayer).bet(20)
+                    .with(secondPlayer).allIn()
+                    .with(firstPlayer).call();
+            // then, the call for less only matches 40 of the 100
+            assertThat(roundAfterCall.remainingChips(firstPlayer)).isEqualTo(ChipValue.zero());
+            assertThat(roundAfterCall.remainingChips(secondPlayer)).isEqualTo(ChipValue.zero());
+            assertThat(roundAfterCall.chipsPutIntoPotBy(firstPlayer)).isEqualTo(ChipValue.of(40));
+            assertThat(roundAfterCall.isFinished()).isTrue();
         }
 
         @Test
-        @Disabled("Player 1 has more than Player 2, bet + all in + call," +
-                " both players have 0 chips left not yet implemented")
-        void player1LassChipsThanPlayer2_betAllInCalled_BothPlayersHaveNoChipsLeft() {
-            fail("Player 1 has more than Player 2, bet + all in + call," +
-                    " both players have 0 chips left not yet implemented");
+        void player2AllInForLessThanBet_Player1NeedNotCallAgain_RoundIsFinished() {
+            // given
+            final Stacks stacks = Stacks.newBuilder()
+                    .of(firstPlayer).is(100)
+                    .of(secondPlayer).is(30)
+                    .build();
+            // when
+            final BettingRound roundAfterAllIn = BettingRound.create(stacks, firstPlayer, secondPlayer)
+                    .with(firstPlayer).bet(50)
+                    .with(secondPlayer).allIn();
+            // then
+            assertThat(roundAfterAllIn.chipsPutIntoPotBy(secondPlayer)).isEqualTo(ChipValue.of(30));
+            assertThat(roundAfterAllIn.lastChipCountIncreasingPlay()).get()
+                    .satisfies(play -> assertThat(play.totalChipValue()).isEqualTo(ChipValue.of(50)));
+            assertThat(roundAfterAllIn.isFinished()).isTrue();
         }
 
     }
@@ -185,6 +221,41 @@ class StacksForPlayersTest {
                             "tried", betSize.toString()
                     );
         }
+
+        @Test
+        void player1Bets10Chips_OriginalStacksUnchanged() {
+            final Stacks stacks = Stacks.newBuilder()
+                    .of(firstPlayer).is(100)
+                    .of(secondPlayer).is(100)
+                    .build();
+            stacks.apply(Play.bet(firstPlayer, ChipValue.of(10)));
+
+            assertThat(stacks.ofPlayer(firstPlayer)).isEqualTo(ChipValue.of(100));
+            assertThat(stacks.ofPlayerAsLong(firstPlayer)).isEqualTo(100);
+        }
+
+        @Test
+        void playersAddedInOrder_SeatsInSameOrder() {
+            final Stacks stacks = Stacks.newBuilder()
+                    .of(secondPlayer).is(200)
+                    .of(firstPlayer).is(100)
+                    .build();
+
+            assertThat(stacks.seats().players()).containsExactly(secondPlayer, firstPlayer);
+            assertThat(stacks.ofSeat(0)).isEqualTo(200);
+            assertThat(stacks.ofSeat(1)).isEqualTo(100);
+        }
+
+        @Test
+        void playByPlayerWithoutStack_ThrowsException() {
+            final Stacks stacks = Stacks.newBuilder()
+                    .of(firstPlayer).is(100)
+                    .build();
+            final var play = Play.check(secondPlayer);
+            assertThatThrownBy(() -> stacks.apply(play))
+                    .isInstanceOf(Stacks.InvalidPlayerForStackException.class)
+                    .hasMessageContaining(secondPlayer.toString());
+        }
     }
 
     @Nested
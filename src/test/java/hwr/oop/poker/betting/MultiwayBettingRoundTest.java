@@ -0,0 +1,109 @@
+package hwr.oop.poker.betting;
+
+import hwr.oop.poker.ChipValue;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Betting round with six players")
+class MultiwayBettingRoundTest {
+
+    private List<Player> players;
+    private BettingRound round;
+
+    @BeforeEach
+    void setUp() {
+        players = List.of(
+                new Player("1"), new Player("2"), new Player("3"),
+                new Player("4"), new Player("5"), new Player("6")
+        );
+        final Stacks.StacksBuilder builder = Stacks.newBuilder();
+        players.forEach(player -> builder.of(player).is(100000));
+        round = BettingRound.create(builder.build(), players);
+    }
+
+    @Test
+    @DisplayName("bet, raise, folds and calls, finished once all remaining players matched the raise")
+    void betRaiseFoldsAndCalls_FinishedWhenMatched() {
+        final BettingRound beforeLastCall = round
+                .with(players.get(0)).bet(10)
+                .with(players.get(1)).raiseTo(20)
+                .with(players.get(2)).fold()
+                .with(players.get(3)).call()
+                .with(players.get(4)).fold()
+                .with(players.get(5)).call();
+        assertThat(beforeLastCall.isFinished()).isFalse();
+        assertThat(beforeLastCall.turn()).contains(players.get(0));
+
+        final BettingRound finished = beforeLastCall.with(players.get(0)).call();
+        assertThat(finished.isFinished()).isTrue();
+        assertThat(finished.pot()).isEqualTo(ChipValue.of(80));
+        assertThat(finished.potAsLong()).isEqualTo(80);
+        assertThat(finished.chipsPutIntoPotByAsLong(players.get(3))).isEqualTo(20);
+        assertThat(finished.chipsPutIntoPotBy(players.get(0))).isEqualTo(ChipValue.of(20));
+        assertThat(finished.chipsPutIntoPotBy(players.get(2))).isEqualTo(ChipValue.zero());
+        assertThat(finished.remainingPlayers())
+                .containsExactly(players.get(0), players.get(1), players.get(3), players.get(5));
+    }
+
+    @Test
+    @DisplayName("folded players, skipped when it is their turn again")
+    void foldedPlayers_Skipped() {
+        final BettingRound afterReRaise = round
+                .with(players.get(0)).bet(10)
+                .with(players.get(1)).fold()
+                .with(players.get(2)).fold()
+                .with(players.get(3)).raiseTo(20)
+                .with(players.get(4)).fold()
+                .with(players.get(5)).fold()
+                .with(players.get(0)).raiseTo(40);
+        assertThat(afterReRaise.turn()).contains(players.get(3));
+    }
+
+    @Test
+    @DisplayName("all but one player fold, finished")
+    void allButOneFold_Finished() {
+        BettingRound current = round.with(players.get(0)).bet(10);
+        for (int seat = 1; seat < players.size(); seat++) {
+            assertThat(current.isFinished()).isFalse();
+            current = current.with(players.get(seat)).fold();
+        }
+        assertThat(current.isFinished()).isTrue();
+        assertThat(current.remainingPlayers()).containsExactly(players.get(0));
+    }
+
+    @Test
+    @DisplayName("everybody checks, finished only after the last check")
+    void everybodyChecks_FinishedAfterLastCheck() {
+        BettingRound current = round;
+        for (Player player : players) {
+            assertThat(current.isFinished()).isFalse();
+            current = current.with(player).check();
+        }
+        assertThat(current.isFinished()).isTrue();
+        assertThat(current.pot()).isEqualTo(ChipValue.zero());
+    }
+
+    @Test
+    @DisplayName("long raise war, pot and commitments add up")
+    void longRaiseWar_PotAndCommitmentsAddUp() {
+        BettingRound current = round.with(players.get(0)).bet(1);
+        for (int raise = 1; raise <= 12; raise++) {
+            current = current.with(players.get(raise % players.size())).raiseTo(1L << raise);
+        }
+        long sumOfCommitments = 0;
+        for (Player player : players) {
+            sumOfCommitments += current.chipsPutIntoPotBy(player).value();
+        }
+        assertThat(current.pot().value()).isEqualTo(sumOfCommitments);
+        assertThat(current.lastChipCountIncreasingPlay()).get()
+                .extracting(Play::totalChipValue).isEqualTo(ChipValue.of(4096));
+        assertThat(current.isFinished()).isFalse();
+    }
+}
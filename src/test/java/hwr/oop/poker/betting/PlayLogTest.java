@@ -0,0 +1,75 @@
+package hwr.oop.poker.betting;
+
+import hwr.oop.poker.ChipValue;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Persistent log of plays")
+class PlayLogTest {
+
+    private Player firstPlayer;
+    private Player secondPlayer;
+
+    @BeforeEach
+    void setUp() {
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+    }
+
+    @Test
+    @DisplayName("empty log, no plays and no last play")
+    void emptyLog_NoPlays() {
+        final PlayLog log = PlayLog.empty();
+        assertThat(log.isEmpty()).isTrue();
+        assertThat(log.size()).isZero();
+        assertThat(log.last()).isEmpty();
+        assertThat(log.toList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("appended plays, listed oldest first")
+    void appendedPlays_OldestFirst() {
+        final Play bet = Play.bet(firstPlayer, ChipValue.of(10));
+        final Play fold = Play.fold(secondPlayer);
+        final PlayLog log = PlayLog.empty().append(bet).append(fold);
+        assertThat(log.size()).isEqualTo(2);
+        assertThat(log.last()).contains(fold);
+        assertThat(log.toList()).containsExactly(bet, fold);
+        assertThat(log).containsExactly(bet, fold);
+    }
+
+    @Test
+    @DisplayName("two logs appended to the same log, independent of each other and of the shared log")
+    void branchedLogs_Independent() {
+        final Play bet = Play.bet(firstPlayer, ChipValue.of(10));
+        final Play fold = Play.fold(secondPlayer);
+        final Play call = Play.call(secondPlayer, ChipValue.of(10), ChipValue.of(10));
+        final PlayLog shared = PlayLog.empty().append(bet);
+        final PlayLog folded = shared.append(fold);
+        final PlayLog called = shared.append(call);
+        assertThat(shared.toList()).containsExactly(bet);
+        assertThat(folded.toList()).containsExactly(bet, fold);
+        assertThat(called.toList()).containsExactly(bet, call);
+    }
+
+    @Test
+    @DisplayName("betting round, history contains all plays in order")
+    void bettingRound_HistoryInOrder() {
+        final Stacks stacks = Stacks.newBuilder()
+                .of(firstPlayer).is(100)
+                .of(secondPlayer).is(100)
+                .build();
+        final BettingRound round = BettingRound.create(stacks, firstPlayer, secondPlayer)
+                .with(firstPlayer).check()
+                .with(secondPlayer).bet(10)
+                .with(firstPlayer).call();
+        assertThat(round.history().toList())
+                .extracting(Play::type)
+                .containsExactly(Play.Type.CHECK, Play.Type.BET, Play.Type.CALL);
+    }
+}
@@ -0,0 +1,153 @@
+package hwr.oop.poker.combinations;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bounded cache of analysis flyweights")
+class AnalysisFlyweightFactoryTest {
+
+    private Converter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+    }
+
+    @Test
+    @DisplayName("same cards twice, one miss and one hit, same analysis")
+    void sameCardsTwice_MissThenHit() {
+        final var factory = AnalysisFlyweightFactory.create();
+        final var first = factory.get(converter.convert("AS,KS,QS,JS,TS"));
+        final var second = factory.get(converter.convert("AS,KS,QS,JS,TS"));
+        assertThat(second).isSameAs(first);
+        final var statistics = factory.statistics();
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("same cards in different order, same analysis")
+    void sameCardsDifferentOrder_Hit() {
+        final var factory = AnalysisFlyweightFactory.create();
+        final var first = factory.get(converter.convert("AS,KS,QS,JS,TS"));
+        final var second = factory.get(converter.convert("TS,JS,QS,KS,AS"));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("different cards, different analysis")
+    void differentCards_DifferentAnalysis() {
+        final var factory = AnalysisFlyweightFactory.create();
+        final var first = factory.get(converter.convert("AS,KS,QS,JS,TS"));
+        final var second = factory.get(converter.convert("AS,KS,QS,JS,9S"));
+        assertThat(second).isNotSameAs(first);
+        assertThat(factory.statistics().misses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("more distinct hands than maximum size, cache stays bounded")
+    void manyHands_SizeBounded() {
+        final var factory = AnalysisFlyweightFactory.create(AnalysisFlyweightFactory.EvictionPolicy.FIFO, 64);
+        final List<List<Card>> hands = distinctHands(500);
+        hands.forEach(factory::get);
+        final var statistics = factory.statistics();
+        assertThat(statistics.size()).isLessThanOrEqualTo(64);
+        assertThat(statistics.evictions()).isEqualTo(500 - statistics.size());
+    }
+
+    @Test
+    @DisplayName("maximum size below the number of segments, never holds more than the maximum size")
+    void smallMaximumSize_NeverAboveMaximumSize() {
+        final var factory = AnalysisFlyweightFactory.create(AnalysisFlyweightFactory.EvictionPolicy.LRU, 4);
+        for (List<Card> hand : distinctHands(100)) {
+            factory.get(hand);
+            assertThat(factory.statistics().size()).isLessThanOrEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("maximum size not divisible by the number of segments, the remainder is used as well")
+    void maximumSizeWithRemainder_FilledUpToMaximumSize() {
+        final var factory = AnalysisFlyweightFactory.create(AnalysisFlyweightFactory.EvictionPolicy.FIFO, 70);
+        distinctHands(500).forEach(factory::get);
+        assertThat(factory.statistics().size()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("LRU, recently used analysis survives, FIFO evicts it")
+    void recentlyUsed_SurvivesOnlyWithLru() {
+        final List<List<Card>> hands = distinctHands(2000);
+        final var lru = AnalysisFlyweightFactory.create(AnalysisFlyweightFactory.EvictionPolicy.LRU, 64);
+        final var fifo = AnalysisFlyweightFactory.create(AnalysisFlyweightFactory.EvictionPolicy.FIFO, 64);
+        final var first = hands.get(0);
+        final var cachedLru = lru.get(first);
+        final var cachedFifo = fifo.get(first);
+        for (List<Card> hand : hands) {
+            lru.get(first);
+            fifo.get(first);
+            lru.get(hand);
+            fifo.get(hand);
+        }
+        assertThat(lru.get(first)).isSameAs(cachedLru);
+        assertThat(fifo.get(first)).isNotSameAs(cachedFifo);
+    }
+
+    @Test
+    @DisplayName("shared between threads, every lookup counted exactly once")
+    void sharedBetweenThreads_CountersConsistent() throws Exception {
+        final var factory = AnalysisFlyweightFactory.create(AnalysisFlyweightFactory.EvictionPolicy.LRU, 128);
+        final List<List<Card>> hands = distinctHands(300);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> hands.forEach(hand ->
+                        assertThat(factory.get(hand).distinctSymbolsDesc()).isNotEmpty())));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final var statistics = factory.statistics();
+        assertThat(statistics.hits() + statistics.misses()).isEqualTo(4 * 300);
+        assertThat(statistics.size()).isLessThanOrEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("maximum size of 0, throws exception")
+    void zeroMaximumSize_ThrowsException() {
+        assertThatThrownBy(() -> AnalysisFlyweightFactory.create(AnalysisFlyweightFactory.EvictionPolicy.LRU, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<List<Card>> distinctHands(int amount) {
+        final List<Card> deck = CardSet.fullDeck().toList();
+        final List<List<Card>> hands = new ArrayList<>();
+        for (int i = 0; hands.size() < amount; i++) {
+            final int offset = i % 48;
+            final int skip = i / 48;
+            final List<Card> hand = new ArrayList<>(deck.subList(offset, offset + 4));
+            hand.add(deck.get((offset + 4 + skip) % 52));
+            if (CardSet.of(hand).size() == 5) {
+                hands.add(hand);
+            }
+        }
+        return hands;
+    }
+}
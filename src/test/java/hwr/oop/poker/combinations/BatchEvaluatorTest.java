@@ -0,0 +1,144 @@
+package hwr.oop.poker.combinations;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Combination;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Batch evaluator, many hands into a parallel array of strengths")
+class BatchEvaluatorTest {
+
+    private final LookupTableEvaluator evaluator = LookupTableEvaluator.create();
+    private final BatchEvaluator batch = BatchEvaluator.create();
+
+    // partial Fisher-Yates on a fresh deck per hand, so hands never contain duplicates
+    private static int[] randomCards(int hands, int cardsPerHand, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int[] cards = new int[hands * cardsPerHand];
+        final int[] deck = new int[Card.NUMBER_OF_CARDS];
+        for (int hand = 0; hand < hands; hand++) {
+            Arrays.setAll(deck, i -> i);
+            for (int i = 0; i < cardsPerHand; i++) {
+                final int j = i + random.nextInt(deck.length - i);
+                final int card = deck[j];
+                deck[j] = deck[i];
+                deck[i] = card;
+                cards[hand * cardsPerHand + i] = card;
+            }
+        }
+        return cards;
+    }
+
+    private static long[] cardSets(int[] cards, int cardsPerHand) {
+        final long[] cardSets = new long[cards.length / cardsPerHand];
+        for (int i = 0; i < cards.length; i++) {
+            cardSets[i / cardsPerHand] |= 1L << cards[i];
+        }
+        return cardSets;
+    }
+
+    @ParameterizedTest(name = "{0} hands, same strengths as evaluating one by one")
+    @ValueSource(ints = {0, 1, 1000, BatchEvaluator.MIN_HANDS_TO_SPLIT * 5 + 3})
+    void cardSets_SameAsOneByOne(int hands) {
+        final long[] cardSets = cardSets(randomCards(hands, 7, hands), 7);
+        final int[] strengths = new int[hands];
+        batch.evaluate(cardSets, strengths);
+        for (int hand = 0; hand < hands; hand++) {
+            assertThat(strengths[hand]).isEqualTo(evaluator.strength(cardSets[hand]));
+        }
+    }
+
+    @ParameterizedTest(name = "hands of {0} cards as card indices, same strengths as card sets")
+    @ValueSource(ints = {5, 6, 7})
+    void cardIndices_SameAsCardSets(int cardsPerHand) {
+        final int hands = BatchEvaluator.MIN_HANDS_TO_SPLIT * 2 + 1;
+        final int[] cards = randomCards(hands, cardsPerHand, cardsPerHand);
+        final int[] strengths = new int[hands];
+        final int[] expected = new int[hands];
+        batch.evaluate(cards, cardsPerHand, strengths);
+        batch.evaluate(cardSets(cards, cardsPerHand), expected);
+        assertThat(strengths).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("strengths, label decoded like for a single hand")
+    void strengths_LabelDecoded() {
+        final Card[] royalFlush = {Card.fromIndex(8), Card.fromIndex(9), Card.fromIndex(10), Card.fromIndex(11),
+                Card.fromIndex(12), Card.fromIndex(13), Card.fromIndex(26)};
+        final int[] strengths = new int[1];
+        batch.evaluate(new long[]{CardSet.of(royalFlush).bits()}, strengths);
+        assertThat(LookupTableEvaluator.label(strengths[0])).isEqualTo(Combination.Label.STRAIGHT_FLUSH);
+    }
+
+    @Test
+    @DisplayName("range of hands, only the range is written")
+    void range_OnlyRangeWritten() {
+        final long[] cardSets = cardSets(randomCards(10, 7, 3), 7);
+        final int[] strengths = new int[10];
+        Arrays.fill(strengths, -1);
+        batch.evaluate(cardSets, 2, 5, strengths);
+        assertThat(strengths).containsExactly(-1, -1,
+                evaluator.strength(cardSets[2]), evaluator.strength(cardSets[3]), evaluator.strength(cardSets[4]),
+                -1, -1, -1, -1, -1);
+    }
+
+    @Test
+    @DisplayName("dedicated pool, same strengths as the common pool")
+    void dedicatedPool_SameStrengths() {
+        final long[] cardSets = cardSets(randomCards(BatchEvaluator.MIN_HANDS_TO_SPLIT * 3, 7, 9), 7);
+        final int[] common = new int[cardSets.length];
+        final int[] dedicated = new int[cardSets.length];
+        batch.evaluate(cardSets, common);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BatchEvaluator.create(pool).evaluate(cardSets, dedicated);
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(dedicated).isEqualTo(common);
+    }
+
+    @Test
+    @DisplayName("card set with four cards, throws exception")
+    void fourCards_ThrowsException() {
+        final long[] cardSets = {0b1111L};
+        assertThatThrownBy(() -> batch.evaluate(cardSets, new int[1]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("hand 0");
+    }
+
+    @Test
+    @DisplayName("card index twice in a hand, throws exception")
+    void duplicateCard_ThrowsException() {
+        final int[] cards = {0, 1, 2, 3, 3};
+        assertThatThrownBy(() -> batch.evaluate(cards, 5, new int[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 52})
+    @DisplayName("unknown card index, throws exception")
+    void unknownCard_ThrowsException(int card) {
+        final int[] cards = {0, 1, 2, 3, card};
+        assertThatThrownBy(() -> batch.evaluate(cards, 5, new int[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("strengths array too small, throws exception")
+    void strengthsTooSmall_ThrowsException() {
+        final long[] cardSets = cardSets(randomCards(3, 7, 1), 7);
+        assertThatThrownBy(() -> batch.evaluate(cardSets, new int[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
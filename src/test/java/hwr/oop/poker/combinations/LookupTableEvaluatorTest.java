@@ -0,0 +1,127 @@
+package hwr.oop.poker.combinations;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.Color;
+import hwr.oop.poker.Combination;
+import hwr.oop.poker.Symbol;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Lookup table evaluator, cross-checked against the matching strategies")
+class LookupTableEvaluatorTest {
+
+    private final LookupTableEvaluator evaluator = LookupTableEvaluator.create();
+
+    @ParameterizedTest(name = "2000 random hands of {0} cards, same label and same symbols as strategies")
+    @ValueSource(ints = {5, 6, 7})
+    void randomHands_SameResultAsStrategyChain(int numberOfCards) {
+        final Random random = new Random(numberOfCards);
+        final List<Card> deck = allCards();
+        for (int i = 0; i < 2000; i++) {
+            Collections.shuffle(deck, random);
+            final List<Card> cards = List.copyOf(deck.subList(0, numberOfCards));
+            final Combination combination = Combination.of(cards);
+            final List<Card> expected = referenceCards(cards);
+            assertThat(combination.label())
+                    .as("label of %s", cards)
+                    .isEqualTo(referenceLabel(cards));
+            assertThat(symbolStrengths(combination.cards()))
+                    .as("cards of %s", cards)
+                    .isEqualTo(symbolStrengths(expected));
+        }
+    }
+
+    @ParameterizedTest(name = "({0}) is stronger than ({1})")
+    @CsvSource(delimiter = '-', value = {
+            "AS,KS,QS,JS,TS,2D,3C - 9S,KS,QS,JS,TS,2D,3C",
+            "2S,2D,2C,2H,3D,4C,5H - AS,AD,AC,KH,KD,4C,5H",
+            "AS,AD,AC,2H,2D,4C,5H - KS,KD,KC,QH,QD,4C,5H",
+            "2H,4H,6H,8H,TH,3C,5D - AS,KD,QC,JH,TS,3C,5D",
+            "AS,AD,KC,KH,QD,4C,5H - AS,AD,KC,KH,JD,4C,5H",
+            "AS,AD,9C,8H,7D,4C,2H - AS,AD,9C,8H,6D,4C,2H",
+            "AS,KD,9C,8H,7D,4C,2H - AS,QD,9C,8H,7D,4C,2H",
+    })
+    void strongerHand_HigherStrength(String strongerString, String weakerString) {
+        final Converter converter = Converter.create();
+        final int stronger = evaluator.strength(converter.convert(strongerString));
+        final int weaker = evaluator.strength(converter.convert(weakerString));
+        assertThat(stronger).isGreaterThan(weaker);
+    }
+
+    @Test
+    @DisplayName("same ranks in different colors, same strength")
+    void sameRanksDifferentColors_SameStrength() {
+        final Converter converter = Converter.create();
+        final int first = evaluator.strength(converter.convert("AS,AD,9C,8H,7D,4C,2H"));
+        final int second = evaluator.strength(converter.convert("AH,AC,9D,8S,7S,4H,2C"));
+        assertThat(first).isEqualTo(second);
+    }
+
+    @ParameterizedTest(name = "{0} cards, cannot be evaluated")
+    @ValueSource(ints = {0, 4, 8})
+    void invalidNumberOfCards_ThrowsException(int numberOfCards) {
+        final List<Card> cards = allCards().subList(0, numberOfCards);
+        assertThatThrownBy(() -> evaluator.strength(cards))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(numberOfCards));
+    }
+
+    private Combination.Label referenceLabel(List<Card> cards) {
+        for (CombinationDetectionStrategy strategy : MatchingStrategyFactory.create().descendingByStrength()) {
+            final var result = strategy.match(cards);
+            if (result.successful()) {
+                return result.label();
+            }
+        }
+        return Combination.Label.HIGH_CARD;
+    }
+
+    private List<Card> referenceCards(List<Card> cards) {
+        List<Card> nonKickers = List.of();
+        for (CombinationDetectionStrategy strategy : MatchingStrategyFactory.create().descendingByStrength()) {
+            final var result = strategy.match(cards);
+            if (result.successful()) {
+                nonKickers = result.winner();
+                break;
+            }
+        }
+        final List<Card> result = new ArrayList<>(nonKickers);
+        final List<Card> finalNonKickers = nonKickers;
+        cards.stream()
+                .filter(c -> !finalNonKickers.contains(c))
+                .sorted(Card.DESCENDING_BY_SYMBOL_STRENGTH)
+                .limit(5L - nonKickers.size())
+                .forEach(result::add);
+        return result;
+    }
+
+    private List<Integer> symbolStrengths(List<Card> cards) {
+        return cards.stream()
+                .map(c -> c.symbol().strength())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private List<Card> allCards() {
+        final List<Card> cards = new ArrayList<>();
+        for (Color color : Color.values()) {
+            for (Symbol symbol : Symbol.values()) {
+                cards.add(Card.of(color, symbol));
+            }
+        }
+        return cards;
+    }
+}
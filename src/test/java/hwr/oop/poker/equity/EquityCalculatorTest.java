@@ -0,0 +1,140 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.HoleCards;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.community.cards.CommunityCards;
+import hwr.oop.poker.community.cards.CommunityCardsProvider;
+import hwr.oop.poker.community.cards.Flop;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Equity of Players, sampled by Monte Carlo simulation")
+class EquityCalculatorTest {
+
+    private Converter converter;
+    private Player firstPlayer;
+    private Player secondPlayer;
+    private List<Player> players;
+    private EquityCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+        players = List.of(firstPlayer, secondPlayer);
+        calculator = EquityCalculator.create();
+    }
+
+    @Test
+    @DisplayName("AA vs. KK pre-flop, aces win about 82%")
+    void acesVersusKings_AcesAreBigFavorite() {
+        final HoleCards holeCards = holeCards("AS,AH", "KS,KH");
+        final EquityResult result = calculator.sample(holeCards, players, CommunityCards.empty(), 40_000, 42);
+        assertThat(result.showDowns()).isEqualTo(40_000);
+        assertThat(result.of(firstPlayer).equity()).isCloseTo(0.82, within(0.02));
+        assertThat(result.of(secondPlayer).equity()).isCloseTo(0.18, within(0.02));
+    }
+
+    @Test
+    @DisplayName("same seed, same result, independent of the number of threads")
+    void sameSeed_SameResult() {
+        final HoleCards holeCards = holeCards("AS,KS", "QD,QC");
+        final CommunityCardsProvider flop = CommunityCards.flop(Flop.of(converter.convert("2S,7S,JD")))
+                .noTurnNoRiver();
+        final EquityResult first = calculator.sample(holeCards, players, flop, 20_000, 1337);
+        final EquityResult second = EquityCalculator.create(new ForkJoinPool(3))
+                .sample(holeCards, players, flop, 20_000, 1337);
+        assertThat(first.all()).isEqualTo(second.all());
+    }
+
+    @Test
+    @DisplayName("complete board, result is certain")
+    void completeBoard_OnePlayerAlwaysWins() {
+        final HoleCards holeCards = holeCards("AS,AH", "KS,KH");
+        final CommunityCardsProvider river = CommunityCards.flop(Flop.of(converter.convert("2C,7D,9H")))
+                .turn(converter.from("JC"))
+                .river(converter.from("3S"));
+        final EquityResult result = calculator.sample(holeCards, players, river, 100, 7);
+        assertThat(result.of(firstPlayer).win()).isEqualTo(1.0);
+        assertThat(result.of(secondPlayer).lose()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("royal flush on the board, pot is always split")
+    void royalFlushOnBoard_AlwaysTie() {
+        final HoleCards holeCards = holeCards("2C,3D", "4H,5C");
+        final CommunityCardsProvider river = CommunityCards.flop(Flop.of(converter.convert("AS,KS,QS")))
+                .turn(converter.from("JS"))
+                .river(converter.from("TS"));
+        final EquityResult result = calculator.sample(holeCards, players, river, 10, 7);
+        assertThat(result.of(firstPlayer).tie()).isEqualTo(1.0);
+        assertThat(result.of(firstPlayer).equity()).isEqualTo(0.5);
+        assertThat(result.of(secondPlayer).equity()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("enumerate on the turn, kings hit one of two outs in 44 rivers")
+    void enumerateTurn_ExactlyTwoOutsOf44() {
+        final HoleCards holeCards = holeCards("AS,AH", "KS,KH");
+        final CommunityCardsProvider turn = CommunityCards.flop(Flop.of(converter.convert("2C,7D,9H")))
+                .turn(converter.from("JC"))
+                .noRiver();
+        final EquityResult result = calculator.enumerate(holeCards, players, turn);
+        assertThat(result.showDowns()).isEqualTo(44);
+        assertThat(result.of(secondPlayer).wins()).isEqualTo(2);
+        assertThat(result.of(firstPlayer).wins()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("enumerate on the flop, all 990 runouts, close to sampled equity")
+    void enumerateFlop_AllRunouts_CloseToSampling() {
+        final HoleCards holeCards = holeCards("AS,KS", "QD,QC");
+        final CommunityCardsProvider flop = CommunityCards.flop(Flop.of(converter.convert("2S,7S,JD")))
+                .noTurnNoRiver();
+        final EquityResult exact = calculator.enumerate(holeCards, players, flop);
+        final EquityResult sampled = calculator.sample(holeCards, players, flop, 40_000, 3);
+        assertThat(exact.showDowns()).isEqualTo(990);
+        assertThat(exact.of(firstPlayer).equity())
+                .isCloseTo(sampled.of(firstPlayer).equity(), within(0.02));
+    }
+
+    @Test
+    @DisplayName("enumerate on the river, exactly one show down")
+    void enumerateRiver_SingleShowDown() {
+        final HoleCards holeCards = holeCards("AS,AH", "KS,KH");
+        final CommunityCardsProvider river = CommunityCards.flop(Flop.of(converter.convert("2C,7D,9H")))
+                .turn(converter.from("JC"))
+                .river(converter.from("KD"));
+        final EquityResult result = calculator.enumerate(holeCards, players, river);
+        assertThat(result.showDowns()).isEqualTo(1);
+        assertThat(result.of(secondPlayer).win()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("same card in two hands, throws exception")
+    void duplicateCard_ThrowsException() {
+        final HoleCards holeCards = holeCards("AS,AH", "AS,KH");
+        final CommunityCardsProvider empty = CommunityCards.empty();
+        assertThatThrownBy(() -> calculator.sample(holeCards, players, empty, 100, 7))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class)
+                .hasMessageContaining("already in use");
+    }
+
+    private HoleCards holeCards(String first, String second) {
+        return HoleCards.assign(Map.of(
+                firstPlayer, converter.convert(first),
+                secondPlayer, converter.convert(second)
+        ));
+    }
+}
@@ -0,0 +1,157 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Hand range, weights of two card combos")
+class HandRangeTest {
+
+    private Converter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+    }
+
+    private Card card(String card) {
+        return converter.from(card);
+    }
+
+    @Nested
+    @DisplayName("parsed from notation")
+    class Parse {
+
+        @ParameterizedTest(name = "\"{0}\", {1} combos")
+        @CsvSource(delimiter = ';', value = {
+                "AA; 6", "AKs; 4", "AKo; 12", "AK; 16", "TT+; 30", "77-55; 18", "55-77; 18", "KTs+; 12",
+                "K9o-K6o; 48", "AsKh; 1", "QQ+, AKs; 22", "AA, AA; 6", "AKs, AsKs; 4", "100%; 1326", "0%; 0"
+        })
+        void notation_NumberOfCombos(String notation, int combos) {
+            assertThat(HandRange.parse(notation).size()).isEqualTo(combos);
+        }
+
+        @Test
+        @DisplayName("\"AA:0.5, KK\", aces with half the weight")
+        void weighted_HalfWeight() {
+            final HandRange range = HandRange.parse("AA:0.5, KK");
+            assertThat(range.weight(card("AS"), card("AH"))).isEqualTo(0.5);
+            assertThat(range.weight(card("KD"), card("KC"))).isEqualTo(1.0);
+            assertThat(range.weight(card("QD"), card("QC"))).isZero();
+            assertThat(range.weightedCombos()).isEqualTo(9.0);
+        }
+
+        @Test
+        @DisplayName("later tokens override the weight of earlier ones")
+        void laterToken_OverridesWeight() {
+            final HandRange range = HandRange.parse("AKs, AhKh:0.25");
+            assertThat(range.weight(card("KH"), card("AH"))).isEqualTo(0.25);
+            assertThat(range.weight(card("AS"), card("KS"))).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("\"KTs+\", suited kings from ten to queen")
+        void kingsAbove_UpToQueen() {
+            final HandRange range = HandRange.parse("KTs+");
+            assertThat(range).isEqualTo(HandRange.parse("KTs, KJs, KQs"));
+            assertThat(range.weight(card("KS"), card("AS"))).isZero();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "AA,", "AX", "AAs", "AKx", "AA:2", "AA:-0.1", "AA:x", "AsAs", "AsXh", "101%",
+                "x%", "AA-AKs", "AKs-QJs", "AKs-AQo", "AA+A"})
+        @DisplayName("invalid notation, throws exception")
+        void invalid_ThrowsException(String notation) {
+            assertThatThrownBy(() -> HandRange.parse(notation)).isInstanceOf(HandRange.InvalidRangeException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("top fraction of classes")
+    class Top {
+
+        @Test
+        @DisplayName("top 0.5%, only aces")
+        void smallest_OnlyAces() {
+            assertThat(HandRange.top(0.004)).isEqualTo(HandRange.parse("AA"));
+        }
+
+        @Test
+        @DisplayName("top 10%, whole classes, at least 10% of all combos, strong hands in, weak hands out")
+        void tenPercent_StrongHands() {
+            final HandRange range = HandRange.top(0.1);
+            assertThat(range.size()).isGreaterThanOrEqualTo(133).isLessThan(133 + 12);
+            assertThat(range.weight(card("KS"), card("KH"))).isEqualTo(1.0);
+            assertThat(range.weight(card("AS"), card("KS"))).isEqualTo(1.0);
+            assertThat(range.weight(card("7S"), card("2H"))).isZero();
+            assertThat(HandRange.parse("10%")).isEqualTo(range);
+        }
+
+        @Test
+        @DisplayName("larger fractions contain the smaller ones")
+        void larger_ContainsSmaller() {
+            final List<CardSet> small = HandRange.top(0.05).combos();
+            assertThat(HandRange.top(0.2).combos()).containsAll(small);
+            assertThat(HandRange.top(1).size()).isEqualTo(HandRange.COMBOS);
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {-0.1, 1.1, Double.NaN})
+        @DisplayName("fraction out of bounds, throws exception")
+        void outOfBounds_ThrowsException(double fraction) {
+            assertThatThrownBy(() -> HandRange.top(fraction)).isInstanceOf(HandRange.InvalidRangeException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("without the cards of the board, combos holding them are removed")
+    void withoutCards_BlockedCombosRemoved() {
+        final HandRange range = HandRange.parse("AA, KQs");
+        final HandRange blocked = range.withoutCards(CardSet.of(converter.convert("AS,KH,2C")));
+        assertThat(blocked.size()).isEqualTo(3 + 3);
+        assertThat(blocked.weight(card("AS"), card("AH"))).isZero();
+        assertThat(blocked.weight(card("AD"), card("AC"))).isEqualTo(1.0);
+        assertThat(range.size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("with a combo, only that combo changes, the range itself stays the same")
+    void with_OnlyThatCombo() {
+        final HandRange range = HandRange.empty().with(card("2C"), card("7D"), 0.3);
+        assertThat(range.size()).isEqualTo(1);
+        assertThat(range.weight(card("7D"), card("2C"))).isEqualTo(0.3);
+        assertThat(range.combos()).containsExactly(CardSet.of(converter.convert("2C,7D")));
+        assertThat(HandRange.empty().isEmpty()).isTrue();
+        assertThat(range.weight(card("2C"), card("2C"))).isZero();
+    }
+
+    @Test
+    @DisplayName("with a card and itself or an invalid weight, throws exception")
+    void withInvalid_ThrowsException() {
+        final HandRange range = HandRange.empty();
+        final Card ace = card("AS");
+        final Card king = card("KS");
+        assertThatThrownBy(() -> range.with(ace, ace, 1)).isInstanceOf(HandRange.InvalidRangeException.class);
+        assertThatThrownBy(() -> range.with(ace, king, 1.5)).isInstanceOf(HandRange.InvalidRangeException.class);
+    }
+
+    @Test
+    @DisplayName("pairs are invariant under any color permutation, a single combo is not")
+    void pairs_InvariantUnderPermutation() {
+        final int[] swapSpadesAndHearts = {1, 0, 2, 3};
+        assertThat(HandRange.parse("TT+, AK").isInvariantUnder(swapSpadesAndHearts)).isTrue();
+        assertThat(HandRange.parse("AsKd").isInvariantUnder(swapSpadesAndHearts)).isFalse();
+    }
+}
@@ -0,0 +1,144 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Combination;
+import hwr.oop.poker.HoleCards;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.community.cards.CommunityCards;
+import hwr.oop.poker.community.cards.CommunityCardsProvider;
+import hwr.oop.poker.community.cards.Flop;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Outs, unseen cards that improve a player on the flop or turn")
+class OutsAnalyzerTest {
+
+    private Converter converter;
+    private Player firstPlayer;
+    private Player secondPlayer;
+    private List<Player> players;
+    private OutsAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+        players = List.of(firstPlayer, secondPlayer);
+        analyzer = OutsAnalyzer.create();
+    }
+
+    private HoleCards holeCards(String first, String second) {
+        return HoleCards.assign(Map.of(
+                firstPlayer, converter.convert(first),
+                secondPlayer, converter.convert(second)
+        ));
+    }
+
+    private CommunityCardsProvider flop(String cards) {
+        return CommunityCards.flop(Flop.of(converter.convert(cards))).noTurnNoRiver();
+    }
+
+    private CardSet cards(String cards) {
+        return CardSet.of(converter.convert(cards));
+    }
+
+    @Test
+    @DisplayName("flush draw with two overcards against a pair, 9 spades, 3 aces and 3 kings")
+    void flushDrawWithOvercards_15Outs() {
+        final Outs outs = analyzer.analyze(holeCards("AS,KS", "QD,QC"), players, firstPlayer, flop("2S,7S,JD"));
+        assertThat(outs.label()).isEqualTo(Combination.Label.HIGH_CARD);
+        assertThat(outs.showdown()).isEqualTo(Outs.Showdown.BEHIND);
+        assertThat(outs.unseen().size()).isEqualTo(45);
+        assertThat(outs.improvingShowdown()).isEqualTo(
+                cards("3S,4S,5S,6S,8S,9S,TS,JS,QS,AH,AD,AC,KH,KD,KC"));
+        assertThat(outs.worseningShowdown().isEmpty()).isTrue();
+        assertThat(outs.improvingLabel().size()).isGreaterThan(15);
+    }
+
+    @Test
+    @DisplayName("per card, label and showdown with that card on the board")
+    void perCard_LabelAndShowdown() {
+        final Outs outs = analyzer.analyze(holeCards("AS,KS", "QD,QC"), players, firstPlayer, flop("2S,7S,JD"));
+        final Card queenOfSpades = converter.from("QS");
+        final Card queenOfHearts = converter.from("QH");
+        assertThat(outs.labelWith(queenOfSpades)).isEqualTo(Combination.Label.FLUSH);
+        assertThat(outs.showdownWith(queenOfSpades)).isEqualTo(Outs.Showdown.AHEAD);
+        assertThat(outs.labelWith(queenOfHearts)).isEqualTo(Combination.Label.HIGH_CARD);
+        assertThat(outs.showdownWith(queenOfHearts)).isEqualTo(Outs.Showdown.BEHIND);
+    }
+
+    @Test
+    @DisplayName("counts by label, add up to the unseen cards")
+    void countsByLabel_AddUpToUnseen() {
+        final Outs outs = analyzer.analyze(holeCards("AS,KS", "QD,QC"), players, firstPlayer, flop("2S,7S,JD"));
+        final Map<Combination.Label, Integer> counts = outs.countsByLabel();
+        assertThat(counts.get(Combination.Label.FLUSH)).isEqualTo(9);
+        assertThat(counts.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(outs.unseen().size());
+    }
+
+    @Test
+    @DisplayName("aces against kings on the turn, two kings are left, both outs of the kings")
+    void acesVersusKingsOnTurn_TwoKingsLeft() {
+        final HoleCards holeCards = holeCards("AS,AH", "KS,KH");
+        final CommunityCardsProvider turn = CommunityCards.flop(Flop.of(converter.convert("2C,7D,9H")))
+                .turn(converter.from("JC"))
+                .noRiver();
+        final Outs aces = analyzer.analyze(holeCards, players, firstPlayer, turn);
+        final Outs kings = analyzer.analyze(holeCards, players, secondPlayer, turn);
+        assertThat(aces.showdown()).isEqualTo(Outs.Showdown.AHEAD);
+        assertThat(aces.unseen().size()).isEqualTo(44);
+        assertThat(aces.worseningShowdown()).isEqualTo(cards("KD,KC"));
+        assertThat(kings.improvingShowdown()).isEqualTo(cards("KD,KC"));
+        // pairing the board gives the kings two pairs as well, without changing the showdown
+        assertThat(kings.improvingLabel().size()).isEqualTo(14);
+        assertThat(kings.improvingLabel().intersection(cards("KD,KC,AD,AC"))).isEqualTo(cards("KD,KC"));
+    }
+
+    @Test
+    @DisplayName("same hand, a split pot can only get worse or stay split")
+    void splitPot_OnlyWorseOrSplit() {
+        final Outs outs = analyzer.analyze(holeCards("AS,KH", "AD,KC"), players, firstPlayer, flop("2C,7D,9H"));
+        assertThat(outs.showdown()).isEqualTo(Outs.Showdown.TIED);
+        assertThat(outs.improvingShowdown().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("card that is not unseen, throws exception")
+    void seenCard_ThrowsException() {
+        final Outs outs = analyzer.analyze(holeCards("AS,KS", "QD,QC"), players, firstPlayer, flop("2S,7S,JD"));
+        final Card board = converter.from("2S");
+        final Card opponent = converter.from("QD");
+        assertThatThrownBy(() -> outs.labelWith(board))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class);
+        assertThatThrownBy(() -> outs.showdownWith(opponent))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class);
+    }
+
+    @Test
+    @DisplayName("before the flop, on the river or for a stranger, throws exception")
+    void invalidSituation_ThrowsException() {
+        final HoleCards holeCards = holeCards("AS,AH", "KS,KH");
+        final CommunityCardsProvider preFlop = CommunityCards.empty();
+        final CommunityCardsProvider river = CommunityCards.flop(Flop.of(converter.convert("2C,7D,9H")))
+                .turn(converter.from("JC"))
+                .river(converter.from("3S"));
+        final CommunityCardsProvider flop = flop("2C,7D,9H");
+        final Player stranger = new Player("3");
+        assertThatThrownBy(() -> analyzer.analyze(holeCards, players, firstPlayer, preFlop))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class);
+        assertThatThrownBy(() -> analyzer.analyze(holeCards, players, firstPlayer, river))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class);
+        assertThatThrownBy(() -> analyzer.analyze(holeCards, players, stranger, flop))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Preflop equity table, all-in equity of every preflop class against every other")
+class PreflopEquityTableTest {
+
+    private PreflopEquityTable table;
+    private Converter converter;
+
+    @BeforeEach
+    void setUp() {
+        table = PreflopEquityTable.create();
+        converter = Converter.create();
+    }
+
+    private double equity(String hand, String opponent) {
+        return table.equity(SuitIsomorphism.preflopClassOf(hand), SuitIsomorphism.preflopClassOf(opponent));
+    }
+
+    @ParameterizedTest(name = "{0} vs. {1}, about {2}")
+    @CsvSource({"AA, KK, 0.82", "AKo, QQ, 0.43", "AKs, 22, 0.50", "72o, AA, 0.12", "JTs, 88, 0.50"})
+    void knownMatchups_CloseToKnownEquity(String hand, String opponent, double expected) {
+        assertThat(equity(hand, opponent)).isCloseTo(expected, within(0.015));
+        assertThat(equity(opponent, hand)).isCloseTo(1 - expected, within(0.015));
+    }
+
+    @Test
+    @DisplayName("every entry, mirrored entry adds up to 1, diagonal is even")
+    void everyEntry_Symmetric() {
+        for (int hand = 0; hand < SuitIsomorphism.PREFLOP_CLASSES; hand++) {
+            assertThat(table.equity(hand, hand)).isCloseTo(0.5, within(0.0001));
+            for (int opponent = 0; opponent < SuitIsomorphism.PREFLOP_CLASSES; opponent++) {
+                assertThat(table.equity(hand, opponent) + table.equity(opponent, hand)).isCloseTo(1, within(0.0001));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("hole cards, looked up by their classes")
+    void holeCards_LookedUpByClasses() {
+        final CardSet aces = CardSet.of(converter.convert("AS,AH"));
+        final CardSet kings = CardSet.of(converter.convert("KD,KC"));
+        assertThat(table.equity(aces, kings)).isEqualTo(equity("AA", "KK"));
+    }
+
+    @Test
+    @DisplayName("computed again with other samples, close to the table")
+    void computedAgain_CloseToTable() {
+        final int hand = SuitIsomorphism.preflopClassOf("A5s");
+        final int opponent = SuitIsomorphism.preflopClassOf("KQo");
+        assertThat(PreflopEquityTable.compute(hand, opponent, 40_000, 99))
+                .isCloseTo(table.equity(hand, opponent), within(0.015));
+    }
+
+    @Test
+    @DisplayName("generated and written, read back with the same entries")
+    void written_ReadBack(@TempDir Path directory) throws IOException {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final PreflopEquityTable generated;
+        try {
+            generated = PreflopEquityTable.generate(10, 1, pool);
+        } finally {
+            pool.shutdown();
+        }
+        final Path file = directory.resolve(PreflopEquityTable.RESOURCE);
+        generated.write(file);
+        final PreflopEquityTable read;
+        try (InputStream stream = Files.newInputStream(file)) {
+            read = PreflopEquityTable.read(stream);
+        }
+        for (int opponent = 0; opponent < SuitIsomorphism.PREFLOP_CLASSES; opponent++) {
+            assertThat(read.equity(3, opponent)).isEqualTo(generated.equity(3, opponent));
+        }
+    }
+
+    @Test
+    @DisplayName("overlapping hole cards, throws exception")
+    void overlapping_ThrowsException() {
+        final CardSet first = CardSet.of(converter.convert("AS,AH"));
+        final CardSet second = CardSet.of(converter.convert("AS,KC"));
+        assertThatThrownBy(() -> table.equity(first, second))
+                .isInstanceOf(PreflopEquityTable.InvalidTableException.class);
+    }
+
+    @Test
+    @DisplayName("stream without header, throws exception")
+    void withoutHeader_ThrowsException() {
+        final InputStream stream = new ByteArrayInputStream(new byte[]{1, 2, 3, 4});
+        assertThatThrownBy(() -> PreflopEquityTable.read(stream))
+                .isInstanceOf(PreflopEquityTable.InvalidTableException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.HoleCards;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.community.cards.CommunityCards;
+import hwr.oop.poker.community.cards.Flop;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Equity of a hand range against another hand range")
+class RangeEquityCalculatorTest {
+
+    private Converter converter;
+    private RangeEquityCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+        calculator = RangeEquityCalculator.create();
+    }
+
+    private CardSet board(String cards) {
+        return CardSet.of(converter.convert(cards));
+    }
+
+    private double equityOfCombos(String first, String second, String flop) {
+        final Player firstPlayer = new Player("1");
+        final Player secondPlayer = new Player("2");
+        final HoleCards holeCards = HoleCards.assign(Map.of(
+                firstPlayer, converter.convert(first),
+                secondPlayer, converter.convert(second)
+        ));
+        final EquityResult result = EquityCalculator.create().enumerate(holeCards, List.of(firstPlayer, secondPlayer),
+                CommunityCards.flop(Flop.of(converter.convert(flop))).noTurnNoRiver());
+        return result.of(firstPlayer).equity();
+    }
+
+    @Test
+    @DisplayName("single combos on the flop, same equity as enumerating the hole cards")
+    void singleCombos_SameAsHoleCards() {
+        final RangeEquity equity = calculator.enumerate(HandRange.parse("AsKs"), HandRange.parse("QdQc"),
+                board("2S,7S,JD"));
+        assertThat(equity.boards()).isEqualTo(1176);
+        assertThat(equity.equity()).isCloseTo(equityOfCombos("AS,KS", "QD,QC", "2S,7S,JD"), within(1e-9));
+        assertThat(equity.win() + equity.tie() + equity.lose()).isCloseTo(1, within(1e-9));
+        assertThat(equity.opponentEquity()).isCloseTo(1 - equity.equity(), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("symmetric combos, fewer boards, still the same equity")
+    void symmetricCombos_FewerBoards_SameEquity() {
+        // swapping spades and hearts leaves the board and both combos as they are
+        final RangeEquity equity = calculator.enumerate(HandRange.parse("AsAh"), HandRange.parse("KsKh"),
+                board("2D,7D,9D"));
+        assertThat(equity.boards()).isLessThan(1176);
+        assertThat(equity.equity()).isCloseTo(equityOfCombos("AS,AH", "KS,KH", "2D,7D,9D"), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("weighted range, equity is the weighted average of its parts")
+    void weightedRange_WeightedAverage() {
+        final CardSet flop = board("2C,7D,9H");
+        final HandRange queens = HandRange.parse("QQ");
+        final double aces = calculator.enumerate(HandRange.parse("AA"), queens, flop).equity();
+        final double kings = calculator.enumerate(HandRange.parse("KK"), queens, flop).equity();
+        final RangeEquity mixed = calculator.enumerate(HandRange.parse("AA:0.5, KK"), queens, flop);
+        assertThat(mixed.equity()).isCloseTo((0.5 * aces + kings) / 1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("blockers, combos sharing a card never meet")
+    void blockers_CombosSharingCardNeverMeet() {
+        // AsKs only meets AhAd, AhAc and AdAc of the aces, the other three hold the ace of spades
+        final CardSet flop = board("2C,7D,9H");
+        final RangeEquity range = calculator.enumerate(HandRange.parse("AsKs"), HandRange.parse("AA"), flop);
+        final RangeEquity combos = calculator.enumerate(HandRange.parse("AsKs"), HandRange.parse("AhAd, AhAc, AdAc"),
+                flop);
+        assertThat(range.equity()).isCloseTo(combos.equity(), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("aces against kings pre-flop, about 82%")
+    void acesVersusKings_About82Percent() {
+        final RangeEquity equity = calculator.enumerate(HandRange.parse("AA"), HandRange.parse("KK"),
+                CardSet.empty());
+        assertThat(equity.equity()).isCloseTo(0.82, within(0.005));
+        assertThat(equity.boards()).isLessThan(2_598_960 / 10);
+    }
+
+    @Test
+    @DisplayName("ranges on the flop, enumerated close to sampled")
+    void ranges_EnumeratedCloseToSampled() {
+        final HandRange range = HandRange.parse("TT+, AQs+, AK");
+        final HandRange opponentRange = HandRange.parse("22+, A2s+, KTs+, QJs, AT+");
+        final CardSet flop = board("QS,8H,3D");
+        final RangeEquity exact = calculator.enumerate(range, opponentRange, flop);
+        final RangeEquity sampled = calculator.sample(range, opponentRange, flop, 20_000, 5);
+        assertThat(exact.boards()).isEqualTo(1176);
+        assertThat(sampled.boards()).isEqualTo(20_000);
+        assertThat(exact.equity()).isCloseTo(sampled.equity(), within(0.01));
+    }
+
+    @Test
+    @DisplayName("same seed, same result, independent of the number of threads")
+    void sameSeed_SameResult() {
+        final HandRange range = HandRange.parse("JJ+");
+        final HandRange opponentRange = HandRange.parse("AK, AQ");
+        final RangeEquity first = calculator.sample(range, opponentRange, CardSet.empty(), 5_000, 1337);
+        final RangeEquity second = RangeEquityCalculator.create(new ForkJoinPool(3))
+                .sample(range, opponentRange, CardSet.empty(), 5_000, 1337);
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("complete board, every matchup is certain")
+    void completeBoard_Certain() {
+        final RangeEquity equity = calculator.enumerate(HandRange.parse("AA"), HandRange.parse("KK"),
+                board("2C,7D,9H,JC,3S"));
+        assertThat(equity.boards()).isEqualTo(1);
+        assertThat(equity.win()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("ranges that can not meet, throws exception")
+    void noMatchups_ThrowsException() {
+        final HandRange aceOfSpades = HandRange.parse("AsKs");
+        final HandRange opponentRange = HandRange.parse("AsQs");
+        final CardSet flop = board("2C,7D,9H");
+        assertThatThrownBy(() -> calculator.enumerate(aceOfSpades, opponentRange, flop))
+                .isInstanceOf(HandRange.InvalidRangeException.class);
+        assertThatThrownBy(() -> calculator.enumerate(HandRange.empty(), opponentRange, flop))
+                .isInstanceOf(HandRange.InvalidRangeException.class);
+    }
+
+    @Test
+    @DisplayName("too many board cards or no boards to sample, throws exception")
+    void invalidSituation_ThrowsException() {
+        final HandRange range = HandRange.parse("AA");
+        final CardSet board = board("2C,7D,9H,JC,3S,4S");
+        assertThatThrownBy(() -> calculator.enumerate(range, range, board))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class);
+        final CardSet empty = CardSet.empty();
+        assertThatThrownBy(() -> calculator.sample(range, range, empty, 0, 1))
+                .isInstanceOf(EquityCalculator.InvalidSituationException.class);
+    }
+}
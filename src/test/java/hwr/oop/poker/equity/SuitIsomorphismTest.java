@@ -0,0 +1,131 @@
+package hwr.oop.poker.equity;
+
+import hwr.oop.poker.Card;
+import hwr.oop.poker.CardSet;
+import hwr.oop.poker.Symbol;
+import hwr.oop.poker.testing.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Suit isomorphism, preflop classes and canonical card sets")
+class SuitIsomorphismTest {
+
+    private Converter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = Converter.create();
+    }
+
+    private long bits(String cards) {
+        return CardSet.of(converter.convert(cards)).bits();
+    }
+
+    @Test
+    @DisplayName("all 1326 two card sets, fall into 169 classes with 6, 4 or 12 combos each")
+    void allHoleCards_169Classes() {
+        final int[] counts = new int[SuitIsomorphism.PREFLOP_CLASSES];
+        for (int first = 0; first < Card.NUMBER_OF_CARDS; first++) {
+            for (int second = first + 1; second < Card.NUMBER_OF_CARDS; second++) {
+                counts[SuitIsomorphism.preflopClass(Card.fromIndex(first), Card.fromIndex(second))]++;
+            }
+        }
+        for (int handClass = 0; handClass < SuitIsomorphism.PREFLOP_CLASSES; handClass++) {
+            assertThat(counts[handClass]).isEqualTo(SuitIsomorphism.combos(handClass));
+            final long[] combos = SuitIsomorphism.preflopCombos(handClass);
+            assertThat(combos).hasSize(counts[handClass]).doesNotHaveDuplicates();
+            for (long combo : combos) {
+                assertThat(SuitIsomorphism.preflopClass(combo)).isEqualTo(handClass);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'AS,AH', AA", "'KS,AS', AKs", "'AD,KC', AKo", "'2C,7H', 72o", "'TD,9D', T9s", "'2S,2D', 22"})
+    @DisplayName("hole cards, named like the class")
+    void holeCards_NamedLikeClass(String cards, String name) {
+        final List<Card> holeCards = converter.convert(cards);
+        final int handClass = SuitIsomorphism.preflopClass(holeCards.get(0), holeCards.get(1));
+        assertThat(SuitIsomorphism.preflopName(handClass)).isEqualTo(name);
+        assertThat(SuitIsomorphism.preflopClassOf(name)).isEqualTo(handClass);
+    }
+
+    @Test
+    @DisplayName("every class, name parsed back to the same class")
+    void everyClass_NameParsedBack() {
+        final Set<String> names = new HashSet<>();
+        for (int handClass = 0; handClass < SuitIsomorphism.PREFLOP_CLASSES; handClass++) {
+            final String name = SuitIsomorphism.preflopName(handClass);
+            names.add(name);
+            assertThat(SuitIsomorphism.preflopClassOf(name)).isEqualTo(handClass);
+        }
+        assertThat(names).hasSize(SuitIsomorphism.PREFLOP_CLASSES);
+    }
+
+    @Test
+    @DisplayName("symbols, reversed order parsed to the same class")
+    void reversedSymbols_SameClass() {
+        assertThat(SuitIsomorphism.preflopClassOf("KAs")).isEqualTo(SuitIsomorphism.preflopClassOf("AKs"));
+        assertThat(SuitIsomorphism.highSymbol(SuitIsomorphism.preflopClassOf("KAo"))).isEqualTo(Symbol.ACE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "A", "AKx", "AAs", "AK s", "1Ko", "AKso"})
+    @DisplayName("invalid class name, throws exception")
+    void invalidName_ThrowsException(String name) {
+        assertThatThrownBy(() -> SuitIsomorphism.preflopClassOf(name))
+                .isInstanceOf(SuitIsomorphism.InvalidHandClassException.class);
+    }
+
+    @Test
+    @DisplayName("flops that only differ by colors, same canonical form")
+    void isomorphicFlops_SameCanonical() {
+        assertThat(SuitIsomorphism.canonical(bits("AS,7S,2H")))
+                .isEqualTo(SuitIsomorphism.canonical(bits("AD,7D,2C")))
+                .isNotEqualTo(SuitIsomorphism.canonical(bits("AS,7H,2H")));
+    }
+
+    @Test
+    @DisplayName("all 22100 flops, collapse to 1755 canonical flops")
+    void allFlops_1755Canonical() {
+        final Set<Long> canonical = new HashSet<>();
+        for (int first = 0; first < Card.NUMBER_OF_CARDS; first++) {
+            for (int second = first + 1; second < Card.NUMBER_OF_CARDS; second++) {
+                for (int third = second + 1; third < Card.NUMBER_OF_CARDS; third++) {
+                    canonical.add(SuitIsomorphism.canonical(1L << first | 1L << second | 1L << third));
+                }
+            }
+        }
+        assertThat(canonical).hasSize(1755);
+    }
+
+    @Test
+    @DisplayName("hole cards and board, permuted together")
+    void holeCardsAndBoard_PermutedTogether() {
+        final long[] first = SuitIsomorphism.canonical(bits("AS,KS"), bits("QS,7H,2D"));
+        final long[] second = SuitIsomorphism.canonical(bits("AH,KH"), bits("QH,7C,2S"));
+        final long[] other = SuitIsomorphism.canonical(bits("AH,KH"), bits("QS,7C,2D"));
+        assertThat(first).isEqualTo(second).isNotEqualTo(other);
+        assertThat(Long.bitCount(first[0])).isEqualTo(2);
+        assertThat(Long.bitCount(first[1])).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("same card twice, throws exception")
+    void sameCardTwice_ThrowsException() {
+        final Card card = Card.fromIndex(0);
+        assertThatThrownBy(() -> SuitIsomorphism.preflopClass(card, card))
+                .isInstanceOf(SuitIsomorphism.InvalidHandClassException.class);
+    }
+}
@@ -0,0 +1,210 @@
+package hwr.oop.poker.history;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.ArrayDeck;
+import hwr.oop.poker.decks.RecordingDeck;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Hand history store, memory mapped segments with offset index and posting lists")
+class HandHistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Player alice;
+    private Player bob;
+    private Player carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = new Player("alice");
+        bob = new Player("bob");
+        carol = new Player("carol");
+    }
+
+    // hand i is played by two of the three players, in turns
+    private HandHistory history(int i) {
+        final List<List<Player>> pairings = List.of(List.of(alice, bob), List.of(bob, carol), List.of(carol, alice));
+        final List<Player> players = pairings.get(i % pairings.size());
+        final RecordingDeck deck = RecordingDeck.of(ArrayDeck.shuffled(i));
+        final Stacks stacks = Stacks.newBuilder()
+                .of(players.get(0)).is(1000 + i)
+                .of(players.get(1)).is(1000)
+                .build();
+        final Hand hand = Hand.newBuilder()
+                .deck(deck)
+                .players(players)
+                .smallBlind(SmallBlind.of(10))
+                .stacks(stacks)
+                .build()
+                .onCurrentRound(r -> r.with(players.get(0)).bet(20).with(players.get(1)).raiseTo(60).with(players.get(0)).call())
+                .onCurrentRound(r -> r.with(players.get(0)).check().with(players.get(1)).check());
+        return HandHistory.of(hand, deck.dealt());
+    }
+
+    private List<HandHistory> appended(HandHistoryStore store, int from, int count) {
+        final List<HandHistory> histories = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            final HandHistory history = history(i);
+            assertThat(store.append(history)).isEqualTo(i);
+            histories.add(history);
+        }
+        return histories;
+    }
+
+    @Test
+    @DisplayName("hands appended, each read back by its id")
+    void appended_ReadById() {
+        try (HandHistoryStore store = HandHistoryStore.open(directory)) {
+            final List<HandHistory> histories = appended(store, 0, 100);
+            assertThat(store.size()).isEqualTo(100);
+            assertThat(store.segmentCount()).isEqualTo(1);
+            for (int i = histories.size() - 1; i >= 0; i--) {
+                assertThat(store.read(i)).contains(histories.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("small segment size, hands spread over mapped segments and read back by id")
+    void smallSegments_ReadById() {
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            final List<HandHistory> histories = appended(store, 0, 500);
+            assertThat(store.segmentCount()).isGreaterThan(5);
+            for (int i : new int[]{0, 31, 32, 33, 250, 498, 499}) {
+                assertThat(store.read(i)).contains(histories.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("hands of a player, read through the posting list in append order")
+    void handsOfPlayer_InAppendOrder() {
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            final List<HandHistory> histories = appended(store, 0, 300);
+            final long[] expectedIds = LongStream.range(0, 300).filter(i -> i % 3 != 1).toArray();
+            assertThat(store.handIdsOf(alice)).containsExactly(expectedIds);
+            assertThat(store.handsOf(alice))
+                    .hasSize(expectedIds.length)
+                    .allSatisfy(history -> assertThat(history.players()).contains(alice))
+                    .containsExactlyElementsOf(LongStream.of(expectedIds).mapToObj(i -> histories.get((int) i)).toList());
+            assertThat(store.handsOf(new Player("dave"))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("store opened again, index rebuilt and hands appended with the next ids")
+    void reopened_IndexRebuiltAndAppended() {
+        final List<HandHistory> histories = new ArrayList<>();
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            histories.addAll(appended(store, 0, 200));
+        }
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            assertThat(store.size()).isEqualTo(200);
+            histories.addAll(appended(store, 200, 50));
+        }
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            assertThat(store.size()).isEqualTo(250);
+            assertThat(store.read(199)).contains(histories.get(199));
+            assertThat(store.read(249)).contains(histories.get(249));
+            assertThat(store.handIdsOf(bob)).hasSize((int) LongStream.range(0, 250).filter(i -> i % 3 != 2).count());
+        }
+    }
+
+    @Test
+    @DisplayName("last record torn by a crash during append, store opened again up to the record before")
+    void tornLastRecord_RecoveredUpToRecordBefore() throws IOException {
+        final List<HandHistory> histories = new ArrayList<>();
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            histories.addAll(appended(store, 0, 100));
+        }
+        final Path active;
+        try (var files = Files.list(directory)) {
+            active = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        final long torn = Files.size(active) - 3;
+        try (var channel = FileChannel.open(active, StandardOpenOption.WRITE)) {
+            channel.truncate(torn);
+        }
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            assertThat(store.size()).isEqualTo(99);
+            assertThat(store.read(98)).contains(histories.get(98));
+            assertThat(Files.size(active)).isLessThan(torn);
+            assertThat(store.append(history(99))).isEqualTo(99);
+        }
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            assertThat(store.size()).isEqualTo(100);
+            assertThat(store.read(99)).contains(histories.get(99));
+        }
+    }
+
+    @Test
+    @DisplayName("finished segment truncated, throws exception")
+    void truncatedFinishedSegment_ThrowsException() throws IOException {
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            appended(store, 0, 100);
+        }
+        final Path finished;
+        try (var files = Files.list(directory)) {
+            finished = files.sorted().findFirst().orElseThrow();
+        }
+        try (var channel = FileChannel.open(finished, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(finished) - 3);
+        }
+        assertThatThrownBy(() -> HandHistoryStore.open(directory, 4096))
+                .isInstanceOf(HandHistoryCodec.InvalidHistoryException.class);
+    }
+
+    @Test
+    @DisplayName("unknown hand id, nothing read")
+    void unknownId_Empty() {
+        try (HandHistoryStore store = HandHistoryStore.open(directory)) {
+            appended(store, 0, 3);
+            assertThat(store.read(-1)).isEmpty();
+            assertThat(store.read(3)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("segments, readable as plain hand history files")
+    void segments_ReadableByReader() throws IOException {
+        final List<HandHistory> histories;
+        try (HandHistoryStore store = HandHistoryStore.open(directory, 4096)) {
+            histories = appended(store, 0, 100);
+        }
+        final List<HandHistory> read = new ArrayList<>();
+        try (var files = Files.list(directory)) {
+            for (Path segment : files.sorted().toList()) {
+                try (HandHistoryReader reader = HandHistoryReader.open(segment)) {
+                    reader.forEach(read::add);
+                }
+            }
+        }
+        assertThat(read).isEqualTo(histories);
+    }
+
+    @Test
+    @DisplayName("segment size too small, throws exception")
+    void segmentSizeTooSmall_ThrowsException() {
+        assertThatThrownBy(() -> HandHistoryStore.open(directory, 1))
+                .isInstanceOf(HandHistoryStore.InvalidStoreException.class);
+    }
+}
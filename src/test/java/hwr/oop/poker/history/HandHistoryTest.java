@@ -0,0 +1,239 @@
+package hwr.oop.poker.history;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.ArrayDeck;
+import hwr.oop.poker.decks.RecordingDeck;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Hand histories, binary codec, writer and reader")
+class HandHistoryTest {
+
+    private Player firstPlayer;
+    private Player secondPlayer;
+
+    @BeforeEach
+    void setUp() {
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+    }
+
+    private RecordingDeck deck(long seed) {
+        return RecordingDeck.of(ArrayDeck.shuffled(seed));
+    }
+
+    private Hand newHand(RecordingDeck deck) {
+        final Stacks stacks = Stacks.newBuilder()
+                .of(firstPlayer).is(1000)
+                .of(secondPlayer).is(1000)
+                .build();
+        return Hand.newBuilder()
+                .deck(deck)
+                .players(List.of(firstPlayer, secondPlayer))
+                .smallBlind(SmallBlind.of(10))
+                .stacks(stacks)
+                .build();
+    }
+
+    private Hand playedToShowDown(RecordingDeck deck) {
+        return newHand(deck)
+                .onCurrentRound(r -> r.with(firstPlayer).bet(20).with(secondPlayer).raiseTo(60).with(firstPlayer).call())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).bet(50).with(secondPlayer).raiseTo(150).with(firstPlayer).call())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check());
+    }
+
+    private HandHistory roundTrip(HandHistory history) {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        HandHistoryCodec.encode(history, buffer);
+        return HandHistoryCodec.decode(buffer.flip());
+    }
+
+    @Nested
+    @DisplayName("codec")
+    class CodecTest {
+
+        @Test
+        @DisplayName("heads-up hand played to show down, encoded in less than 100 bytes")
+        void headsUpShowDown_LessThan100Bytes() {
+            final RecordingDeck deck = deck(1);
+            final HandHistory history = HandHistory.of(playedToShowDown(deck), deck.dealt());
+            final ByteBuffer buffer = ByteBuffer.allocate(1024);
+            HandHistoryCodec.encode(history, buffer);
+            assertThat(buffer.position()).isLessThan(100);
+        }
+
+        @Test
+        @DisplayName("heads-up hand played to show down, decoded equal to the original")
+        void headsUpShowDown_DecodedEqual() {
+            final RecordingDeck deck = deck(2);
+            final HandHistory history = HandHistory.of(playedToShowDown(deck), deck.dealt());
+            final HandHistory decoded = roundTrip(history);
+            assertThat(decoded).isEqualTo(history);
+            assertThat(decoded.isFinished()).isTrue();
+            assertThat(decoded.deckOrder()).hasSize(4 + 1 + 3 + 1 + 1 + 1 + 1);
+        }
+
+        @Test
+        @DisplayName("replay, deals the same cards and ends with the same stacks")
+        void replay_SameCardsAndStacks() {
+            final RecordingDeck deck = deck(3);
+            final Hand hand = playedToShowDown(deck);
+            final Hand replayed = roundTrip(HandHistory.of(hand, deck.dealt())).replay();
+            assertThat(replayed.cardsDealt()).containsExactlyElementsOf(hand.cardsDealt());
+            assertThat(replayed.holeCards(firstPlayer)).isEqualTo(hand.holeCards(firstPlayer));
+            assertThat(replayed.playsByRound()).hasSize(4);
+            assertThat(replayed.settle().ofPlayerAsLong(firstPlayer)).isEqualTo(hand.settle().ofPlayerAsLong(firstPlayer));
+            assertThat(replayed.settle().ofPlayerAsLong(secondPlayer)).isEqualTo(hand.settle().ofPlayerAsLong(secondPlayer));
+        }
+
+        @Test
+        @DisplayName("hand won by a fold, final stacks are recorded")
+        void foldedHand_FinalStacksRecorded() {
+            final RecordingDeck deck = deck(4);
+            final Hand hand = newHand(deck)
+                    .onCurrentRound(r -> r.with(firstPlayer).bet(100).with(secondPlayer).fold());
+            final HandHistory decoded = roundTrip(HandHistory.of(hand, deck.dealt()));
+            assertThat(decoded.finalStacks()).hasValueSatisfying(stacks -> assertThat(stacks).containsExactly(1000, 1000));
+            assertThat(decoded.replay().isFinished()).isTrue();
+        }
+
+        @Test
+        @DisplayName("unfinished hand, no final stacks, replay continues on the same round")
+        void unfinishedHand_NoFinalStacks() {
+            final RecordingDeck deck = deck(5);
+            final Hand hand = newHand(deck)
+                    .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check())
+                    .onCurrentRound(r -> r.with(firstPlayer).bet(30));
+            final HandHistory decoded = roundTrip(HandHistory.of(hand, deck.dealt()));
+            assertThat(decoded.finalStacks()).isEmpty();
+            final Hand replayed = decoded.replay();
+            assertThat(replayed.currentPosition()).isEqualTo(hand.currentPosition());
+            assertThat(replayed.playerOnTurn()).contains(secondPlayer);
+            assertThat(replayed.chipsPutIntoPotBy(firstPlayer)).isEqualTo(30);
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE})
+        @DisplayName("varints, decoded equal to the encoded value")
+        void varint_RoundTrip(long value) {
+            final ByteBuffer buffer = ByteBuffer.allocate(16);
+            HandHistoryCodec.putVarLong(buffer, value);
+            assertThat(HandHistoryCodec.getVarLong(buffer.flip())).isEqualTo(value);
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+
+        @Test
+        @DisplayName("truncated record, throws exception")
+        void truncated_ThrowsException() {
+            final RecordingDeck deck = deck(6);
+            final ByteBuffer buffer = ByteBuffer.allocate(1024);
+            HandHistoryCodec.encode(HandHistory.of(playedToShowDown(deck), deck.dealt()), buffer);
+            final ByteBuffer truncated = buffer.flip().limit(buffer.limit() - 3);
+            assertThatThrownBy(() -> HandHistoryCodec.decode(truncated))
+                    .isInstanceOf(HandHistoryCodec.InvalidHistoryException.class);
+        }
+
+        @Test
+        @DisplayName("invalid card code, throws exception")
+        void invalidCard_ThrowsException() {
+            final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 1, 'x', 10, 100, 1, 60});
+            assertThatThrownBy(() -> HandHistoryCodec.decode(buffer))
+                    .isInstanceOf(HandHistoryCodec.InvalidHistoryException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("writer and reader")
+    class StreamingTest {
+
+        @TempDir
+        Path directory;
+
+        private List<HandHistory> histories(int count, long firstSeed) {
+            final List<HandHistory> histories = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final RecordingDeck deck = deck(firstSeed + i);
+                histories.add(HandHistory.of(playedToShowDown(deck), deck.dealt()));
+            }
+            return histories;
+        }
+
+        @Test
+        @DisplayName("hands written, read back in the same order")
+        void written_ReadInSameOrder() {
+            final Path file = directory.resolve("hands.bin");
+            final List<HandHistory> histories = histories(3_000, 0);
+            try (HandHistoryWriter writer = HandHistoryWriter.open(file)) {
+                histories.forEach(writer::write);
+                assertThat(writer.written()).isEqualTo(3_000);
+            }
+            try (HandHistoryReader reader = HandHistoryReader.open(file)) {
+                assertThat(reader.readAll()).isEqualTo(histories);
+                assertThat(reader.next()).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("file opened again, hands are appended")
+        void reopened_HandsAppended() {
+            final Path file = directory.resolve("hands.bin");
+            final List<HandHistory> first = histories(10, 0);
+            final List<HandHistory> second = histories(10, 100);
+            try (HandHistoryWriter writer = HandHistoryWriter.open(file)) {
+                first.forEach(writer::write);
+            }
+            try (HandHistoryWriter writer = HandHistoryWriter.open(file)) {
+                second.forEach(writer::write);
+            }
+            final List<HandHistory> expected = new ArrayList<>(first);
+            expected.addAll(second);
+            try (HandHistoryReader reader = HandHistoryReader.open(file)) {
+                assertThat(reader.readAll()).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("file without header, throws exception")
+        void withoutHeader_ThrowsException() throws IOException {
+            final Path file = Files.write(directory.resolve("other.bin"), new byte[]{1, 2, 3, 4, 5});
+            assertThatThrownBy(() -> HandHistoryReader.open(file))
+                    .isInstanceOf(HandHistoryCodec.InvalidHistoryException.class);
+        }
+
+        @Test
+        @DisplayName("file cut off in the middle of a hand, throws exception")
+        void truncatedFile_ThrowsException() throws IOException {
+            final Path file = directory.resolve("hands.bin");
+            try (HandHistoryWriter writer = HandHistoryWriter.open(file)) {
+                histories(2, 0).forEach(writer::write);
+            }
+            final byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+            try (HandHistoryReader reader = HandHistoryReader.open(file)) {
+                assertThat(reader.next()).isPresent();
+                assertThatThrownBy(reader::next)
+                        .isInstanceOf(HandHistoryCodec.InvalidHistoryException.class);
+            }
+        }
+    }
+}
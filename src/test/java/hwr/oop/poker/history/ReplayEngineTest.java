@@ -0,0 +1,164 @@
+package hwr.oop.poker.history;
+
+import hwr.oop.poker.ChipValue;
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.betting.BettingRound;
+import hwr.oop.poker.betting.Play;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.ArrayDeck;
+import hwr.oop.poker.decks.RecordingDeck;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Replay engine, rebuilding hand states from logged plays")
+class ReplayEngineTest {
+
+    private Player firstPlayer;
+    private Player secondPlayer;
+
+    @BeforeEach
+    void setUp() {
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+    }
+
+    private Hand newHand(RecordingDeck deck) {
+        final Stacks stacks = Stacks.newBuilder()
+                .of(firstPlayer).is(1000)
+                .of(secondPlayer).is(1000)
+                .build();
+        return Hand.newBuilder()
+                .deck(deck)
+                .players(List.of(firstPlayer, secondPlayer))
+                .smallBlind(SmallBlind.of(10))
+                .stacks(stacks)
+                .build();
+    }
+
+    // hands alternate between show downs (9 plays) and folds before the flop (2 plays)
+    private Hand played(long seed, RecordingDeck deck) {
+        final Hand hand = newHand(deck);
+        if (seed % 2 == 1) {
+            return hand.onCurrentRound(r -> r.with(firstPlayer).bet(40).with(secondPlayer).fold());
+        }
+        return hand
+                .onCurrentRound(r -> r.with(firstPlayer).bet(20).with(secondPlayer).raiseTo(60).with(firstPlayer).call())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check())
+                .onCurrentRound(r -> r.with(firstPlayer).bet(50).with(secondPlayer).call())
+                .onCurrentRound(r -> r.with(firstPlayer).check().with(secondPlayer).check());
+    }
+
+    private List<HandHistory> session(int hands) {
+        final List<HandHistory> session = new ArrayList<>(hands);
+        for (long seed = 0; seed < hands; seed++) {
+            final RecordingDeck deck = RecordingDeck.of(ArrayDeck.shuffled(seed));
+            session.add(HandHistory.of(played(seed, deck), deck.dealt()));
+        }
+        return session;
+    }
+
+    private static void assertSameState(Hand actual, Hand expected) {
+        assertThat(actual.currentPosition()).isEqualTo(expected.currentPosition());
+        assertThat(actual.potSize()).isEqualTo(expected.potSize());
+        assertThat(actual.playerOnTurn()).isEqualTo(expected.playerOnTurn());
+        assertThat(actual.cardsDealt()).containsExactlyElementsOf(expected.cardsDealt());
+        assertThat(actual.playsByRound()).hasSameSizeAs(expected.playsByRound());
+        assertThat(actual.isFinished()).isEqualTo(expected.isFinished());
+    }
+
+    @Test
+    @DisplayName("session, actions counted over all hands")
+    void session_ActionsCounted() {
+        final ReplayEngine engine = ReplayEngine.trusted(session(10));
+        assertThat(engine.handCount()).isEqualTo(10);
+        assertThat(engine.actionCount()).isEqualTo(5 * 9 + 5 * 2);
+        assertThat(engine.handOf(0)).isZero();
+        assertThat(engine.handOf(8)).isZero();
+        assertThat(engine.handOf(9)).isEqualTo(1);
+        assertThat(engine.handOf(11)).isEqualTo(2);
+        assertThat(engine.handOf(54)).isEqualTo(9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 4, 8, 9, 10, 11, 20, 32_994, 32_999})
+    @DisplayName("seek to an action, same state as playing the hand up to it")
+    void seek_SameStateAsPlayed(long action) {
+        final List<HandHistory> session = session(6_000);
+        final ReplayEngine engine = ReplayEngine.trusted(session);
+        final int hand = engine.handOf(action);
+        final Hand expected = engine.states(hand).get((int) (action - hand / 2 * 11 - hand % 2 * 9) + 1);
+        assertSameState(engine.seek(action), expected);
+    }
+
+    @Test
+    @DisplayName("states of a hand, one per play after the dealt hand, last one as recorded")
+    void states_OnePerPlay() {
+        final RecordingDeck deck = RecordingDeck.of(ArrayDeck.shuffled(42));
+        final Hand hand = played(42, deck);
+        final List<Hand> states = ReplayEngine.verified(List.of(HandHistory.of(hand, deck.dealt()))).states(0);
+        assertThat(states).hasSize(10);
+        assertThat(states.get(0).potSize()).isEqualTo(ChipValue.zero());
+        assertThat(states.get(3).flop()).isPresent();
+        assertThat(states.get(4).flop()).isPresent();
+        assertSameState(states.get(9), hand);
+        assertThat(states.get(9).settle().ofPlayerAsLong(firstPlayer)).isEqualTo(hand.settle().ofPlayerAsLong(firstPlayer));
+    }
+
+    @Test
+    @DisplayName("hand dealt from a seeded deck, replayed to the same state")
+    void seededDeck_SameState() {
+        final Hand hand = played(8, RecordingDeck.of(ArrayDeck.shuffled(8)));
+        final List<Play> plays = new ArrayList<>();
+        hand.playsByRound().forEach(round -> round.forEach(plays::add));
+        final Hand dealt = newHand(RecordingDeck.of(ArrayDeck.shuffled(8)));
+        final Hand replayed = ReplayEngine.verified(List.of()).replay(dealt, plays);
+        assertSameState(replayed, hand);
+        assertThat(replayed.holeCards(secondPlayer)).isEqualTo(hand.holeCards(secondPlayer));
+    }
+
+    @Test
+    @DisplayName("check on an open bet, replayed when trusted, rejected when verified")
+    void checkOnOpenBet_RejectedWhenVerified() {
+        final RecordingDeck deck = RecordingDeck.of(ArrayDeck.shuffled(1));
+        final HandHistory recorded = HandHistory.of(newHand(deck), deck.dealt());
+        final List<Play> plays = List.of(Play.bet(firstPlayer, ChipValue.of(20)), Play.check(secondPlayer));
+        final HandHistory invalid = HandHistory.create(recorded.players(), recorded.smallBlind(),
+                new long[]{1000, 1000}, recorded.deckOrder(), List.of(plays), null);
+        assertThat(ReplayEngine.trusted(List.of(invalid)).seek(1).potSize()).isEqualTo(ChipValue.of(20));
+        assertThatThrownBy(() -> ReplayEngine.verified(List.of(invalid)).seek(1))
+                .isInstanceOf(BettingRound.InvalidPlayOnStateException.class);
+    }
+
+    @Test
+    @DisplayName("call logged with the wrong chips, rejected when verified")
+    void wrongCall_RejectedWhenVerified() {
+        final RecordingDeck deck = RecordingDeck.of(ArrayDeck.shuffled(2));
+        final HandHistory recorded = HandHistory.of(newHand(deck), deck.dealt());
+        final List<Play> plays = List.of(Play.bet(firstPlayer, ChipValue.of(20)),
+                Play.call(secondPlayer, ChipValue.of(30), ChipValue.of(30)));
+        final HandHistory invalid = HandHistory.create(recorded.players(), recorded.smallBlind(),
+                new long[]{1000, 1000}, recorded.deckOrder(), List.of(plays), null);
+        assertThatThrownBy(() -> ReplayEngine.verified(List.of(invalid)).seek(1))
+                .isInstanceOf(ReplayEngine.InvalidReplayException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 55})
+    @DisplayName("action outside the session, throws exception")
+    void actionOutside_ThrowsException(long action) {
+        final ReplayEngine engine = ReplayEngine.trusted(session(10));
+        assertThatThrownBy(() -> engine.seek(action))
+                .isInstanceOf(ReplayEngine.InvalidReplayException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package hwr.oop.poker.pots;
+
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Seats;
+import hwr.oop.poker.Stacks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Settle main and side pots")
+class PotSettlementTest {
+
+    private Player first;
+    private Player second;
+    private Player third;
+    private Seats seats;
+
+    @BeforeEach
+    void setUp() {
+        first = new Player("1");
+        second = new Player("2");
+        third = new Player("3");
+        seats = Seats.of(List.of(first, second, third));
+    }
+
+    @Test
+    @DisplayName("everybody committed the same, one pot for everybody, best hand takes it")
+    void sameCommitments_OnePot_BestHandWins() {
+        final var settlement = PotSettlement.of(seats, new long[]{100, 100, 100}, new boolean[3]);
+        assertThat(settlement.pots()).containsExactly(Pot.of(300, List.of(first, second, third)));
+        assertThat(settlement.winnings(strengths(1, 3, 2))).containsExactly(0, 300, 0);
+    }
+
+    @Test
+    @DisplayName("three all ins of different size, main pot and side pots")
+    void differentAllIns_MainAndSidePots() {
+        final var settlement = PotSettlement.of(seats, new long[]{300, 100, 200}, new boolean[3]);
+        assertThat(settlement.pots()).containsExactly(
+                Pot.of(300, List.of(first, second, third)),
+                Pot.of(200, List.of(first, third)),
+                Pot.of(100, List.of(first))
+        );
+    }
+
+    @Test
+    @DisplayName("short stack has best hand, only wins the main pot")
+    void shortStackBest_WinsOnlyMainPot() {
+        final var settlement = PotSettlement.of(seats, new long[]{300, 100, 200}, new boolean[3]);
+        final long[] winnings = settlement.winnings(strengths(1, 3, 2));
+        assertThat(winnings).containsExactly(100, 300, 200);
+    }
+
+    @Test
+    @DisplayName("folded player, pays into the pots but can not win them")
+    void foldedPlayer_PaysButNotEligible() {
+        final var settlement = PotSettlement.of(seats, new long[]{50, 100, 100}, new boolean[]{true, false, false});
+        assertThat(settlement.pots()).containsExactly(Pot.of(250, List.of(second, third)));
+        assertThat(settlement.winnings(strengths(9, 1, 2))).containsExactly(0, 0, 250);
+    }
+
+    @Test
+    @DisplayName("tie with odd chip, odd chip goes to first winner in seat order")
+    void tieWithOddChip_FirstWinnerInSeatOrderGetsIt() {
+        final var settlement = PotSettlement.of(seats, new long[]{5, 5, 5}, new boolean[]{true, false, false});
+        assertThat(settlement.winnings(strengths(0, 7, 7))).containsExactly(0, 8, 7);
+    }
+
+    @Test
+    @DisplayName("everybody else folded, hands are not evaluated")
+    void everybodyElseFolded_NoEvaluation() {
+        final var settlement = PotSettlement.of(seats, new long[]{10, 20, 5}, new boolean[]{true, false, true});
+        final long[] winnings = settlement.winnings(player -> {
+            throw new AssertionError("no show down expected, but evaluated " + player);
+        });
+        assertThat(winnings).containsExactly(0, 35, 0);
+    }
+
+    @Test
+    @DisplayName("folded player committed most, excess goes to the remaining players")
+    void foldedPlayerCommittedMost_ExcessCarriedDown() {
+        final var settlement = PotSettlement.of(seats, new long[]{200, 100, 100}, new boolean[]{true, false, false});
+        assertThat(settlement.winnings(strengths(0, 2, 1))).containsExactly(0, 400, 0);
+    }
+
+    @Test
+    @DisplayName("settle, winnings added to the stacks")
+    void settle_WinningsAddedToStacks() {
+        final Stacks stacks = Stacks.newBuilder()
+                .of(third).is(0)
+                .of(second).is(0)
+                .of(first).is(200)
+                .build();
+        final var settlement = PotSettlement.of(seats, new long[]{300, 100, 200}, new boolean[3]);
+        final Stacks settled = settlement.settle(stacks, strengths(1, 3, 2));
+        assertThat(settled.ofPlayerAsLong(first)).isEqualTo(300);
+        assertThat(settled.ofPlayerAsLong(second)).isEqualTo(300);
+        assertThat(settled.ofPlayerAsLong(third)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("commitments for fewer seats than players, throws exception")
+    void wrongNumberOfCommitments_ThrowsException() {
+        final long[] committed = {10, 10};
+        final boolean[] folded = new boolean[3];
+        assertThatThrownBy(() -> PotSettlement.of(seats, committed, folded))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ToIntFunction<Player> strengths(int forFirst, int forSecond, int forThird) {
+        final Map<Player, Integer> strengths = Map.of(first, forFirst, second, forSecond, third, forThird);
+        return strengths::get;
+    }
+}
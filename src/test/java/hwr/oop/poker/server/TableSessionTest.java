@@ -0,0 +1,201 @@
+package hwr.oop.poker.server;
+
+import hwr.oop.poker.Hand;
+import hwr.oop.poker.Player;
+import hwr.oop.poker.Stacks;
+import hwr.oop.poker.betting.positions.RoundPosition;
+import hwr.oop.poker.blinds.SmallBlind;
+import hwr.oop.poker.decks.ArrayDeck;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(30)
+@DisplayName("Table sessions, players connected through loopback connections")
+class TableSessionTest {
+
+    private Player firstPlayer;
+    private Player secondPlayer;
+    private TableServer server;
+
+    @BeforeEach
+    void setUp() {
+        firstPlayer = new Player("1");
+        secondPlayer = new Player("2");
+        server = TableServer.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private Hand newHand(long seed) {
+        final Stacks stacks = Stacks.newBuilder()
+                .of(firstPlayer).is(1000)
+                .of(secondPlayer).is(1000)
+                .build();
+        return Hand.newBuilder()
+                .deck(ArrayDeck.shuffled(seed))
+                .players(List.of(firstPlayer, secondPlayer))
+                .smallBlind(SmallBlind.of(10))
+                .stacks(stacks)
+                .build();
+    }
+
+    private String receiveUntil(Connection client, String prefix) throws InterruptedException {
+        String line;
+        do {
+            line = client.receive();
+        } while (line != null && !line.startsWith(prefix));
+        return line;
+    }
+
+    @Test
+    @DisplayName("#submit, bet and call, flop is dealt")
+    void submit_BetAndCall_FlopDealt() {
+        final TableSession session = server.open(newHand(1));
+        session.submit(firstPlayer, Action.parse("BET 100"));
+        final Hand hand = session.submit(secondPlayer, Action.parse("CALL")).join();
+        assertThat(hand.currentPosition()).isEqualTo(RoundPosition.FLOP);
+        assertThat(hand.flop()).isPresent();
+        assertThat(session.hand()).isSameAs(hand);
+    }
+
+    @Test
+    @DisplayName("#submit, player not on turn, fails and hand is unchanged")
+    void submit_WrongPlayer_Fails() {
+        final TableSession session = server.open(newHand(1));
+        final Hand before = session.hand();
+        assertThatThrownBy(() -> session.submit(secondPlayer, Action.parse("CHECK")).join())
+                .isInstanceOf(CompletionException.class);
+        assertThat(session.hand()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("#submit, after close, fails with closed session")
+    void submit_AfterClose_Fails() {
+        final TableSession session = server.open(newHand(1));
+        session.close();
+        assertThatThrownBy(() -> session.submit(firstPlayer, Action.parse("CHECK")).join())
+                .hasCauseInstanceOf(TableSession.SessionClosedException.class);
+    }
+
+    @Test
+    @DisplayName("#submit, error in a transition, fails that and all later commands, session is closed")
+    void submit_ErrorInTransition_FailsAndCloses() throws InterruptedException {
+        final TableSession session = server.open(newHand(1));
+        final var first = LoopbackConnection.open();
+        session.seat(firstPlayer, first.server());
+        assertThat(first.client().receive()).startsWith("STATE");
+        final CompletableFuture<Hand> failed = session.submit(firstPlayer, context -> {
+            throw new AssertionError("broken transition");
+        });
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> session.submit(firstPlayer, Action.parse("CHECK")).join())
+                .hasCauseInstanceOf(TableSession.SessionClosedException.class);
+        assertThat(session.isClosed()).isTrue();
+        assertThat(receiveUntil(first.client(), "STATE")).isNull();
+    }
+
+    @Test
+    @DisplayName("#deal, replaces the hand after all submitted actions")
+    void deal_ReplacesHand() {
+        final TableSession session = server.open(newHand(1));
+        final Hand nextHand = newHand(2);
+        session.submit(firstPlayer, Action.parse("BET 100"));
+        session.submit(secondPlayer, Action.parse("FOLD"));
+        final Hand dealt = session.deal(nextHand).join();
+        assertThat(dealt).isSameAs(nextHand);
+        assertThat(session.hand()).isSameAs(nextHand);
+    }
+
+    @Test
+    @DisplayName("connections, actions are broadcast as state to all seats")
+    void connections_ActionsBroadcastAsState() throws InterruptedException {
+        final TableSession session = server.open(newHand(1));
+        final var first = LoopbackConnection.open();
+        final var second = LoopbackConnection.open();
+        session.seat(firstPlayer, first.server());
+        session.seat(secondPlayer, second.server());
+        assertThat(first.client().receive()).isEqualTo("STATE round=0 pot=0 finished=false turn=Player 1");
+        assertThat(second.client().receive()).isEqualTo("STATE round=0 pot=0 finished=false turn=Player 1");
+
+        first.client().send("BET 100");
+        assertThat(second.client().receive()).isEqualTo("STATE round=0 pot=100 finished=false turn=Player 2");
+        second.client().send("call");
+        assertThat(first.client().receive()).isEqualTo("STATE round=0 pot=100 finished=false turn=Player 2");
+        assertThat(first.client().receive()).isEqualTo("STATE round=1 pot=200 finished=false turn=Player 1");
+        assertThat(session.hand().flop()).isPresent();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SHOVE", "BET", "BET ten", "BET -5", "CHECK 5"})
+    @DisplayName("connections, invalid action, error is sent to that seat only")
+    void connections_InvalidAction_Error(String line) throws InterruptedException {
+        final TableSession session = server.open(newHand(1));
+        final var first = LoopbackConnection.open();
+        session.seat(firstPlayer, first.server());
+        first.client().send(line);
+        assertThat(receiveUntil(first.client(), "ERROR")).startsWith("ERROR");
+        assertThat(session.hand().currentPosition()).isEqualTo(RoundPosition.PRE_FLOP);
+    }
+
+    @Test
+    @DisplayName("connections, play out of turn, error names the player on turn")
+    void connections_OutOfTurn_Error() throws InterruptedException {
+        final TableSession session = server.open(newHand(1));
+        final var second = LoopbackConnection.open();
+        session.seat(secondPlayer, second.server());
+        second.client().send("CHECK");
+        assertThat(receiveUntil(second.client(), "ERROR")).contains("next player is: Player 1");
+    }
+
+    @Test
+    @DisplayName("close, ends the conversations of all seats")
+    void close_EndsConversations() throws InterruptedException {
+        final TableSession session = server.open(newHand(1));
+        final var first = LoopbackConnection.open();
+        session.seat(firstPlayer, first.server());
+        assertThat(first.client().receive()).startsWith("STATE");
+        session.close();
+        assertThat(first.client().receive()).isNull();
+        assertThat(first.client().isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("many idle seats, one virtual thread each")
+    void manyIdleSeats() throws InterruptedException {
+        final int tables = 5_000;
+        final List<LoopbackConnection> clients = new ArrayList<>();
+        for (int table = 0; table < tables; table++) {
+            final TableSession session = server.open(newHand(table));
+            final var first = LoopbackConnection.open();
+            final var second = LoopbackConnection.open();
+            session.seat(firstPlayer, first.server());
+            session.seat(secondPlayer, second.server());
+            clients.add(first.client());
+            clients.add(second.client());
+        }
+        for (LoopbackConnection client : clients) {
+            assertThat(client.receive()).startsWith("STATE");  // every conversation is running
+        }
+        assertThat(server.tables()).isEqualTo(tables);
+        assertThat(server.seated()).isEqualTo(2 * tables);
+        server.close();
+        assertThat(server.tables()).isZero();
+        assertThat(clients).allMatch(LoopbackConnection::isClosed);
+    }
+}
@@ -0,0 +1,132 @@
+package hwr.oop.poker.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Simulator, bots playing hands on many tables")
+class SimulatorTest {
+
+    private static final List<Strategy> MIXED_STRATEGIES = List.of(
+            Strategy.madeHandAggression(),
+            Strategy.randomAggression(0.3),
+            Strategy.callingStation(),
+            Strategy.checkOrFold()
+    );
+
+    private Simulator.Builder tournament() {
+        return Simulator.newBuilder()
+                .strategies(MIXED_STRATEGIES)
+                .tables(8)
+                .seats(6)
+                .startingStack(1000)
+                .smallBlind(10)
+                .handsPerLevel(20)
+                .maxHandsPerTable(2000)
+                .seed(42);
+    }
+
+    @Test
+    @DisplayName("same seed, same results, independent of the number of threads")
+    void sameSeed_SameResults() {
+        final SimulationReport first = tournament().build().run();
+        final SimulationReport second = tournament().pool(new ForkJoinPool(3)).build().run();
+        assertThat(first.hands()).isEqualTo(second.hands());
+        for (int table = 0; table < first.tables().size(); table++) {
+            assertThat(first.tables().get(table).stacks()).isEqualTo(second.tables().get(table).stacks());
+        }
+    }
+
+    @Test
+    @DisplayName("tournament, chips are neither created nor lost")
+    void tournament_ChipsAreConserved() {
+        final SimulationReport report = tournament().build().run();
+        assertThat(report.tables()).hasSize(8).allSatisfy(table ->
+                assertThat(table.chipsInPlay()).isEqualTo(6 * 1000));
+    }
+
+    @Test
+    @DisplayName("tournament, blinds increase until one player is left on every table")
+    void tournament_PlayedUntilOnePlayerIsLeft() {
+        final SimulationReport report = tournament().build().run();
+        assertThat(report.busted()).isEqualTo(8 * 5);
+        assertThat(report.tables()).allSatisfy(table -> assertThat(table.busted()).isEqualTo(5));
+        assertThat(report.hands()).isPositive();
+        assertThat(report.handsPerSecond()).isPositive();
+    }
+
+    @Test
+    @DisplayName("short stacks post what they have and play on all in, the last player holds all chips")
+    void shortStacks_AllInForLess_WinnerHoldsAllChips() {
+        final SimulationReport report = Simulator.newBuilder()
+                .strategies(List.of(Strategy.callingStation()))
+                .tables(4)
+                .seats(3)
+                .startingStack(100)
+                .smallBlind(10)
+                .handsPerLevel(3)
+                .maxHandsPerTable(1000)
+                .build().run();
+        assertThat(report.tables()).allSatisfy(table -> {
+            assertThat(table.busted()).isEqualTo(2);
+            assertThat(table.stacks()).containsExactlyInAnyOrder(0L, 0L, 300L);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 9, 10})
+    @DisplayName("cash game, hands are played up to the limit as long as nobody busts")
+    void cashGame_PlaysUpToHandLimit(int seats) {
+        final SimulationReport report = Simulator.newBuilder()
+                .strategies(List.of(Strategy.checkOrFold()))
+                .tables(2)
+                .seats(seats)
+                .startingStack(1_000_000)
+                .smallBlind(1)
+                .maxHandsPerTable(50)
+                .build().run();
+        assertThat(report.hands()).isEqualTo(100);
+        assertThat(report.busted()).isZero();
+        assertThat(report.tables()).allSatisfy(table ->
+                assertThat(table.chipsInPlay()).isEqualTo(seats * 1_000_000L));
+    }
+
+    @Test
+    @DisplayName("strategy that plays for the next player as well, throws exception")
+    void strategyWithTwoPlays_ThrowsException() {
+        final Strategy playsTwice = spot -> {
+            final var called = spot.checkOrCall();
+            return called.with(called.turn().orElseThrow()).fold();
+        };
+        final Simulator simulator = Simulator.newBuilder()
+                .strategies(List.of(playsTwice))
+                .seats(4)
+                .build();
+        assertThatThrownBy(simulator::run)
+                .isInstanceOf(Simulator.InvalidStrategyException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 11})
+    @DisplayName("invalid number of seats, throws exception")
+    void invalidSeats_ThrowsException(int seats) {
+        final Simulator.Builder builder = Simulator.newBuilder().seats(seats);
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(Simulator.InvalidSimulationException.class);
+    }
+
+    @Test
+    @DisplayName("starting stack below the big blind, throws exception")
+    void startingStackBelowBigBlind_ThrowsException() {
+        final Simulator.Builder builder = Simulator.newBuilder().smallBlind(50).startingStack(99);
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(Simulator.InvalidSimulationException.class);
+    }
+}
@@ -22,7 +22,7 @@ public class Converter {
         assertValidLength(singleCardString);
         final String symbolString = singleCardString.substring(0, 1);
         final String colorString = singleCardString.substring(1, 2);
-        return new Card(
+        return Card.of(
                 parseColor(colorString),
                 parseSymbol(symbolString)
         );
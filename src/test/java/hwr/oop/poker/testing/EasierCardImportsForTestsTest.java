@@ -63,8 +63,8 @@ class EasierCardImportsForTestsTest {
         final String twoJacks = "JD,JS";
         final List<Card> card = converter.convert(twoJacks);
         assertThat(card).containsExactlyInAnyOrder(
-                new Card(Color.DIAMONDS, Symbol.JACK),
-                new Card(Color.SPADES, Symbol.JACK)
+                Card.of(Color.DIAMONDS, Symbol.JACK),
+                Card.of(Color.SPADES, Symbol.JACK)
         );
     }
 
@@ -74,11 +74,11 @@ class EasierCardImportsForTestsTest {
         final String twoJacks = "TS,2S,4S,6S,8S";
         final List<Card> card = converter.convert(twoJacks);
         assertThat(card).containsExactlyInAnyOrder(
-                new Card(Color.SPADES, Symbol.TWO),
-                new Card(Color.SPADES, Symbol.FOUR),
-                new Card(Color.SPADES, Symbol.SIX),
-                new Card(Color.SPADES, Symbol.EIGHT),
-                new Card(Color.SPADES, Symbol.TEN)
+                Card.of(Color.SPADES, Symbol.TWO),
+                Card.of(Color.SPADES, Symbol.FOUR),
+                Card.of(Color.SPADES, Symbol.SIX),
+                Card.of(Color.SPADES, Symbol.EIGHT),
+                Card.of(Color.SPADES, Symbol.TEN)
         );
     }
 }